@@ -0,0 +1,147 @@
+package сom.example.algorithms;
+
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.dataset.Dataset;
+import сom.example.algorithms.dataset.DatasetType;
+import сom.example.algorithms.jfr.JfrTracker;
+import сom.example.algorithms.metrics.AsyncMetricsSink;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.metrics.RecordFormat;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.Tracker;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.PointDistribution;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Captures generated workloads as binary {@link Dataset} files and replays datasets through the algorithms,
+ * so the same input (generated or exported from elsewhere) can be measured again without regenerating it.
+ * Args:
+ * <ul>
+ *   <li>capture keys|points &lt;distribution&gt; &lt;size&gt; &lt;seed&gt; &lt;file&gt;: writes a
+ *       {@link KeyDistribution} (int keys) or {@link PointDistribution} workload;</li>
+ *   <li>replay &lt;file&gt; &lt;output.csv&gt;: runs every algorithm that accepts the dataset's type and writes
+ *       one record each, named e.g. "QuickSort/orders" for orders.bin.</li>
+ * </ul>
+ */
+public class DatasetTool {
+
+    public static void main(String[] args) throws IOException {
+        try {
+            if (args.length == 6 && args[0].equals("capture")) {
+                int size = Integer.parseInt(args[3]);
+                long seed = Long.parseLong(args[4]);
+                if (size <= 0) {
+                    throw new IllegalArgumentException();
+                }
+                capture(args[1], args[2].toUpperCase(), size, seed, Path.of(args[5]));
+                return;
+            }
+            if (args.length == 3 && args[0].equals("replay")) {
+                Path path = Path.of(args[2]);
+                try (MetricsSink sink = new AsyncMetricsSink(path, RecordFormat.forPath(path, false),
+                        AsyncMetricsSink.DEFAULT_QUEUE_CAPACITY)) {
+                    replay(Path.of(args[1]), sink);
+                }
+                return;
+            }
+            throw new IllegalArgumentException();
+        } catch (IllegalArgumentException e) {
+            if (e.getMessage() != null) {
+                System.err.println(e.getMessage());
+            }
+            System.err.println("Usage: java DatasetTool capture keys|points <distribution> <size> <seed> <file>");
+            System.err.println("       java DatasetTool replay <file> <output.csv>");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates a workload and writes it as a dataset.
+     * @param kind "keys" for a {@link KeyDistribution}, "points" for a {@link PointDistribution}.
+     */
+    public static void capture(String kind, String distribution, int size, long seed, Path file) throws IOException {
+        if (kind.equals("keys")) {
+            Dataset.write(file, KeyDistribution.valueOf(distribution).generate(size, seed), seed);
+        } else if (kind.equals("points")) {
+            Dataset.write(file, PointSet.of(PointDistribution.valueOf(distribution).generate(size, seed)), seed);
+        } else {
+            throw new IllegalArgumentException("Unknown workload kind: " + kind);
+        }
+        System.out.println("Captured " + size + " " + kind + " (" + distribution + ", seed " + seed + ") to " + file);
+    }
+
+    /**
+     * Runs the algorithms that accept the dataset's type on it, each on its own copy, and hands one
+     * record per algorithm to the sink. INT keys and points use the primitive algorithms; LONG and
+     * DOUBLE keys are boxed for the generic ones.
+     * @param sink Destination for the metrics; left open for further runs.
+     */
+    public static void replay(Path file, MetricsSink sink) throws IOException {
+        long start = System.nanoTime();
+        Dataset dataset = Dataset.open(file);
+        int n = dataset.getCount();
+        String name = file.getFileName().toString();
+        String suffix = "/" + (name.lastIndexOf('.') > 0 ? name.substring(0, name.lastIndexOf('.')) : name);
+        MetricsTracker tracker = new MetricsTracker();
+        switch (dataset.getType()) {
+            case INT: {
+                int[] keys = dataset.toIntArray();
+                loaded(dataset, start);
+                run("MergeSort" + suffix, n, sink, tracker, keys::clone, (a, t) -> new MergeSort().sort(a, t));
+                run("QuickSort" + suffix, n, sink, tracker, keys::clone, (a, t) -> new QuickSort().sort(a, t));
+                run("DeterministicSelect" + suffix, n, sink, tracker, keys::clone,
+                        (a, t) -> new DeterministicSelect().select(a, n / 2, t));
+                break;
+            }
+            case LONG:
+            case DOUBLE: {
+                Comparable<?>[] keys = dataset.getType() == DatasetType.LONG
+                        ? Arrays.stream(dataset.toLongArray()).boxed().toArray(Long[]::new)
+                        : Arrays.stream(dataset.toDoubleArray()).boxed().toArray(Double[]::new);
+                loaded(dataset, start);
+                replayBoxed(keys, suffix, sink, tracker);
+                break;
+            }
+            default: {
+                PointSet points = dataset.toPointSet();
+                loaded(dataset, start);
+                run("ClosestPair" + suffix, n, sink, tracker, () -> points,
+                        (p, t) -> new PrimitiveClosestPair().findClosestPair(p, t));
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void replayBoxed(Comparable[] keys, String suffix, MetricsSink sink, MetricsTracker tracker) {
+        int n = keys.length;
+        run("MergeSort" + suffix, n, sink, tracker, keys::clone, (a, t) -> new MergeSort().sort(a, t));
+        run("QuickSort" + suffix, n, sink, tracker, keys::clone, (a, t) -> new QuickSort().sort(a, t));
+        run("DeterministicSelect" + suffix, n, sink, tracker, keys::clone,
+                (a, t) -> new DeterministicSelect().select(a, n / 2, t));
+    }
+
+    private static void loaded(Dataset dataset, long start) {
+        System.out.printf("Loaded %d %s%s in %.1f ms%n", dataset.getCount(), dataset.getType(),
+                dataset.isSorted() ? " (sorted)" : "", (System.nanoTime() - start) / 1e6);
+    }
+
+    private static <T> void run(String algorithm, int n, MetricsSink sink, MetricsTracker tracker,
+                                Supplier<T> input, BiConsumer<T, Tracker> call) {
+        T copy = input.get(); // Not timed
+        tracker.reset();
+        call.accept(copy, new JfrTracker(tracker, algorithm, n));
+        sink.write(MetricsRecord.of(tracker, n, algorithm));
+        System.out.printf("%s: %.3f ms%n", algorithm, tracker.getExecutionTimeNs() / 1e6);
+    }
+}
@@ -0,0 +1,216 @@
+package сom.example.algorithms;
+
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.metrics.LatencyHistogram;
+import сom.example.algorithms.server.JobClient;
+import сom.example.algorithms.server.JobRequest;
+import сom.example.algorithms.server.JobResponse;
+import сom.example.algorithms.server.Operation;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.PointDistribution;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongFunction;
+
+/**
+ * Closed-loop load generator for a {@link Server}: each connection keeps up to {@code depth} requests
+ * in flight and sends the next one as an answer arrives. Reports throughput and round-trip latency
+ * percentiles, plus the server's own queue and service times from the responses.
+ * Args: [--port P] [--op SORT|SELECT|TOP_K|CLOSEST_PAIR] [--size n] [--k K] [--connections C]
+ * [--depth D] [--requests N] [--warmup W] [--distribution name] [--seed S]
+ * <p>
+ * Every request of a run carries the same input, generated once from the seed; the distribution is
+ * a {@link KeyDistribution}, or a {@link PointDistribution} for CLOSEST_PAIR. The W warmup requests
+ * (default N/10) are sent first and not measured.
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        int port = 7070;
+        Operation operation = Operation.SORT;
+        int size = 1000;
+        Integer k = null;
+        int connections = 4;
+        int depth = 1;
+        int requests = 10000;
+        Integer warmup = null;
+        String distribution = "UNIFORM";
+        long seed = 42;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(args[++i]); break;
+                    case "--op": operation = Operation.valueOf(args[++i].toUpperCase()); break;
+                    case "--size": size = Integer.parseInt(args[++i]); break;
+                    case "--k": k = Integer.parseInt(args[++i]); break;
+                    case "--connections": connections = Integer.parseInt(args[++i]); break;
+                    case "--depth": depth = Integer.parseInt(args[++i]); break;
+                    case "--requests": requests = Integer.parseInt(args[++i]); break;
+                    case "--warmup": warmup = Integer.parseInt(args[++i]); break;
+                    case "--distribution": distribution = args[++i].toUpperCase(); break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    default: throw new IllegalArgumentException(args[i]);
+                }
+            }
+            if (size <= 0 || connections <= 0 || depth <= 0 || requests <= 0) {
+                throw new IllegalArgumentException("counts must be positive");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Usage: java LoadGenerator [--port P] [--op SORT|SELECT|TOP_K|CLOSEST_PAIR] [--size n]"
+                    + " [--k K] [--connections C] [--depth D] [--requests N] [--warmup W] [--distribution name] [--seed S]");
+            System.exit(1);
+        }
+        int order = k != null ? k : operation == Operation.TOP_K ? Math.min(10, size) : size / 2;
+        LongFunction<JobRequest> requestFactory = requestFactory(operation, size, order, distribution, seed);
+
+        run(port, connections, depth, warmup != null ? warmup : requests / 10, requestFactory);
+        Report report = run(port, connections, depth, requests, requestFactory);
+        System.out.println(operation + " size=" + size + " connections=" + connections + " depth=" + depth
+                + ": " + report);
+    }
+
+    /**
+     * @return Builds the request with the given id; all requests share one generated input.
+     */
+    public static LongFunction<JobRequest> requestFactory(Operation operation, int size, int k,
+                                                          String distribution, long seed) {
+        if (operation == Operation.CLOSEST_PAIR) {
+            PointSet points = PointSet.of(PointDistribution.valueOf(distribution).generate(size, seed));
+            return id -> JobRequest.closestPair(id, points);
+        }
+        int[] keys = KeyDistribution.valueOf(distribution).generate(size, seed);
+        switch (operation) {
+            case SORT: return id -> JobRequest.sort(id, keys);
+            case SELECT: return id -> JobRequest.select(id, keys, k);
+            default: return id -> JobRequest.topK(id, keys, k);
+        }
+    }
+
+    /**
+     * Sends {@code requests} requests over {@code connections} new connections and waits for all answers.
+     * @param depth Requests in flight per connection.
+     */
+    public static Report run(int port, int connections, int depth, int requests,
+                             LongFunction<JobRequest> requestFactory) throws Exception {
+        List<JobClient> clients = new ArrayList<>();
+        try {
+            for (int c = 0; c < connections; c++) {
+                clients.add(new JobClient(port));
+            }
+            Report total = new Report();
+            long start = System.nanoTime();
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Report>> results = new ArrayList<>();
+                for (int c = 0; c < connections; c++) {
+                    JobClient client = clients.get(c);
+                    int count = requests / connections + (c < requests % connections ? 1 : 0);
+                    results.add(threads.submit(() -> drive(client, count, depth, requestFactory, threads)));
+                }
+                for (Future<Report> result : results) {
+                    total.add(result.get());
+                }
+            }
+            total.elapsedNs = System.nanoTime() - start;
+            return total;
+        } finally {
+            for (JobClient client : clients) {
+                client.close();
+            }
+        }
+    }
+
+    /**
+     * Drives one connection: a sender limited by the in-flight window, and this thread receiving.
+     */
+    private static Report drive(JobClient client, int count, int depth, LongFunction<JobRequest> requestFactory,
+                                ExecutorService threads) throws Exception {
+        Semaphore window = new Semaphore(depth);
+        AtomicLongArray sentAt = new AtomicLongArray(count);
+        Future<?> sender = threads.submit(() -> {
+            for (int i = 0; i < count; i++) {
+                window.acquire();
+                JobRequest request = requestFactory.apply(i);
+                sentAt.set(i, System.nanoTime());
+                client.send(request);
+            }
+            return null;
+        });
+        Report report = new Report();
+        try {
+            for (int i = 0; i < count; i++) {
+                JobResponse response = client.receive();
+                long roundTrip = System.nanoTime() - sentAt.get((int) response.getId());
+                window.release();
+                report.record(response, roundTrip);
+            }
+        } catch (IOException e) {
+            sender.cancel(true); // Would otherwise wait for a window slot forever
+            throw e;
+        }
+        sender.get();
+        return report;
+    }
+
+    /**
+     * Latency distributions (ns) and counts of one run.
+     */
+    public static class Report {
+        private final LatencyHistogram roundTrip = new LatencyHistogram();
+        private final LatencyHistogram queue = new LatencyHistogram();
+        private final LatencyHistogram service = new LatencyHistogram();
+        private long errors = 0;
+        private long elapsedNs = 0;
+
+        void record(JobResponse response, long roundTripNs) {
+            if (response.isError()) {
+                errors++;
+            }
+            roundTrip.record(roundTripNs);
+            queue.record(response.getQueueNs());
+            service.record(response.getServiceNs());
+        }
+
+        void add(Report other) {
+            roundTrip.add(other.roundTrip);
+            queue.add(other.queue);
+            service.add(other.service);
+            errors += other.errors;
+        }
+
+        public LatencyHistogram getRoundTrip() {
+            return roundTrip;
+        }
+
+        public LatencyHistogram getQueue() {
+            return queue;
+        }
+
+        public LatencyHistogram getService() {
+            return service;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getThroughput() {
+            return roundTrip.getTotalCount() / (elapsedNs / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests in %.3f s = %.0f req/s, %d errors%n", roundTrip.getTotalCount(),
+                    elapsedNs / 1e9, getThroughput(), errors)
+                    + "  round trip (ns): " + roundTrip.summary() + System.lineSeparator()
+                    + "  server queue (ns): " + queue.summary() + System.lineSeparator()
+                    + "  server service (ns): " + service.summary();
+        }
+    }
+}
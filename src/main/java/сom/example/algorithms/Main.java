@@ -1,32 +1,79 @@
 package сom.example.algorithms;
 
 import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.jfr.JfrTracker;
+import сom.example.algorithms.metrics.AsyncMetricsSink;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.metrics.RecordFormat;
+import сom.example.algorithms.metrics.SteadyState;
+import сom.example.algorithms.metrics.SteadyStateStats;
 import сom.example.algorithms.select.DeterministicSelect;
 import сom.example.algorithms.sorting.MergeSort;
 import сom.example.algorithms.sorting.QuickSort;
 import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.RandomSource;
+import сom.example.algorithms.workload.KeyDistribution;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
 
 /**
  * Main class to parse command-line arguments or run algorithms programmatically,
- * and emit performance metrics to a CSV file.
+ * and emit performance metrics to a CSV (or, for a .jsonl path, JSON lines) file.
+ * Each run also emits JFR events, visible when the JVM runs with a flight recording.
+ * With --steady, each algorithm is warmed up and timed repeatedly instead of once on a cold JVM.
  */
 public class Main {
 
     /**
      * Entry point for CLI application.
-     * Args: <size> <output.csv>
-     * @param args Command-line arguments: size of array and CSV file path.
+     * Args: <size> <output.csv> [--phases] [--steady [repetitions]] [--distribution name] [--seed S]
+     * @param args Command-line arguments: size of array, CSV file path, and optionally --phases
+     *             to time algorithm phases and write the breakdown (for CSV, to a sibling
+     *             file, see {@link RecordFormat#phasesPath}), --steady to
+     *             report warmed-up timings instead of a single cold run (see {@link #runSteadyState}),
+     *             and the {@link KeyDistribution} and seed of the input (default: uniform, random seed);
+     *             the seed also fixes QuickSort's pivots, so a run's comparison counts repeat.
      */
     public static void main(String[] args) {
-        if (args.length != 2) {
-            System.err.println("Usage: java Main <size> <output.csv>");
+        boolean phases = false;
+        int steadyRepetitions = 0; // 0 = one cold run per algorithm
+        KeyDistribution distribution = KeyDistribution.UNIFORM;
+        long seed = new Random().nextLong();
+        int size = 0;
+        try {
+            if (args.length < 2) {
+                throw new IllegalArgumentException();
+            }
+            for (int i = 2; i < args.length; i++) {
+                if (args[i].equals("--phases")) {
+                    phases = true;
+                } else if (args[i].equals("--steady")) {
+                    steadyRepetitions = SteadyState.DEFAULT_REPETITIONS;
+                    if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                        steadyRepetitions = Integer.parseInt(args[++i]);
+                        if (steadyRepetitions < 2) {
+                            throw new IllegalArgumentException();
+                        }
+                    }
+                } else if (args[i].equals("--distribution") && i + 1 < args.length) {
+                    distribution = KeyDistribution.valueOf(args[++i].toUpperCase());
+                } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                    seed = Long.parseLong(args[++i]);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Usage: java Main <size> <output.csv> [--phases] [--steady [repetitions]]"
+                    + " [--distribution name] [--seed S]");
             System.exit(1);
         }
 
-        int size = 0;
         try {
             size = Integer.parseInt(args[0]);
             if (size <= 0) {
@@ -38,7 +85,18 @@ public class Main {
         }
         String csvPath = args[1];
 
-        runAlgorithms(size, csvPath);
+        Path path = phases ? RecordFormat.phasesPath(Path.of(csvPath)) : Path.of(csvPath);
+        try (MetricsSink sink = new AsyncMetricsSink(path, RecordFormat.forPath(path, phases),
+                AsyncMetricsSink.DEFAULT_QUEUE_CAPACITY)) {
+            if (steadyRepetitions == 0) {
+                runAlgorithms(size, sink, phases, distribution, seed);
+            } else {
+                runSteadyState(size, sink, steadyRepetitions, phases, distribution, seed)
+                        .forEach((name, stats) -> System.out.println(name + " n=" + args[0] + ": " + stats));
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to write metrics: " + e.getMessage());
+        }
     }
 
     /**
@@ -47,51 +105,134 @@ public class Main {
      * @param csvPath Path to the CSV file for metrics.
      */
     public static void runAlgorithms(int size, String csvPath) {
-        Random rand = new Random();
-        Integer[] arr = new Integer[size];
+        runAlgorithms(size, csvPath, false);
+    }
+
+    /**
+     * Like {@link #runAlgorithms(int, String)}, optionally timing algorithm phases.
+     * @param timePhases Whether to record the per-phase breakdown. CSV rows then carry an extra
+     *                   column and go to {@link RecordFormat#phasesPath} instead of {@code csvPath}.
+     */
+    public static void runAlgorithms(int size, String csvPath, boolean timePhases) {
+        Path path = timePhases ? RecordFormat.phasesPath(Path.of(csvPath)) : Path.of(csvPath);
+        try (MetricsSink sink = new AsyncMetricsSink(path, RecordFormat.forPath(path, timePhases),
+                AsyncMetricsSink.DEFAULT_QUEUE_CAPACITY)) {
+            runAlgorithms(size, sink, timePhases);
+        } catch (IOException e) {
+            System.err.println("Failed to write metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the algorithms on a random array and hands one record per algorithm to the sink.
+     * @param size Size of the array to generate.
+     * @param sink Destination for the metrics; left open for further runs.
+     */
+    public static void runAlgorithms(int size, MetricsSink sink) {
+        runAlgorithms(size, sink, false);
+    }
+
+    /**
+     * Like {@link #runAlgorithms(int, MetricsSink)}, optionally timing algorithm phases.
+     */
+    public static void runAlgorithms(int size, MetricsSink sink, boolean timePhases) {
+        runAlgorithms(size, sink, timePhases, KeyDistribution.UNIFORM, new Random().nextLong());
+    }
+
+    /**
+     * Like {@link #runAlgorithms(int, MetricsSink, boolean)} on keys of the given distribution.
+     * Records of non-uniform inputs are named e.g. "QuickSort/SORTED", as in {@link Runner} sweeps.
+     * @param seed Seed of the keys, of QuickSort's pivots and of the ClosestPair y coordinates.
+     */
+    public static void runAlgorithms(int size, MetricsSink sink, boolean timePhases,
+                                     KeyDistribution distribution, long seed) {
+        Integer[] arr = distribution.generateBoxed(size, seed); // Keys for sorting/selecting
+
+        MetricsTracker tracker = new MetricsTracker(timePhases);
+        runAlgorithms(arr, sink, tracker, seed, suffix(distribution));
+    }
+
+    /**
+     * Measures each algorithm in steady state (see {@link SteadyState}) on one random input: warms up
+     * until timings stabilise, then times {@code repetitions} runs, each on a fresh copy of the input.
+     * Writes one record per algorithm whose time is the mean; the other columns are from the last run.
+     * @return Timing statistics by algorithm name, in run order.
+     */
+    public static Map<String, SteadyStateStats> runSteadyState(int size, MetricsSink sink, int repetitions,
+                                                               boolean timePhases) {
+        return runSteadyState(size, sink, repetitions, timePhases, KeyDistribution.UNIFORM, new Random().nextLong());
+    }
+
+    /**
+     * Like {@link #runSteadyState(int, MetricsSink, int, boolean)} on keys of the given distribution,
+     * naming records as {@link #runAlgorithms(int, MetricsSink, boolean, KeyDistribution, long)} does.
+     */
+    public static Map<String, SteadyStateStats> runSteadyState(int size, MetricsSink sink, int repetitions,
+                                                               boolean timePhases, KeyDistribution distribution,
+                                                               long seed) {
+        Integer[] arr = distribution.generateBoxed(size, seed);
+        String suffix = suffix(distribution);
+        Random rand = new Random(~seed);
+        ClosestPair.Point[] points = new ClosestPair.Point[size];
         for (int i = 0; i < size; i++) {
-            arr[i] = rand.nextInt(10000); // Random integers for sorting/selecting
+            points[i] = new ClosestPair.Point(arr[i] / 100.0, rand.nextDouble() * 100);
         }
 
-        MetricsTracker tracker = new MetricsTracker();
-        runAlgorithms(arr, csvPath, tracker, rand);
+        QuickSort quickSort = new QuickSort(RandomSource.seeded(seed)); // Every repetition takes the same pivots
+        MetricsTracker tracker = new MetricsTracker(timePhases);
+        Map<String, SteadyStateStats> results = new LinkedHashMap<>();
+        results.put("MergeSort" + suffix, SteadyState.measure(tracker, arr::clone,
+                a -> new MergeSort().sort(a, new JfrTracker(tracker, "MergeSort" + suffix, size)), repetitions));
+        sink.write(steadyRecord(tracker, size, "MergeSort" + suffix, results));
+        results.put("QuickSort" + suffix, SteadyState.measure(tracker, arr::clone,
+                a -> quickSort.sort(a, new JfrTracker(tracker, "QuickSort" + suffix, size)), repetitions));
+        sink.write(steadyRecord(tracker, size, "QuickSort" + suffix, results));
+        results.put("DeterministicSelect" + suffix, SteadyState.measure(tracker, arr::clone,
+                a -> new DeterministicSelect().select(a, size / 2, new JfrTracker(tracker, "DeterministicSelect" + suffix, size)),
+                repetitions));
+        sink.write(steadyRecord(tracker, size, "DeterministicSelect" + suffix, results));
+        results.put("ClosestPair" + suffix, SteadyState.measure(tracker, points::clone,
+                p -> new ClosestPair().findClosestPair(p, new JfrTracker(tracker, "ClosestPair" + suffix, size)), repetitions));
+        sink.write(steadyRecord(tracker, size, "ClosestPair" + suffix, results));
+        return results;
+    }
+
+    private static MetricsRecord steadyRecord(MetricsTracker tracker, int n, String algorithm,
+                                              Map<String, SteadyStateStats> results) {
+        return new MetricsRecord(n, Math.round(results.get(algorithm).getMean()), tracker.getMaxDepth(),
+                tracker.getComparisons(), tracker.getAllocations(), algorithm,
+                tracker.getAllocatedBytes(), tracker.getGcCount(), tracker.getGcTimeMs(), tracker.getPhases());
+    }
+
+    private static String suffix(KeyDistribution distribution) {
+        return distribution == KeyDistribution.UNIFORM ? "" : "/" + distribution;
     }
 
-    private static void runAlgorithms(Integer[] arr, String csvPath, MetricsTracker tracker, Random rand) {
+    private static void runAlgorithms(Integer[] arr, MetricsSink sink, MetricsTracker tracker, long seed,
+                                      String suffix) {
         // Run MergeSort
         tracker.incrementAllocation();
         Integer[] mergeArr = arr.clone();
         tracker.reset();
-        new MergeSort().sort(mergeArr, tracker);
-        try {
-            tracker.writeToCSV(csvPath, arr.length, "MergeSort");
-        } catch (IOException e) {
-            System.err.println("Failed to write MergeSort metrics: " + e.getMessage());
-        }
+        new MergeSort().sort(mergeArr, new JfrTracker(tracker, "MergeSort" + suffix, arr.length));
+        sink.write(MetricsRecord.of(tracker, arr.length, "MergeSort" + suffix));
 
         // Run QuickSort
         Integer[] quickArr = arr.clone();
         tracker.reset();
-        new QuickSort().sort(quickArr, tracker);
-        try {
-            tracker.writeToCSV(csvPath, arr.length, "QuickSort");
-        } catch (IOException e) {
-            System.err.println("Failed to write QuickSort metrics: " + e.getMessage());
-        }
+        new QuickSort(RandomSource.seeded(seed)).sort(quickArr, new JfrTracker(tracker, "QuickSort" + suffix, arr.length));
+        sink.write(MetricsRecord.of(tracker, arr.length, "QuickSort" + suffix));
 
         // Run DeterministicSelect (e.g., median)
         Integer[] selectArr = arr.clone();
         tracker.reset();
         int k = arr.length / 2; // Select median for example
-        new DeterministicSelect().select(selectArr, k, tracker);
-        try {
-            tracker.writeToCSV(csvPath, arr.length, "DeterministicSelect");
-        } catch (IOException e) {
-            System.err.println("Failed to write Select metrics: " + e.getMessage());
-        }
+        new DeterministicSelect().select(selectArr, k, new JfrTracker(tracker, "DeterministicSelect" + suffix, arr.length));
+        sink.write(MetricsRecord.of(tracker, arr.length, "DeterministicSelect" + suffix));
 
         // Run ClosestPair (example with random 2D points)
         ClosestPair closestPair = new ClosestPair();
+        Random rand = new Random(~seed);
         ClosestPair.Point[] points = new ClosestPair.Point[arr.length];
         for (int i = 0; i < arr.length; i++) {
             points[i] = new ClosestPair.Point(arr[i] / 100.0, rand.nextDouble() * 100);
@@ -103,11 +244,7 @@ public class Main {
             }
         }
         tracker.reset();
-        closestPair.findClosestPair(points, tracker);
-        try {
-            tracker.writeToCSV(csvPath, arr.length, "ClosestPair");
-        } catch (IOException e) {
-            System.err.println("Failed to write ClosestPair metrics: " + e.getMessage());
-        }
+        closestPair.findClosestPair(points, new JfrTracker(tracker, "ClosestPair" + suffix, arr.length));
+        sink.write(MetricsRecord.of(tracker, arr.length, "ClosestPair" + suffix));
     }
 }
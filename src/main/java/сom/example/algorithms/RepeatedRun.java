@@ -0,0 +1,133 @@
+package сom.example.algorithms;
+
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.metrics.LatencyHistogram;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.NoOpTracker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs each algorithm many times on fresh inputs and reports latency percentiles instead of
+ * a single sample. Histograms can be kept in a file and are merged with those of earlier runs.
+ */
+public class RepeatedRun {
+
+    /**
+     * Entry point.
+     * Args: <size> <repetitions> [histograms.txt]
+     * The optional file holds one "algorithm size base64" line per histogram; results of this run
+     * are merged into it and the merged percentiles are printed.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: java RepeatedRun <size> <repetitions> [histograms.txt]");
+            System.exit(1);
+        }
+        int size = Integer.parseInt(args[0]);
+        int repetitions = Integer.parseInt(args[1]);
+        if (size <= 0 || repetitions <= 0) {
+            System.err.println("Size and repetitions must be positive integers");
+            System.exit(1);
+        }
+        Map<String, LatencyHistogram> results = runAll(size, repetitions, new Random());
+
+        if (args.length == 3) {
+            Path file = Path.of(args[2]);
+            Map<String, LatencyHistogram> stored = load(file);
+            for (Map.Entry<String, LatencyHistogram> entry : results.entrySet()) {
+                stored.merge(size + " " + entry.getKey(), entry.getValue(), (a, b) -> {
+                    a.add(b);
+                    return a;
+                });
+            }
+            save(file, stored);
+            stored.forEach((key, histogram) -> System.out.println(key + ": " + histogram.summary()));
+        } else {
+            results.forEach((name, histogram) -> System.out.println(size + " " + name + ": " + histogram.summary()));
+        }
+    }
+
+    /**
+     * Measures every algorithm on the given size.
+     * @return Histogram of per-call latencies (ns) by algorithm name.
+     */
+    public static Map<String, LatencyHistogram> runAll(int size, int repetitions, Random rand) {
+        Map<String, LatencyHistogram> results = new LinkedHashMap<>();
+        Supplier<Integer[]> array = () -> {
+            Integer[] arr = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextInt(10000);
+            }
+            return arr;
+        };
+        results.put("MergeSort", measure(repetitions, repetitions / 10, array,
+                arr -> new MergeSort().sort(arr, NoOpTracker.INSTANCE)));
+        results.put("QuickSort", measure(repetitions, repetitions / 10, array,
+                arr -> new QuickSort().sort(arr, NoOpTracker.INSTANCE)));
+        results.put("DeterministicSelect", measure(repetitions, repetitions / 10, array,
+                arr -> new DeterministicSelect().select(arr, arr.length / 2, NoOpTracker.INSTANCE)));
+        Supplier<ClosestPair.Point[]> points = () -> {
+            ClosestPair.Point[] pts = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                pts[i] = new ClosestPair.Point(rand.nextInt(10000) / 100.0, rand.nextDouble() * 100);
+            }
+            return pts;
+        };
+        results.put("ClosestPair", measure(repetitions, repetitions / 10, points,
+                pts -> new ClosestPair().findClosestPair(pts, NoOpTracker.INSTANCE)));
+        return results;
+    }
+
+    /**
+     * Times {@code call} on a fresh input from {@code setup} per repetition; setup is not timed.
+     * @param repetitions Number of recorded calls.
+     * @param warmup Unrecorded calls first, so the JIT has compiled the code being measured.
+     * @return Histogram of the recorded latencies in nanoseconds.
+     */
+    public static <T> LatencyHistogram measure(int repetitions, int warmup, Supplier<T> setup, Consumer<T> call) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < warmup + repetitions; i++) {
+            T input = setup.get();
+            long start = System.nanoTime();
+            call.accept(input);
+            long elapsed = System.nanoTime() - start;
+            if (i >= warmup) {
+                histogram.record(elapsed);
+            }
+        }
+        return histogram;
+    }
+
+    private static Map<String, LatencyHistogram> load(Path file) throws IOException {
+        Map<String, LatencyHistogram> stored = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return stored;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int split = line.lastIndexOf(' ');
+            if (split > 0) {
+                stored.put(line.substring(0, split), LatencyHistogram.fromBase64(line.substring(split + 1)));
+            }
+        }
+        return stored;
+    }
+
+    private static void save(Path file, Map<String, LatencyHistogram> stored) throws IOException {
+        List<String> lines = new ArrayList<>();
+        stored.forEach((key, histogram) -> lines.add(key + " " + histogram.toBase64()));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
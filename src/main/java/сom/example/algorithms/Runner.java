@@ -1,15 +1,82 @@
 package сom.example.algorithms;
 
-import сom.example.algorithms.Main;
+import сom.example.algorithms.experiment.Algorithm;
+import сom.example.algorithms.experiment.ExperimentCell;
+import сom.example.algorithms.experiment.ExperimentJournal;
+import сom.example.algorithms.experiment.ExperimentScheduler;
+import сom.example.algorithms.metrics.AsyncMetricsSink;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.workload.KeyDistribution;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * Sweeps all algorithms over a fixed set of sizes on a worker pool (see {@link ExperimentScheduler}).
+ * Args: [--seeds N] [--seed S] [--distributions D,...] [--workers N] [--pin] [--journal file]
+ * <ul>
+ *   <li>--seeds: inputs per size and algorithm, seeded S, S+1, ... (default 1);</li>
+ *   <li>--seed: first seed; random unless a journal is used, where it defaults to 0 so a
+ *       re-run resumes the same sweep;</li>
+ *   <li>--distributions: comma-separated {@link KeyDistribution} names (default UNIFORM);</li>
+ *   <li>--workers: concurrent runs (default: one per core); GC columns are only measured with
+ *       --workers 1, and are -1 otherwise; --pin: pin each worker to a CPU;</li>
+ *   <li>--journal: file of finished cells; cells listed there are skipped.</li>
+ * </ul>
+ */
 public class Runner {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         int[] sizes = {100, 1000, 5000, 10000};
-        for (int size : sizes) {
-            System.out.println("Running with size: " + size);
-            Main.runAlgorithms(size, "output.csv");
+        int seeds = 1;
+        Long firstSeed = null;
+        int workers = Runtime.getRuntime().availableProcessors();
+        boolean pin = false;
+        Path journalPath = null;
+        List<KeyDistribution> distributions = List.of(KeyDistribution.UNIFORM);
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--seeds": seeds = Integer.parseInt(args[++i]); break;
+                    case "--seed": firstSeed = Long.parseLong(args[++i]); break;
+                    case "--distributions":
+                        distributions = new ArrayList<>();
+                        for (String name : args[++i].split(",")) {
+                            distributions.add(KeyDistribution.valueOf(name.trim().toUpperCase()));
+                        }
+                        break;
+                    case "--workers": workers = Integer.parseInt(args[++i]); break;
+                    case "--pin": pin = true; break;
+                    case "--journal": journalPath = Path.of(args[++i]); break;
+                    default: throw new IllegalArgumentException(args[i]);
+                }
+            }
+            if (seeds <= 0 || workers <= 0) {
+                throw new IllegalArgumentException("counts must be positive");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Usage: java Runner [--seeds N] [--seed S] [--distributions D,...] [--workers N] [--pin] [--journal file]");
+            System.exit(1);
+        }
+        long base = firstSeed != null ? firstSeed : journalPath != null ? 0 : System.nanoTime();
+        long[] seedValues = new long[seeds];
+        for (int i = 0; i < seeds; i++) {
+            seedValues[i] = base + i;
+        }
+        List<ExperimentCell> cells = ExperimentCell.matrix(sizes, Arrays.asList(Algorithm.values()),
+                distributions, seedValues);
+
+        ExperimentJournal journal = journalPath == null ? null : new ExperimentJournal(journalPath);
+        try (MetricsSink sink = new AsyncMetricsSink(Path.of("metrics.csv"))) { // One file handle for all runs
+            int ran = new ExperimentScheduler(workers, pin).run(cells, sink, journal);
+            System.out.println("Ran " + ran + " of " + cells.size() + " cells on " + workers + " workers");
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
         }
         System.out.println("Algorithms executed programmatically!");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package сom.example.algorithms;
+
+import сom.example.algorithms.metrics.AsyncMetricsSink;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsRegistry;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.metrics.PrometheusEndpoint;
+import сom.example.algorithms.server.JobServer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Runs a {@link JobServer}, so sort, select, top-k and closest-pair jobs share one warmed-up JVM
+ * instead of paying for a JVM start and a cold JIT each (see {@link LoadGenerator} for a client).
+ * Args: [--port P | --stdio] [--queue N] [--metrics-port P] [--log file.csv]
+ * <ul>
+ *   <li>--port: loopback port to listen on (default 7070; 0 picks a free one);</li>
+ *   <li>--stdio: serve one connection on stdin/stdout instead, exiting at end of input;</li>
+ *   <li>--queue: requests admitted at once (default {@value JobServer#DEFAULT_QUEUE_CAPACITY});</li>
+ *   <li>--metrics-port: also serve per-operation latency histograms for Prometheus;</li>
+ *   <li>--log: append one record per job to a CSV (or .jsonl) file.</li>
+ * </ul>
+ */
+public class Server {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 7070;
+        boolean stdio = false;
+        int queue = JobServer.DEFAULT_QUEUE_CAPACITY;
+        int metricsPort = -1;
+        Path log = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(args[++i]); break;
+                    case "--stdio": stdio = true; break;
+                    case "--queue": queue = Integer.parseInt(args[++i]); break;
+                    case "--metrics-port": metricsPort = Integer.parseInt(args[++i]); break;
+                    case "--log": log = Path.of(args[++i]); break;
+                    default: throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Usage: java Server [--port P | --stdio] [--queue N] [--metrics-port P] [--log file.csv]");
+            System.exit(1);
+        }
+
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsSink logSink = log == null ? null : new AsyncMetricsSink(log);
+        MetricsSink sink = logSink == null ? registry : new MetricsSink() {
+            @Override
+            public void write(MetricsRecord record) {
+                registry.write(record);
+                logSink.write(record);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                logSink.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                logSink.close();
+            }
+        };
+        PrometheusEndpoint endpoint = metricsPort < 0 ? null : new PrometheusEndpoint(registry, metricsPort);
+        try (JobServer server = new JobServer(queue, sink)) {
+            if (stdio) {
+                server.serve(System.in, System.out); // Logs go to stderr only
+            } else {
+                int bound = server.listen(port);
+                System.err.println("Listening on 127.0.0.1:" + bound + (endpoint == null ? ""
+                        : ", metrics on http://127.0.0.1:" + endpoint.getPort() + "/metrics"));
+                new CountDownLatch(1).await(); // Until the process is stopped
+            }
+        } finally {
+            if (endpoint != null) {
+                endpoint.close();
+            }
+            sink.close();
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package сom.example.algorithms.closest;
 
-import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.Tracker;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 /**
  * ClosestPair implementation for 2D points using divide-and-conquer with O(n log n) complexity.
- * Sorts points by x-coordinate, recursively splits, and checks a strip with y-order and 7-8 neighbor scan.
+ * Sorts points by x-coordinate once, recursively splits, merges y-order bottom-up,
+ * and checks a strip with a 7-8 neighbor scan. Duplicate points are removed in a linear pre-pass.
  */
 public class ClosestPair {
 
@@ -27,74 +29,87 @@ public class ClosestPair {
         }
     }
 
+    // Lexicographic (x, y) order, so equal points end up adjacent after sorting
+    private static final Comparator<Point> BY_X_THEN_Y = (a, b) -> {
+        int cmp = Double.compare(a.x, b.x);
+        return cmp != 0 ? cmp : Double.compare(a.y, b.y);
+    };
+
     /**
-     * Finds the minimum distance between any pair of points.
+     * Finds the minimum distance between any pair of distinct points.
+     * Duplicate points are ignored; if all points coincide the distance is 0.0.
      * @param points Array of 2D points.
      * @param tracker Metrics tracker for performance data.
      * @return Minimum distance between any two points.
      */
-    public double findClosestPair(Point[] points, MetricsTracker tracker) {
+    public double findClosestPair(Point[] points, Tracker tracker) {
         if (points == null || points.length < 2) {
             throw new IllegalArgumentException("At least 2 points required");
         }
         tracker.start();
-        Point[] pointsByX = points.clone();
+        Point[] pts = points.clone();
         tracker.incrementAllocation(); // For cloning array
-        Arrays.sort(pointsByX); // Sort by x
-        double minDistance = findClosestPairRecursive(pointsByX, 0, pointsByX.length - 1, tracker);
+        tracker.enterPhase("sort");
+        Arrays.sort(pts, BY_X_THEN_Y);
+        tracker.exitPhase();
+        int n = removeDuplicates(pts);
+        double minDistance = 0.0;
+        if (n >= 2) {
+            Point[] aux = new Point[n];
+            tracker.incrementAllocation(); // Scratch buffer shared by all merges and strips
+            minDistance = findClosestPairRecursive(pts, aux, 0, n - 1, tracker);
+        }
         tracker.stop();
         return minDistance;
     }
 
     /**
      * Recursive helper for finding the closest pair of points.
+     * On entry pts[left..right] is sorted by x; on exit it is sorted by y (merged from both halves),
+     * so the strip is filtered out of y-order directly and never re-sorted.
      * T(n) = 2T(n/2) + O(n) -> Master Case 2 (a=2, b=2, f(n)=O(n), n^log_b(a)=n),
      * where a*f(n/b) = O(n) = f(n), thus Θ(n log n).
      */
-    private double findClosestPairRecursive(Point[] pts, int left, int right, MetricsTracker tracker) {
+    private double findClosestPairRecursive(Point[] pts, Point[] aux, int left, int right, Tracker tracker) {
         try {
             tracker.enterRecursion();
             int n = right - left + 1;
             if (n <= 3) {
-                return bruteForce(pts, left, right, tracker);
+                double d = bruteForce(pts, left, right, tracker);
+                insertionSortByY(pts, left, right);
+                return d;
             }
 
             int mid = left + (right - left) / 2;
-            double midX = pts[mid].x;
-            double dLeft = findClosestPairRecursive(pts, left, mid, tracker);
-            double dRight = findClosestPairRecursive(pts, mid + 1, right, tracker);
+            double midX = pts[mid].x; // Read before the halves are reordered by y
+            double dLeft = findClosestPairRecursive(pts, aux, left, mid, tracker);
+            double dRight = findClosestPairRecursive(pts, aux, mid + 1, right, tracker);
             double d = Math.min(dLeft, dRight);
 
+            tracker.enterPhase("strip.sort");
+            mergeByY(pts, aux, left, mid, right);
+            tracker.exitPhase();
 
-            // Build strip
-            tracker.incrementAllocation();
-            Point[] strip = new Point[n];
+            // Build strip in y-order, reusing the scratch buffer
+            tracker.enterPhase("strip.build");
             int stripSize = 0;
             for (int i = left; i <= right; i++) {
                 if (Math.abs(pts[i].x - midX) < d) {
-                    boolean isDuplicate = false;
-                    for (int j = 0; j < stripSize; j++) {
-                        if (pts[i].x == strip[j].x && pts[i].y == strip[j].y) {
-                            isDuplicate = true;
-                            break;
-                        }
-                    }
-                    if (!isDuplicate) {
-                        strip[stripSize++] = pts[i];
-                    }
+                    aux[stripSize++] = pts[i];
                 }
             }
-            tracker.incrementAllocation(); // For strip array
-            Arrays.sort(strip, 0, stripSize, (a, b) -> Double.compare(a.y, b.y));
+            tracker.exitPhase();
 
             // 7-8 neighbor scan
+            tracker.enterPhase("strip.scan");
             for (int i = 0; i < stripSize; i++) {
-                for (int j = i + 1; j < stripSize && (j - i) < 8 && (strip[j].y - strip[i].y) < d; j++) {
-                    double distance = distance(strip[i], strip[j], tracker);
+                for (int j = i + 1; j < stripSize && (j - i) < 8 && (aux[j].y - aux[i].y) < d; j++) {
+                    double distance = distance(aux[i], aux[j], tracker);
                     d = Math.min(d, distance);
                     tracker.incrementComparison();
                 }
             }
+            tracker.exitPhase();
 
             return d;
         } finally {
@@ -102,27 +117,68 @@ public class ClosestPair {
         }
     }
 
+    /**
+     * Compacts the (x, y)-sorted array so each distinct point appears once.
+     * @return Number of distinct points, stored at the front of the array.
+     */
+    private int removeDuplicates(Point[] pts) {
+        int size = 1;
+        for (int i = 1; i < pts.length; i++) {
+            Point last = pts[size - 1];
+            if (pts[i].x != last.x || pts[i].y != last.y) {
+                pts[size++] = pts[i];
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Merges two y-sorted halves pts[low..mid] and pts[mid+1..high] through the scratch buffer.
+     */
+    private void mergeByY(Point[] pts, Point[] aux, int low, int mid, int high) {
+        System.arraycopy(pts, low, aux, low, high - low + 1);
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                pts[k] = aux[j++];
+            } else if (j > high) {
+                pts[k] = aux[i++];
+            } else if (aux[j].y < aux[i].y) {
+                pts[k] = aux[j++];
+            } else {
+                pts[k] = aux[i++];
+            }
+        }
+    }
 
+    private void insertionSortByY(Point[] pts, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            Point key = pts[i];
+            int j = i - 1;
+            while (j >= low && pts[j].y > key.y) {
+                pts[j + 1] = pts[j];
+                j--;
+            }
+            pts[j + 1] = key;
+        }
+    }
 
-    private double bruteForce(Point[] points, int low, int high, MetricsTracker tracker) {
+    private double bruteForce(Point[] points, int low, int high, Tracker tracker) {
         double minDistance = Double.POSITIVE_INFINITY;
         for (int i = low; i <= high; i++) {
             for (int j = i + 1; j <= high; j++) {
-                if (points[i].x == points[j].x && points[i].y == points[j].y) {
-                    continue;
-                }
                 double distance = distance(points[i], points[j], tracker);
                 minDistance = Math.min(minDistance, distance);
                 tracker.incrementComparison();
             }
         }
-        return minDistance == Double.POSITIVE_INFINITY ? 0.0 : minDistance; // Если все дубликаты, возвращаем 0
+        return minDistance;
     }
 
-    private double distance(Point p1, Point p2, MetricsTracker tracker) {
+    private double distance(Point p1, Point p2, Tracker tracker) {
         tracker.incrementComparison();
         double dx = p1.x - p2.x;
         double dy = p1.y - p2.y;
         return Math.sqrt(dx * dx + dy * dy);
     }
-}
\ No newline at end of file
+}
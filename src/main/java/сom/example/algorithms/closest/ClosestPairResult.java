@@ -0,0 +1,35 @@
+package сom.example.algorithms.closest;
+
+/**
+ * Closest pair found by a closest-pair engine: the two point indices and their distance.
+ * Indices refer to the input point set; both are -1 when the input has fewer than two distinct points.
+ */
+public class ClosestPairResult {
+
+    private final int first;
+    private final int second;
+    private final double distance;
+
+    public ClosestPairResult(int first, int second, double distance) {
+        this.first = first;
+        this.second = second;
+        this.distance = distance;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+
+    @Override
+    public String toString() {
+        return "ClosestPairResult[" + first + ", " + second + ", distance=" + distance + "]";
+    }
+}
@@ -0,0 +1,616 @@
+package сom.example.algorithms.closest;
+
+import java.util.Arrays;
+
+/**
+ * Closest pair of a point set that changes by insertions and deletions.
+ * Every live point keeps its exact nearest neighbour, and an indexed min-heap over those
+ * neighbour distances yields the closest pair in O(1). Two hash grids support the updates:
+ * <ul>
+ *   <li>a point grid answers nearest-neighbour queries by searching rings of cells outward;</li>
+ *   <li>a neighbour-disk grid caches, per cell, the points whose nearest-neighbour disk covers it,
+ *       so an inserted point only checks the points it can actually become the neighbour of.</li>
+ * </ul>
+ * A deletion re-queries only the points that had the deleted point as their neighbour (at most six
+ * in the plane, up to ties). With the default adaptive cell size (about one point per cell, re-tuned
+ * whenever the size doubles or quarters) an update costs O(1) expected grid work plus O(log n) heap
+ * work on inputs of bounded density variation; very uneven inputs fall back to linear scans.
+ * Duplicate points are ignored when looking for neighbours, as in {@link ClosestPair}.
+ */
+public class DynamicClosestPair {
+
+    private static final int MAX_DISK_CELLS = 64; // Larger disks go to the wide list instead
+    private static final int MAX_RING = 32;       // Beyond this a neighbour search scans all points
+    private static final long MAX_CELL = 1L << 61; // Cell coordinates are clamped so ring and span sums cannot overflow
+    private static final int MIN_REBUILD_SIZE = 64;
+    private static final int NONE = -1;
+
+    private final boolean adaptiveCellSize;
+    private double cellSize;
+    private double inverseCellSize;
+
+    // Per-handle state, indexed by the handle returned from insert
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    private boolean[] alive = new boolean[16];
+    private int[] nn = new int[16];
+    private double[] nnDistSq = new double[16];
+    private int[] pointEntry = new int[16];
+    private int[] diskHead = new int[16];   // First disk-grid entry owned by the point
+    private int[] revHead = new int[16];    // Points whose nearest neighbour is this point
+    private int[] revNext = new int[16];
+    private int[] revPrev = new int[16];
+    private int[] widePos = new int[16];
+    private int[] wide = new int[16];
+    private int wideCount = 0;
+    private int[] freeHandles = new int[16];
+    private int freeCount = 0;
+    private int handleCount = 0;
+    private int live = 0;
+    private int rebuildAbove = MIN_REBUILD_SIZE;
+    private int rebuildBelow = 0;
+
+    private final CellIndex pointGrid = new CellIndex();
+    private final CellIndex diskGrid = new CellIndex();
+    private final IndexedMinHeap heap = new IndexedMinHeap();
+    private int[] scratch = new int[16];
+
+    /**
+     * Creates an empty structure whose cell size adapts to the point density.
+     */
+    public DynamicClosestPair() {
+        this(1.0, true);
+    }
+
+    /**
+     * Creates an empty structure with a fixed grid cell size (roughly the typical neighbour distance).
+     */
+    public DynamicClosestPair(double cellSize) {
+        this(cellSize, false);
+    }
+
+    private DynamicClosestPair(double cellSize, boolean adaptive) {
+        if (!(cellSize > 0) || Double.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("cellSize must be positive and finite");
+        }
+        this.adaptiveCellSize = adaptive;
+        setCellSize(cellSize);
+    }
+
+    /**
+     * Inserts a point.
+     * @return Handle identifying the point in later calls and in results.
+     */
+    public int insert(double x, double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            throw new IllegalArgumentException("Coordinates must be finite");
+        }
+        int q = allocateHandle();
+        xs[q] = x;
+        ys[q] = y;
+        alive[q] = true;
+        nn[q] = NONE;
+        nnDistSq[q] = Double.POSITIVE_INFINITY;
+        diskHead[q] = NONE;
+        revHead[q] = NONE;
+        widePos[q] = NONE;
+        live++;
+        pointEntry[q] = pointGrid.add(cellKey(x, y), q);
+
+        // Existing points whose neighbour disk contains q may now have q as nearest neighbour
+        int count = 0;
+        for (int e = diskGrid.head(cellKey(x, y)); e >= 0; e = diskGrid.next[e]) {
+            count = push(count, diskGrid.payload[e]);
+        }
+        for (int i = 0; i < wideCount; i++) {
+            count = push(count, wide[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            int p = scratch[i];
+            if (p == q) continue;
+            double distSq = squaredDistance(p, q);
+            if (distSq > 0 && distSq < nnDistSq[p]) {
+                setNearest(p, q, distSq);
+            }
+        }
+        assignNearest(q);
+        maybeRebuild();
+        return q;
+    }
+
+    /**
+     * Deletes a previously inserted point.
+     * @param handle Handle returned by {@link #insert(double, double)}.
+     */
+    public void delete(int handle) {
+        if (handle < 0 || handle >= handleCount || !alive[handle]) {
+            throw new IllegalArgumentException("Unknown point handle: " + handle);
+        }
+        pointGrid.remove(pointEntry[handle]);
+        alive[handle] = false;
+        live--;
+        heap.remove(handle);
+        unregisterDisk(handle);
+        if (nn[handle] != NONE) {
+            unlinkFollower(handle);
+            nn[handle] = NONE;
+        }
+
+        // Points that had the deleted point as neighbour need a new one
+        int count = 0;
+        for (int f = revHead[handle]; f != NONE; f = revNext[f]) {
+            count = push(count, f);
+        }
+        revHead[handle] = NONE;
+        for (int i = 0; i < count; i++) {
+            nn[scratch[i]] = NONE; // Already detached from the deleted point's follower list
+        }
+        for (int i = 0; i < count; i++) {
+            assignNearest(scratch[i]);
+        }
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeCount * 2);
+        }
+        freeHandles[freeCount++] = handle;
+        maybeRebuild();
+    }
+
+    /**
+     * Returns the current closest pair of distinct points (by handle), or -1 handles and distance 0.0
+     * if fewer than two distinct points are present.
+     */
+    public ClosestPairResult closestPair() {
+        if (heap.size == 0) {
+            return new ClosestPairResult(NONE, NONE, 0.0);
+        }
+        int p = heap.heap[0];
+        if (nnDistSq[p] == Double.POSITIVE_INFINITY) {
+            return new ClosestPairResult(NONE, NONE, 0.0);
+        }
+        return new ClosestPairResult(Math.min(p, nn[p]), Math.max(p, nn[p]), Math.sqrt(nnDistSq[p]));
+    }
+
+    public int size() {
+        return live;
+    }
+
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handleCount && alive[handle];
+    }
+
+    public double x(int handle) {
+        return xs[handle];
+    }
+
+    public double y(int handle) {
+        return ys[handle];
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Finds p's nearest distinct neighbour from scratch and installs it.
+     */
+    private void assignNearest(int p) {
+        double x = xs[p], y = ys[p];
+        long cx = cell(x), cy = cell(y);
+        int best = NONE;
+        double bestSq = Double.POSITIVE_INFINITY;
+        int seen = 0;
+        for (int r = 0; ; r++) {
+            if (r > MAX_RING) {
+                best = NONE;
+                bestSq = Double.POSITIVE_INFINITY;
+                for (int q = 0; q < handleCount; q++) { // Sparse neighbourhood: linear scan
+                    if (!alive[q] || q == p) continue;
+                    double distSq = squaredDistance(p, q);
+                    if (distSq > 0 && distSq < bestSq) {
+                        best = q;
+                        bestSq = distSq;
+                    }
+                }
+                break;
+            }
+            for (long gx = cx - r; gx <= cx + r; gx++) {
+                boolean edgeColumn = gx == cx - r || gx == cx + r;
+                long step = edgeColumn || r == 0 ? 1 : 2 * r;
+                for (long gy = cy - r; gy <= cy + r; gy += step) {
+                    for (int e = pointGrid.head(key(gx, gy)); e >= 0; e = pointGrid.next[e]) {
+                        int q = pointGrid.payload[e];
+                        if (q == p) continue;
+                        seen++;
+                        double distSq = squaredDistance(p, q);
+                        if (distSq > 0 && distSq < bestSq) {
+                            best = q;
+                            bestSq = distSq;
+                        }
+                    }
+                }
+            }
+            if (seen >= live - 1) break;
+            double reach = r * cellSize; // Points in ring r+1 are at least this far away
+            if (bestSq <= reach * reach) break;
+        }
+        setNearest(p, best, bestSq);
+    }
+
+    /**
+     * Installs q as p's nearest neighbour and refreshes the follower list, disk cache and heap.
+     */
+    private void setNearest(int p, int q, double distSq) {
+        if (nn[p] != NONE) {
+            unlinkFollower(p);
+        }
+        nn[p] = q;
+        nnDistSq[p] = distSq;
+        if (q != NONE) {
+            revPrev[p] = NONE;
+            revNext[p] = revHead[q];
+            if (revHead[q] != NONE) revPrev[revHead[q]] = p;
+            revHead[q] = p;
+        }
+        unregisterDisk(p);
+        registerDisk(p);
+        heap.update(p);
+    }
+
+    private void unlinkFollower(int p) {
+        int owner = nn[p];
+        if (revPrev[p] != NONE) {
+            revNext[revPrev[p]] = revNext[p];
+        } else {
+            revHead[owner] = revNext[p];
+        }
+        if (revNext[p] != NONE) {
+            revPrev[revNext[p]] = revPrev[p];
+        }
+    }
+
+    /**
+     * Registers p in every cell overlapped by the bounding square of its nearest-neighbour disk,
+     * or in the wide list if that square is too large (or p has no neighbour yet).
+     */
+    private void registerDisk(int p) {
+        double radius = Math.sqrt(nnDistSq[p]);
+        long x0 = cell(xs[p] - radius), x1 = cell(xs[p] + radius);
+        long y0 = cell(ys[p] - radius), y1 = cell(ys[p] + radius);
+        // Bound each span before multiplying: for far-apart points the product overflows a long
+        long spanX = x1 - x0 + 1, spanY = y1 - y0 + 1;
+        if (Double.isInfinite(radius) || spanX > MAX_DISK_CELLS || spanY > MAX_DISK_CELLS
+                || spanX * spanY > MAX_DISK_CELLS) {
+            if (wideCount == wide.length) {
+                wide = Arrays.copyOf(wide, wideCount * 2);
+            }
+            widePos[p] = wideCount;
+            wide[wideCount++] = p;
+            return;
+        }
+        for (long gx = x0; gx <= x1; gx++) {
+            for (long gy = y0; gy <= y1; gy++) {
+                int e = diskGrid.add(key(gx, gy), p);
+                diskGrid.link[e] = diskHead[p];
+                diskHead[p] = e;
+            }
+        }
+    }
+
+    private void unregisterDisk(int p) {
+        if (widePos[p] != NONE) {
+            int last = wide[--wideCount];
+            wide[widePos[p]] = last;
+            widePos[last] = widePos[p];
+            widePos[p] = NONE;
+        }
+        for (int e = diskHead[p]; e != NONE; ) {
+            int nextOwned = diskGrid.link[e];
+            diskGrid.remove(e);
+            e = nextOwned;
+        }
+        diskHead[p] = NONE;
+    }
+
+    /**
+     * Re-tunes the cell size to about one point per cell once the size has doubled or quartered.
+     */
+    private void maybeRebuild() {
+        if (!adaptiveCellSize || (live <= rebuildAbove && live >= rebuildBelow)) {
+            return;
+        }
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int p = 0; p < handleCount; p++) {
+            if (!alive[p]) continue;
+            minX = Math.min(minX, xs[p]);
+            maxX = Math.max(maxX, xs[p]);
+            minY = Math.min(minY, ys[p]);
+            maxY = Math.max(maxY, ys[p]);
+        }
+        double width = maxX - minX, height = maxY - minY;
+        double size = live > 0 ? Math.sqrt(width * height / live) : 0;
+        if (!(size > 0)) {
+            size = Math.max(width, height) / Math.max(1, live); // Collinear or single location
+        }
+        if (size > 0 && Double.isFinite(size)) {
+            setCellSize(size);
+            pointGrid.clear();
+            diskGrid.clear();
+            wideCount = 0;
+            for (int p = 0; p < handleCount; p++) {
+                if (!alive[p]) continue;
+                widePos[p] = NONE;
+                diskHead[p] = NONE;
+                pointEntry[p] = pointGrid.add(cellKey(xs[p], ys[p]), p);
+                registerDisk(p);
+            }
+        }
+        rebuildAbove = Math.max(MIN_REBUILD_SIZE, 2 * live);
+        rebuildBelow = live / 4;
+    }
+
+    private void setCellSize(double size) {
+        cellSize = size;
+        inverseCellSize = 1.0 / size;
+    }
+
+    private int allocateHandle() {
+        if (freeCount > 0) {
+            return freeHandles[--freeCount];
+        }
+        if (handleCount == xs.length) {
+            int capacity = handleCount * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            nn = Arrays.copyOf(nn, capacity);
+            nnDistSq = Arrays.copyOf(nnDistSq, capacity);
+            pointEntry = Arrays.copyOf(pointEntry, capacity);
+            diskHead = Arrays.copyOf(diskHead, capacity);
+            revHead = Arrays.copyOf(revHead, capacity);
+            revNext = Arrays.copyOf(revNext, capacity);
+            revPrev = Arrays.copyOf(revPrev, capacity);
+            widePos = Arrays.copyOf(widePos, capacity);
+            heap.grow(capacity);
+        }
+        return handleCount++;
+    }
+
+    private int push(int count, int value) {
+        if (count == scratch.length) {
+            scratch = Arrays.copyOf(scratch, count * 2);
+        }
+        scratch[count] = value;
+        return count + 1;
+    }
+
+    private double squaredDistance(int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Clamping keeps far-out points in the outermost cells; it never moves two points' cells apart,
+     * so the ring search still reaches every point within its radius.
+     */
+    private long cell(double coordinate) {
+        long c = (long) Math.floor(coordinate * inverseCellSize);
+        return Math.max(-MAX_CELL, Math.min(MAX_CELL, c));
+    }
+
+    private long cellKey(double x, double y) {
+        return key(cell(x), cell(y));
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    /**
+     * Hash grid from cell key to a doubly linked list of int payloads, all in primitive arrays.
+     * Entries are removable in O(1); link[] is free for callers to chain entries by owner.
+     */
+    private static class CellIndex {
+        private static final int FREE_SLOT = -2; // Never used; -1 marks a used slot with an empty list
+
+        private long[] keys;
+        private int[] heads;
+        private int mask;
+        private int usedSlots;
+
+        int[] payload = new int[16];
+        int[] next = new int[16];
+        int[] link = new int[16];
+        private int[] prev = new int[16];
+        private int[] slotOf = new int[16];
+        private int entryCount = 0;
+        private int freeEntry = NONE;
+
+        CellIndex() {
+            allocateTable(16);
+        }
+
+        int head(long key) {
+            int slot = slot(key);
+            while (heads[slot] != FREE_SLOT) {
+                if (keys[slot] == key) return heads[slot];
+                slot = (slot + 1) & mask;
+            }
+            return NONE;
+        }
+
+        int add(long key, int value) {
+            if ((usedSlots + 1) * 2 > keys.length) {
+                rehash();
+            }
+            int slot = slot(key);
+            while (heads[slot] != FREE_SLOT && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (heads[slot] == FREE_SLOT) {
+                keys[slot] = key;
+                heads[slot] = NONE;
+                usedSlots++;
+            }
+            int e = allocateEntry();
+            payload[e] = value;
+            slotOf[e] = slot;
+            prev[e] = NONE;
+            next[e] = heads[slot];
+            if (next[e] != NONE) prev[next[e]] = e;
+            heads[slot] = e;
+            link[e] = NONE;
+            return e;
+        }
+
+        void remove(int e) {
+            if (prev[e] != NONE) {
+                next[prev[e]] = next[e];
+            } else {
+                heads[slotOf[e]] = next[e];
+            }
+            if (next[e] != NONE) prev[next[e]] = prev[e];
+            next[e] = freeEntry;
+            freeEntry = e;
+        }
+
+        void clear() {
+            allocateTable(16);
+            entryCount = 0;
+            freeEntry = NONE;
+        }
+
+        private int allocateEntry() {
+            if (freeEntry != NONE) {
+                int e = freeEntry;
+                freeEntry = next[e];
+                return e;
+            }
+            if (entryCount == payload.length) {
+                int capacity = entryCount * 2;
+                payload = Arrays.copyOf(payload, capacity);
+                next = Arrays.copyOf(next, capacity);
+                link = Arrays.copyOf(link, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+                slotOf = Arrays.copyOf(slotOf, capacity);
+            }
+            return entryCount++;
+        }
+
+        /**
+         * Rebuilds the table keeping only cells with a non-empty list (drops slots left by removals).
+         */
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldHeads = heads;
+            int liveSlots = 0;
+            for (int head : oldHeads) {
+                if (head >= 0) liveSlots++;
+            }
+            allocateTable(Math.max(16, Integer.highestOneBit(Math.max(1, liveSlots)) << 2));
+            for (int s = 0; s < oldKeys.length; s++) {
+                if (oldHeads[s] < 0) continue;
+                int slot = slot(oldKeys[s]);
+                while (heads[slot] != FREE_SLOT) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[s];
+                heads[slot] = oldHeads[s];
+                usedSlots++;
+                for (int e = oldHeads[s]; e != NONE; e = next[e]) {
+                    slotOf[e] = slot;
+                }
+            }
+        }
+
+        private void allocateTable(int capacity) {
+            keys = new long[capacity];
+            heads = new int[capacity];
+            Arrays.fill(heads, FREE_SLOT);
+            mask = capacity - 1;
+            usedSlots = 0;
+        }
+
+        private int slot(long key) {
+            long h = key; // fmix64 finalizer from MurmurHash3
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return (int) h & mask;
+        }
+    }
+
+    /**
+     * Binary min-heap of handles keyed by nnDistSq, with positions for O(log n) update and removal.
+     */
+    private class IndexedMinHeap {
+        int[] heap = new int[16];
+        int[] pos = new int[16];
+        int size = 0;
+
+        IndexedMinHeap() {
+            Arrays.fill(pos, NONE);
+        }
+
+        void grow(int capacity) {
+            int old = pos.length;
+            heap = Arrays.copyOf(heap, capacity);
+            pos = Arrays.copyOf(pos, capacity);
+            Arrays.fill(pos, old, capacity, NONE);
+        }
+
+        /**
+         * Inserts p or restores heap order after its key changed.
+         */
+        void update(int p) {
+            if (pos[p] == NONE) {
+                heap[size] = p;
+                pos[p] = size++;
+            }
+            siftDown(siftUp(pos[p]));
+        }
+
+        void remove(int p) {
+            int i = pos[p];
+            if (i == NONE) return;
+            pos[p] = NONE;
+            int last = heap[--size];
+            if (i == size) return;
+            heap[i] = last;
+            pos[last] = i;
+            siftDown(siftUp(i));
+        }
+
+        private int siftUp(int i) {
+            int p = heap[i];
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (nnDistSq[heap[parent]] <= nnDistSq[p]) break;
+                heap[i] = heap[parent];
+                pos[heap[i]] = i;
+                i = parent;
+            }
+            heap[i] = p;
+            pos[p] = i;
+            return i;
+        }
+
+        private void siftDown(int i) {
+            int p = heap[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && nnDistSq[heap[child + 1]] < nnDistSq[heap[child]]) child++;
+                if (nnDistSq[heap[child]] >= nnDistSq[p]) break;
+                heap[i] = heap[child];
+                pos[heap[i]] = i;
+                i = child;
+            }
+            heap[i] = p;
+            pos[p] = i;
+        }
+    }
+}
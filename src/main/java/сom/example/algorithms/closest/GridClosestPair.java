@@ -0,0 +1,253 @@
+package сom.example.algorithms.closest;
+
+import сom.example.algorithms.closest.PrimitiveClosestPair.Best;
+import сom.example.algorithms.closest.PrimitiveClosestPair.Workspace;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Randomized incremental closest pair with grid hashing (Rabin; Khuller and Matias), expected O(n).
+ * Points are inserted in random order into a hash grid whose cell size equals the current best distance,
+ * so only the 3x3 cells around a new point can hold a closer neighbour. When a closer pair shows up the
+ * grid is rebuilt with the smaller cell size; in random order that happens at step i with probability
+ * at most 2/i, so the expected total rebuild work is linear.
+ * Duplicate points are ignored, as in {@link ClosestPair}.
+ */
+public class GridClosestPair {
+
+    // Cell coordinates are kept below 2^30 so that rounding in the cell computation is covered by CELL_SLACK
+    private static final double MAX_CELLS_PER_AXIS = 1 << 30;
+    private static final double CELL_SLACK = 1 + 1.0 / (1 << 20);
+
+    private final Random random;
+
+    public GridClosestPair() {
+        this(new Random());
+    }
+
+    /**
+     * @param random Source of the insertion order (seed it for reproducible runs).
+     */
+    public GridClosestPair(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Finds the minimum distance between any pair of distinct points, like {@link ClosestPair}.
+     */
+    public double findClosestPair(ClosestPair.Point[] points, Tracker tracker) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        return findClosestPair(PointSet.of(points), tracker).getDistance();
+    }
+
+    /**
+     * Finds the closest pair of distinct points.
+     * @param points Point set with at least 2 points.
+     * @param tracker Metrics tracker for performance data.
+     * @return Indices of the closest pair and their distance (0.0 and -1 indices if all points coincide).
+     */
+    public ClosestPairResult findClosestPair(PointSet points, Tracker tracker) {
+        if (points == null || points.size() < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        tracker.start();
+        Best best = search(points, tracker);
+        tracker.stop();
+        return best.toResult();
+    }
+
+    private Best search(PointSet points, Tracker tracker) {
+        int n = points.size();
+        double[] xs = points.getXs();
+        double[] ys = points.getYs();
+        double minX = xs[0], minY = ys[0], maxX = xs[0], maxY = ys[0];
+        for (int i = 1; i < n; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        double span = Math.max(maxX - minX, maxY - minY);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) { // Fisher-Yates
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        tracker.incrementAllocation(); // For the insertion order
+
+        Best best = new Best();
+        int second = 1;
+        while (second < n && xs[order[second]] == xs[order[0]] && ys[order[second]] == ys[order[0]]) {
+            second++;
+        }
+        if (second == n) {
+            return best; // All points coincide
+        }
+        best.update(squaredDistance(xs, ys, order[0], order[second]), order[0], order[second]);
+        tracker.incrementComparison();
+
+        CellTable grid = new CellTable(n);
+        tracker.incrementAllocation(); // For the hash grid
+        int[] members = new int[n];
+        int memberCount = 0;
+        members[memberCount++] = order[0];
+        members[memberCount++] = order[second];
+        double inv = inverseCellSize(best.sq, span);
+        if (inv < 0) {
+            return fallback(points, tracker);
+        }
+        grid.rebuild(members, memberCount, xs, ys, minX, minY, inv);
+
+        for (int i = 1; i < n; i++) {
+            if (i == second) continue;
+            int q = order[i];
+            long cx = (long) ((xs[q] - minX) * inv);
+            long cy = (long) ((ys[q] - minY) * inv);
+            boolean duplicate = false;
+            boolean improved = false;
+            for (long gx = cx - 1; gx <= cx + 1; gx++) {
+                for (long gy = cy - 1; gy <= cy + 1; gy++) {
+                    for (int p = grid.head(key(gx, gy)); p >= 0; p = grid.next[p]) {
+                        double distSq = squaredDistance(xs, ys, p, q);
+                        tracker.incrementComparison();
+                        if (distSq == 0) {
+                            duplicate = true;
+                        } else if (distSq < best.sq) {
+                            best.update(distSq, p, q);
+                            improved = true;
+                        }
+                    }
+                }
+            }
+            if (duplicate) {
+                continue; // Its twin is already in the grid
+            }
+            members[memberCount++] = q;
+            if (improved) {
+                inv = inverseCellSize(best.sq, span);
+                if (inv < 0) {
+                    return fallback(points, tracker);
+                }
+                grid.rebuild(members, memberCount, xs, ys, minX, minY, inv);
+            } else {
+                grid.insert(key(cx, cy), q);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns 1 / cell size for the given best squared distance, or -1 if the grid would need
+     * more than 2^30 cells per axis (extreme coordinate range relative to the distance).
+     */
+    private static double inverseCellSize(double bestSq, double span) {
+        double cellSize = Math.sqrt(bestSq) * CELL_SLACK;
+        if (span / cellSize >= MAX_CELLS_PER_AXIS) {
+            return -1;
+        }
+        return 1.0 / cellSize;
+    }
+
+    /**
+     * Finishes with the deterministic divide and conquer when the grid cannot resolve the distance.
+     */
+    private static Best fallback(PointSet points, Tracker tracker) {
+        Workspace ws = Workspace.gather(points, points.sortedIndicesByX(), tracker);
+        Best best = new Best();
+        if (ws.n >= 2) {
+            PrimitiveClosestPair.solve(ws, 0, ws.n - 1, best, tracker);
+        }
+        return best;
+    }
+
+    private static double squaredDistance(double[] xs, double[] ys, int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return dx * dx + dy * dy;
+    }
+
+    private static long key(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    /**
+     * Open-addressing hash table from cell key to a chain of point indices.
+     * Chains live in the next[] array indexed by point, so the grid allocates nothing per point;
+     * clearing touches only the slots used since the last rebuild.
+     */
+    private static class CellTable {
+        private static final int EMPTY = -1;
+
+        private final long[] keys;
+        private final int[] heads;
+        private final int[] usedSlots;
+        private final int mask;
+        private int usedCount = 0;
+        final int[] next;
+
+        CellTable(int maxPoints) {
+            int capacity = Integer.highestOneBit(Math.max(4, maxPoints) - 1) << 2; // Load factor <= 1/2
+            keys = new long[capacity];
+            heads = new int[capacity];
+            Arrays.fill(heads, EMPTY);
+            usedSlots = new int[maxPoints];
+            mask = capacity - 1;
+            next = new int[maxPoints];
+        }
+
+        int head(long key) {
+            int slot = slot(key);
+            while (heads[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return heads[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return EMPTY;
+        }
+
+        void insert(long key, int point) {
+            int slot = slot(key);
+            while (heads[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (heads[slot] == EMPTY) {
+                keys[slot] = key;
+                usedSlots[usedCount++] = slot;
+            }
+            next[point] = heads[slot];
+            heads[slot] = point;
+        }
+
+        void rebuild(int[] members, int count, double[] xs, double[] ys, double minX, double minY, double inv) {
+            for (int i = 0; i < usedCount; i++) {
+                heads[usedSlots[i]] = EMPTY;
+            }
+            usedCount = 0;
+            for (int i = 0; i < count; i++) {
+                int p = members[i];
+                insert(key((long) ((xs[p] - minX) * inv), (long) ((ys[p] - minY) * inv)), p);
+            }
+        }
+
+        private int slot(long key) {
+            long h = key; // fmix64 finalizer from MurmurHash3
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return (int) h & mask;
+        }
+    }
+}
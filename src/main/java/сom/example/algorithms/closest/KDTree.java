@@ -0,0 +1,468 @@
+package сom.example.algorithms.closest;
+
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Build-once 2D KD-tree over a {@link PointSet} for repeated nearest-neighbour, k-nearest,
+ * radius and k-closest-pair queries. The tree is implicit: each node is a range of a permuted
+ * copy of the coordinates, split at its median (found with {@link DeterministicSelect#selectIndex})
+ * alternately by x and y, so there are no node objects and leaves are contiguous.
+ * Queries are read-only and can run concurrently; the batch variants fan out over a ForkJoinPool.
+ * Results refer to points by their index in the original point set.
+ */
+public class KDTree {
+
+    private static final int LEAF_SIZE = 8;
+    private static final int BATCH_CHUNK = 256; // Queries per task in batch mode
+
+    private final double[] tx;
+    private final double[] ty;
+    private final int[] tid;
+    private final int n;
+    private final ForkJoinPool pool;
+
+    public KDTree(PointSet points, Tracker tracker) {
+        this(points, tracker, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the tree in O(n log n) with linear-time median splits.
+     * @param points The point cloud (not modified).
+     * @param tracker Metrics tracker for the build.
+     * @param pool Pool used by the batch queries.
+     */
+    public KDTree(PointSet points, Tracker tracker, ForkJoinPool pool) {
+        if (points == null || points.size() == 0) {
+            throw new IllegalArgumentException("At least 1 point required");
+        }
+        this.pool = pool;
+        n = points.size();
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        tracker.start();
+        build(order, points.getXs(), points.getYs(), 0, n, 0, new DeterministicSelect(), tracker);
+        tx = new double[n];
+        ty = new double[n];
+        tid = order;
+        for (int i = 0; i < n; i++) {
+            tx[i] = points.x(order[i]);
+            ty[i] = points.y(order[i]);
+        }
+        tracker.incrementAllocation(); // For the permuted coordinates
+        tracker.stop();
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns the point closest to (x, y) as a one-element list.
+     */
+    public NeighborList nearest(double x, double y) {
+        return kNearest(x, y, 1);
+    }
+
+    /**
+     * Returns the k points closest to (x, y), nearest first.
+     */
+    public NeighborList kNearest(double x, double y, int k) {
+        if (k <= 0) throw new IllegalArgumentException("k must be positive");
+        KnnHeap heap = new KnnHeap(Math.min(k, n));
+        searchKnn(0, n, 0, x, y, heap);
+        return heap.toSortedList();
+    }
+
+    /**
+     * Returns all points within distance r of (x, y) (inclusive), nearest first.
+     */
+    public NeighborList withinRadius(double x, double y, double r) {
+        if (r < 0) throw new IllegalArgumentException("radius must be non-negative");
+        RadiusCollector collector = new RadiusCollector(r * r);
+        searchRadius(0, n, 0, x, y, collector);
+        return collector.toSortedList();
+    }
+
+    /**
+     * Nearest neighbour of every query point, answered in parallel.
+     * @return One entry per query, in query order (not sorted by distance).
+     */
+    public NeighborList nearestBatch(double[] qx, double[] qy) {
+        checkBatch(qx, qy);
+        int[] indices = new int[qx.length];
+        double[] distances = new double[qx.length];
+        pool.invoke(new BatchTask(0, qx.length, i -> {
+            NeighborList result = nearest(qx[i], qy[i]);
+            indices[i] = result.index(0);
+            distances[i] = result.distance(0);
+        }));
+        return new NeighborList(indices, distances);
+    }
+
+    /**
+     * k nearest neighbours of every query point, answered in parallel.
+     */
+    public NeighborList[] kNearestBatch(double[] qx, double[] qy, int k) {
+        checkBatch(qx, qy);
+        NeighborList[] results = new NeighborList[qx.length];
+        pool.invoke(new BatchTask(0, qx.length, i -> results[i] = kNearest(qx[i], qy[i], k)));
+        return results;
+    }
+
+    /**
+     * Radius query for every query point, answered in parallel.
+     */
+    public NeighborList[] withinRadiusBatch(double[] qx, double[] qy, double r) {
+        checkBatch(qx, qy);
+        NeighborList[] results = new NeighborList[qx.length];
+        pool.invoke(new BatchTask(0, qx.length, i -> results[i] = withinRadius(qx[i], qy[i], r)));
+        return results;
+    }
+
+    /**
+     * Returns the k closest pairs of points, closest first. Pairs of coincident points count with distance 0.
+     * Each of the k closest pairs (p, q) has q among the k nearest neighbours of p, so the pairs are
+     * taken from a parallel k-nearest batch over all points and reduced with a bounded heap.
+     */
+    public ClosestPairResult[] kClosestPairs(int k) {
+        if (k <= 0) throw new IllegalArgumentException("k must be positive");
+        long maxPairs = (long) n * (n - 1) / 2;
+        k = (int) Math.min(k, maxPairs);
+        if (k == 0) return new ClosestPairResult[0];
+
+        double[] qx = new double[n];
+        double[] qy = new double[n];
+        for (int p = 0; p < n; p++) {
+            qx[p] = tx[p];
+            qy[p] = ty[p];
+        }
+        NeighborList[] neighbours = kNearestBatch(qx, qy, k + 1); // +1 for the point itself
+        PairHeap heap = new PairHeap(k);
+        for (int p = 0; p < n; p++) {
+            int self = tid[p];
+            NeighborList list = neighbours[p];
+            for (int i = 0; i < list.size(); i++) {
+                int other = list.index(i);
+                if (other != self) {
+                    heap.offer(list.distance(i), Math.min(self, other), Math.max(self, other));
+                }
+            }
+        }
+        return heap.toSortedResults();
+    }
+
+    /**
+     * Recursively arranges order[lo..hi) so that the median by the split axis sits at the middle.
+     */
+    private static void build(int[] order, double[] xs, double[] ys, int lo, int hi, int depth,
+                              DeterministicSelect select, Tracker tracker) {
+        try {
+            tracker.enterRecursion();
+            if (hi - lo <= LEAF_SIZE) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            select.selectIndex(order, (depth & 1) == 0 ? xs : ys, lo, hi - 1, mid, tracker);
+            build(order, xs, ys, lo, mid, depth + 1, select, tracker);
+            build(order, xs, ys, mid + 1, hi, depth + 1, select, tracker);
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private void searchKnn(int lo, int hi, int depth, double x, double y, KnnHeap heap) {
+        if (hi - lo <= LEAF_SIZE) {
+            for (int i = lo; i < hi; i++) {
+                heap.offer(squaredDistance(i, x, y), tid[i]);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double diff = (depth & 1) == 0 ? x - tx[mid] : y - ty[mid];
+        heap.offer(squaredDistance(mid, x, y), tid[mid]);
+        if (diff < 0) {
+            searchKnn(lo, mid, depth + 1, x, y, heap);
+            if (diff * diff < heap.bound()) searchKnn(mid + 1, hi, depth + 1, x, y, heap);
+        } else {
+            searchKnn(mid + 1, hi, depth + 1, x, y, heap);
+            if (diff * diff < heap.bound()) searchKnn(lo, mid, depth + 1, x, y, heap);
+        }
+    }
+
+    private void searchRadius(int lo, int hi, int depth, double x, double y, RadiusCollector collector) {
+        if (hi - lo <= LEAF_SIZE) {
+            for (int i = lo; i < hi; i++) {
+                collector.offer(squaredDistance(i, x, y), tid[i]);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double diff = (depth & 1) == 0 ? x - tx[mid] : y - ty[mid];
+        collector.offer(squaredDistance(mid, x, y), tid[mid]);
+        if (diff <= 0 || diff * diff <= collector.radiusSq) searchRadius(lo, mid, depth + 1, x, y, collector);
+        if (diff >= 0 || diff * diff <= collector.radiusSq) searchRadius(mid + 1, hi, depth + 1, x, y, collector);
+    }
+
+    private double squaredDistance(int i, double x, double y) {
+        double dx = tx[i] - x;
+        double dy = ty[i] - y;
+        return dx * dx + dy * dy;
+    }
+
+    private static void checkBatch(double[] qx, double[] qy) {
+        if (qx == null || qy == null || qx.length != qy.length) {
+            throw new IllegalArgumentException("Query coordinate arrays must be non-null and of equal length");
+        }
+    }
+
+    private interface QueryBody {
+        void run(int query);
+    }
+
+    /**
+     * Runs a query body over [from, to), splitting into BATCH_CHUNK-sized tasks.
+     */
+    private static class BatchTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final QueryBody body;
+
+        BatchTask(int from, int to, QueryBody body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_CHUNK) {
+                for (int i = from; i < to; i++) {
+                    body.run(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(from, mid, body), new BatchTask(mid, to, body));
+        }
+    }
+
+    /**
+     * Bounded max-heap of (squared distance, index) keeping the k smallest.
+     */
+    private static class KnnHeap {
+        private final double[] dist;
+        private final int[] idx;
+        private int size = 0;
+
+        KnnHeap(int k) {
+            dist = new double[k];
+            idx = new int[k];
+        }
+
+        double bound() {
+            return size < dist.length ? Double.POSITIVE_INFINITY : dist[0];
+        }
+
+        void offer(double d, int index) {
+            if (size < dist.length) {
+                int i = size++;
+                while (i > 0 && dist[(i - 1) / 2] < d) { // Sift up
+                    int parent = (i - 1) / 2;
+                    dist[i] = dist[parent];
+                    idx[i] = idx[parent];
+                    i = parent;
+                }
+                dist[i] = d;
+                idx[i] = index;
+            } else if (d < dist[0]) {
+                siftDown(d, index);
+            }
+        }
+
+        private void siftDown(double d, int index) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && dist[child + 1] > dist[child]) child++;
+                if (dist[child] <= d) break;
+                dist[i] = dist[child];
+                idx[i] = idx[child];
+                i = child;
+            }
+            dist[i] = d;
+            idx[i] = index;
+        }
+
+        NeighborList toSortedList() {
+            int[] indices = new int[size];
+            double[] distances = new double[size];
+            for (int out = size - 1; out >= 0; out--) { // Pop the maximum into the back
+                indices[out] = idx[0];
+                distances[out] = Math.sqrt(dist[0]);
+                size--;
+                if (size > 0) siftDown(dist[size], idx[size]);
+            }
+            return new NeighborList(indices, distances);
+        }
+    }
+
+    /**
+     * Growable collector of (squared distance, index) within a squared radius.
+     */
+    private static class RadiusCollector {
+        private final double radiusSq;
+        private double[] dist = new double[16];
+        private int[] idx = new int[16];
+        private int size = 0;
+
+        RadiusCollector(double radiusSq) {
+            this.radiusSq = radiusSq;
+        }
+
+        void offer(double d, int index) {
+            if (d > radiusSq) return;
+            if (size == dist.length) {
+                dist = Arrays.copyOf(dist, size * 2);
+                idx = Arrays.copyOf(idx, size * 2);
+            }
+            dist[size] = d;
+            idx[size] = index;
+            size++;
+        }
+
+        NeighborList toSortedList() {
+            KnnHeap heap = new KnnHeap(Math.max(1, size));
+            for (int i = 0; i < size; i++) {
+                heap.offer(dist[i], idx[i]);
+            }
+            return size == 0 ? new NeighborList(new int[0], new double[0]) : heap.toSortedList();
+        }
+    }
+
+    /**
+     * Bounded max-heap of pairs ordered by (distance, first, second), skipping repeated pairs.
+     * A pair is usually offered from both of its endpoints; an open-addressing table of the packed
+     * keys in the heap rejects the second offer in O(1) without boxing, so n·k offers cost O(n·k log k).
+     */
+    private static class PairHeap {
+        private static final long EMPTY = -1L; // Packed keys of index pairs are non-negative
+
+        private final double[] dist;
+        private final long[] keys;
+        private final long[] table; // Keys in the heap, linear probing, at most half full
+        private final int mask;
+        private int size = 0;
+
+        PairHeap(int k) {
+            dist = new double[k];
+            keys = new long[k];
+            table = new long[Math.max(16, Integer.highestOneBit(k) << 2)];
+            Arrays.fill(table, EMPTY);
+            mask = table.length - 1;
+        }
+
+        void offer(double d, int first, int second) {
+            long key = ((long) first << 32) | second;
+            if (size == dist.length && !less(d, key, dist[0], keys[0])) {
+                return;
+            }
+            if (!addKey(key)) {
+                return;
+            }
+            if (size < dist.length) {
+                int i = size++;
+                while (i > 0 && less(dist[(i - 1) / 2], keys[(i - 1) / 2], d, key)) {
+                    int parent = (i - 1) / 2;
+                    dist[i] = dist[parent];
+                    keys[i] = keys[parent];
+                    i = parent;
+                }
+                dist[i] = d;
+                keys[i] = key;
+            } else {
+                removeKey(keys[0]); // Evicted; a later offer of it cannot beat the new root
+                siftDown(d, key);
+            }
+        }
+
+        private void siftDown(double d, long key) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && less(dist[child], keys[child], dist[child + 1], keys[child + 1])) child++;
+                if (!less(d, key, dist[child], keys[child])) break;
+                dist[i] = dist[child];
+                keys[i] = keys[child];
+                i = child;
+            }
+            dist[i] = d;
+            keys[i] = key;
+        }
+
+        /**
+         * @return False if the key is already in the table.
+         */
+        private boolean addKey(long key) {
+            int slot = slot(key);
+            while (table[slot] != EMPTY) {
+                if (table[slot] == key) return false;
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+            return true;
+        }
+
+        /**
+         * Removes a key that is in the table, shifting later keys of its probe run back so lookups
+         * never stop early at the freed slot (no tombstones).
+         */
+        private void removeKey(long key) {
+            int hole = slot(key);
+            while (table[hole] != key) {
+                hole = (hole + 1) & mask;
+            }
+            for (int next = (hole + 1) & mask; table[next] != EMPTY; next = (next + 1) & mask) {
+                int home = slot(table[next]);
+                // Move the key back unless its home lies cyclically in (hole, next]
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    table[hole] = table[next];
+                    hole = next;
+                }
+            }
+            table[hole] = EMPTY;
+        }
+
+        private int slot(long key) {
+            long h = key; // fmix64 finalizer from MurmurHash3
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return (int) h & mask;
+        }
+
+        private static boolean less(double d1, long k1, double d2, long k2) {
+            return d1 < d2 || (d1 == d2 && k1 < k2);
+        }
+
+        ClosestPairResult[] toSortedResults() {
+            ClosestPairResult[] results = new ClosestPairResult[size];
+            for (int out = size - 1; out >= 0; out--) {
+                results[out] = new ClosestPairResult((int) (keys[0] >>> 32), (int) keys[0], dist[0]);
+                size--;
+                if (size > 0) siftDown(dist[size], keys[size]);
+            }
+            return results;
+        }
+    }
+}
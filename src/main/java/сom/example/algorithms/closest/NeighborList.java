@@ -0,0 +1,39 @@
+package сom.example.algorithms.closest;
+
+/**
+ * Result of a spatial query: point indices with their distances to the query point,
+ * in ascending distance order unless stated otherwise by the query.
+ */
+public class NeighborList {
+
+    private final int[] indices;
+    private final double[] distances;
+
+    public NeighborList(int[] indices, double[] distances) {
+        if (indices.length != distances.length) {
+            throw new IllegalArgumentException("Indices and distances must have the same length");
+        }
+        this.indices = indices;
+        this.distances = distances;
+    }
+
+    public int size() {
+        return indices.length;
+    }
+
+    public int index(int i) {
+        return indices[i];
+    }
+
+    public double distance(int i) {
+        return distances[i];
+    }
+
+    public int[] getIndices() {
+        return indices;
+    }
+
+    public double[] getDistances() {
+        return distances;
+    }
+}
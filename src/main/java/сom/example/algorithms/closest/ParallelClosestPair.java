@@ -0,0 +1,206 @@
+package сom.example.algorithms.closest;
+
+import сom.example.algorithms.closest.PrimitiveClosestPair.Best;
+import сom.example.algorithms.closest.PrimitiveClosestPair.Workspace;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join parallel version of {@link PrimitiveClosestPair}.
+ * The index sort by x, the two recursive halves and the strip scans of large strips run as
+ * separate tasks above a size threshold; below it the sequential engine takes over.
+ * The minimum is taken over the same squared distances, so the result is exactly the sequential one.
+ * Every forked task records into its own child tracker, which is joined back after the task completes.
+ */
+public class ParallelClosestPair {
+
+    private static final int DEFAULT_THRESHOLD = 1 << 13;
+    private static final int STRIP_CHUNK = 1 << 12; // Strip points scanned per task
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelClosestPair() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool Pool to run the tasks on (its parallelism bounds the cores used).
+     * @param threshold Subproblem size below which the recursion runs sequentially.
+     */
+    public ParallelClosestPair(ForkJoinPool pool, int threshold) {
+        if (threshold < 4) {
+            throw new IllegalArgumentException("threshold must be at least 4");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Finds the minimum distance between any pair of distinct points, like {@link ClosestPair}.
+     */
+    public double findClosestPair(ClosestPair.Point[] points, Tracker tracker) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        return findClosestPair(PointSet.of(points), tracker).getDistance();
+    }
+
+    /**
+     * Finds the closest pair of distinct points, like {@link PrimitiveClosestPair}.
+     */
+    public ClosestPairResult findClosestPair(PointSet points, Tracker tracker) {
+        if (points == null || points.size() < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        tracker.start();
+        int n = points.size();
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        tracker.incrementAllocation(); // For the index permutation
+        tracker.enterPhase("sort");
+        pool.invoke(new SortTask(points, order, new int[n], 0, n - 1));
+        tracker.exitPhase();
+        Workspace ws = Workspace.gather(points, order, tracker);
+        Best best = new Best();
+        if (ws.n >= 2) {
+            best = pool.invoke(new SolveTask(ws, 0, ws.n - 1, tracker));
+        }
+        tracker.stop();
+        return best.toResult();
+    }
+
+    /**
+     * Parallel merge sort of the index permutation by (x, y).
+     */
+    private class SortTask extends RecursiveAction {
+        private final PointSet points;
+        private final int[] order;
+        private final int[] buffer;
+        private final int low;
+        private final int high;
+
+        SortTask(PointSet points, int[] order, int[] buffer, int low, int high) {
+            this.points = points;
+            this.order = order;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < threshold) {
+                points.sortIndicesByX(order, buffer, low, high);
+                return;
+            }
+            int mid = low + (high - low) / 2;
+            invokeAll(new SortTask(points, order, buffer, low, mid),
+                    new SortTask(points, order, buffer, mid + 1, high));
+            points.mergeIndices(order, buffer, low, mid, high);
+        }
+    }
+
+    /**
+     * One divide-and-conquer level over ws[lo..hi]; the halves run concurrently.
+     */
+    private class SolveTask extends RecursiveTask<Best> {
+        private final Workspace ws;
+        private final int lo;
+        private final int hi;
+        private final Tracker tracker;
+
+        SolveTask(Workspace ws, int lo, int hi, Tracker tracker) {
+            this.ws = ws;
+            this.lo = lo;
+            this.hi = hi;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected Best compute() {
+            Best best = new Best();
+            if (hi - lo < threshold) {
+                PrimitiveClosestPair.solve(ws, lo, hi, best, tracker);
+                return best;
+            }
+            try {
+                tracker.enterRecursion();
+                int mid = lo + (hi - lo) / 2;
+                double midX = ws.x[mid];
+                Tracker leftTracker = tracker.fork();
+                Tracker rightTracker = tracker.fork();
+                SolveTask left = new SolveTask(ws, lo, mid, leftTracker);
+                left.fork();
+                best.merge(new SolveTask(ws, mid + 1, hi, rightTracker).compute());
+                best.merge(left.join());
+                tracker.join(leftTracker);
+                tracker.join(rightTracker);
+
+                tracker.enterPhase("strip.sort");
+                PrimitiveClosestPair.mergeByY(ws, lo, mid, hi);
+                tracker.exitPhase();
+                tracker.enterPhase("strip.build");
+                int stripEnd = PrimitiveClosestPair.buildStrip(ws, lo, hi, midX, best.sq);
+                tracker.exitPhase();
+                tracker.enterPhase("strip.scan");
+                if (stripEnd - lo <= STRIP_CHUNK) {
+                    PrimitiveClosestPair.scanStrip(ws, lo, stripEnd, stripEnd, best, tracker);
+                } else {
+                    best.merge(new StripTask(ws, lo, stripEnd, stripEnd, best.sq, tracker).compute());
+                }
+                tracker.exitPhase();
+                return best;
+            } finally {
+                tracker.exitRecursion();
+            }
+        }
+    }
+
+    /**
+     * Scans strip points [from, to) against their y-successors; large ranges split in two.
+     * Each part prunes with its own best, which starts at the bound known before the strip.
+     */
+    private static class StripTask extends RecursiveTask<Best> {
+        private final Workspace ws;
+        private final int from;
+        private final int to;
+        private final int stripEnd;
+        private final double boundSq;
+        private final Tracker tracker;
+
+        StripTask(Workspace ws, int from, int to, int stripEnd, double boundSq, Tracker tracker) {
+            this.ws = ws;
+            this.from = from;
+            this.to = to;
+            this.stripEnd = stripEnd;
+            this.boundSq = boundSq;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected Best compute() {
+            Best best = new Best();
+            best.sq = boundSq;
+            if (to - from <= STRIP_CHUNK) {
+                PrimitiveClosestPair.scanStrip(ws, from, to, stripEnd, best, tracker);
+                return best;
+            }
+            int mid = from + (to - from) / 2;
+            Tracker leftTracker = tracker.fork();
+            Tracker rightTracker = tracker.fork();
+            StripTask left = new StripTask(ws, from, mid, stripEnd, boundSq, leftTracker);
+            left.fork();
+            best.merge(new StripTask(ws, mid, to, stripEnd, boundSq, rightTracker).compute());
+            best.merge(left.join());
+            tracker.join(leftTracker);
+            tracker.join(rightTracker);
+            return best;
+        }
+    }
+}
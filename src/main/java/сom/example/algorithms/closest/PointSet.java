@@ -0,0 +1,140 @@
+package сom.example.algorithms.closest;
+
+/**
+ * Structure-of-arrays storage for 2D points: coordinates live in two primitive arrays,
+ * so a point costs 16 bytes instead of an object header, two fields and a reference.
+ * Sorting never moves coordinates; it produces an index permutation that callers gather through.
+ */
+public class PointSet {
+
+    private static final int CUTOFF = 16; // Threshold for switching to insertion sort
+
+    private final double[] xs;
+    private final double[] ys;
+
+    /**
+     * Wraps coordinate arrays without copying them.
+     * @param xs X coordinates.
+     * @param ys Y coordinates, same length as xs.
+     */
+    public PointSet(double[] xs, double[] ys) {
+        if (xs == null || ys == null) {
+            throw new IllegalArgumentException("Coordinate arrays cannot be null");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    /**
+     * Copies an array of point objects into a new point set.
+     */
+    public static PointSet of(ClosestPair.Point[] points) {
+        if (points == null) throw new IllegalArgumentException("Points cannot be null");
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+        return new PointSet(xs, ys);
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public double x(int i) {
+        return xs[i];
+    }
+
+    public double y(int i) {
+        return ys[i];
+    }
+
+    public double[] getXs() {
+        return xs;
+    }
+
+    public double[] getYs() {
+        return ys;
+    }
+
+    /**
+     * Euclidean distance between points i and j.
+     */
+    public double distance(int i, int j) {
+        double dx = xs[i] - xs[j];
+        double dy = ys[i] - ys[j];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Returns the permutation that orders the points lexicographically by (x, y).
+     * Stable merge sort on indices with an insertion-sort cutoff; coordinates are not moved.
+     */
+    public int[] sortedIndicesByX() {
+        int n = xs.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        sortIndicesByX(order, new int[n], 0, n - 1);
+        return order;
+    }
+
+    /**
+     * Sorts order[low..high] by (x, y) using buffer as merge scratch space.
+     */
+    void sortIndicesByX(int[] order, int[] buffer, int low, int high) {
+        if (high - low < CUTOFF) {
+            insertionSort(order, low, high);
+            return;
+        }
+        int mid = low + (high - low) / 2;
+        sortIndicesByX(order, buffer, low, mid);
+        sortIndicesByX(order, buffer, mid + 1, high);
+        mergeIndices(order, buffer, low, mid, high);
+    }
+
+    /**
+     * Merges the sorted runs order[low..mid] and order[mid+1..high].
+     */
+    void mergeIndices(int[] order, int[] buffer, int low, int mid, int high) {
+        if (!lessByX(order[mid + 1], order[mid])) {
+            return; // Already in order
+        }
+        System.arraycopy(order, low, buffer, low, high - low + 1);
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                order[k] = buffer[j++];
+            } else if (j > high) {
+                order[k] = buffer[i++];
+            } else if (lessByX(buffer[j], buffer[i])) {
+                order[k] = buffer[j++];
+            } else {
+                order[k] = buffer[i++];
+            }
+        }
+    }
+
+    private void insertionSort(int[] order, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = order[i];
+            int j = i - 1;
+            while (j >= low && lessByX(key, order[j])) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = key;
+        }
+    }
+
+    private boolean lessByX(int a, int b) {
+        int cmp = Double.compare(xs[a], xs[b]);
+        return cmp < 0 || (cmp == 0 && Double.compare(ys[a], ys[b]) < 0);
+    }
+}
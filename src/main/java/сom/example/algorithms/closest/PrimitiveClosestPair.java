@@ -0,0 +1,260 @@
+package сom.example.algorithms.closest;
+
+import сom.example.algorithms.simd.Kernels;
+import сom.example.algorithms.simd.Simd;
+import сom.example.algorithms.util.Tracker;
+
+/**
+ * Closest-pair engine over a {@link PointSet}: the same divide-and-conquer as {@link ClosestPair},
+ * but on primitive coordinate arrays gathered once in x-order, comparing squared distances
+ * throughout and taking a single square root for the final answer.
+ * Duplicate points are ignored; the result identifies the pair by its indices in the point set.
+ */
+public class PrimitiveClosestPair {
+
+    private static final Kernels SIMD = Simd.kernels();
+
+    /**
+     * Finds the closest pair of distinct points.
+     * @param points Point set with at least 2 points.
+     * @param tracker Metrics tracker for performance data.
+     * @return Indices of the closest pair and their distance (0.0 and -1 indices if all points coincide).
+     */
+    public ClosestPairResult findClosestPair(PointSet points, Tracker tracker) {
+        if (points == null || points.size() < 2) {
+            throw new IllegalArgumentException("At least 2 points required");
+        }
+        tracker.start();
+        tracker.enterPhase("sort");
+        int[] order = points.sortedIndicesByX();
+        tracker.exitPhase();
+        tracker.incrementAllocation(); // For the index permutation
+        Workspace ws = Workspace.gather(points, order, tracker);
+        Best best = new Best();
+        if (ws.n >= 2) {
+            solve(ws, 0, ws.n - 1, best, tracker);
+        }
+        tracker.stop();
+        return best.toResult();
+    }
+
+    /**
+     * Recursive helper over ws[lo..hi], which is x-sorted on entry and y-sorted on exit.
+     * T(n) = 2T(n/2) + O(n) -> Master Case 2, thus Θ(n log n).
+     */
+    static void solve(Workspace ws, int lo, int hi, Best best, Tracker tracker) {
+        try {
+            tracker.enterRecursion();
+            if (hi - lo < 3) {
+                bruteForce(ws, lo, hi, best, tracker);
+                insertionSortByY(ws, lo, hi);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            double midX = ws.x[mid];
+            solve(ws, lo, mid, best, tracker);
+            solve(ws, mid + 1, hi, best, tracker);
+            tracker.enterPhase("strip.sort");
+            mergeByY(ws, lo, mid, hi);
+            tracker.exitPhase();
+            tracker.enterPhase("strip.build");
+            int stripEnd = buildStrip(ws, lo, hi, midX, best.sq);
+            tracker.exitPhase();
+            tracker.enterPhase("strip.scan");
+            scanStrip(ws, lo, stripEnd, stripEnd, best, tracker);
+            tracker.exitPhase();
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Copies the points within sqrt(bestSq) of midX, in y-order, into the scratch arrays at [lo, end).
+     * @return End (exclusive) of the strip in the scratch arrays.
+     */
+    static int buildStrip(Workspace ws, int lo, int hi, double midX, double bestSq) {
+        int end = lo;
+        for (int i = lo; i <= hi; i++) {
+            double dx = ws.x[i] - midX;
+            if (dx * dx < bestSq) {
+                ws.sx[end] = ws.x[i];
+                ws.sy[end] = ws.y[i];
+                ws.sid[end] = ws.id[i];
+                end++;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Compares every strip point in [from, to) with its successors in y-order (at most 7 of them)
+     * until the y-gap alone reaches the best distance. With the SIMD kernels (see {@link Simd}),
+     * the successors of a point are compared in one vector and reduced to their minimum.
+     */
+    static void scanStrip(Workspace ws, int from, int to, int stripEnd, Best best, Tracker tracker) {
+        double[] sx = ws.sx;
+        double[] sy = ws.sy;
+        if (SIMD != null) {
+            for (int i = from; i < to; i++) {
+                int j = SIMD.closestSuccessor(sx, sy, i, stripEnd, best.sq, tracker);
+                if (j >= 0) {
+                    double dx = sx[j] - sx[i];
+                    double dy = sy[j] - sy[i];
+                    best.update(dx * dx + dy * dy, ws.sid[i], ws.sid[j]);
+                }
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            for (int j = i + 1; j < stripEnd && (j - i) < 8; j++) {
+                double dy = sy[j] - sy[i];
+                if (dy * dy >= best.sq) break;
+                double dx = sx[j] - sx[i];
+                double distSq = dx * dx + dy * dy;
+                tracker.incrementComparison();
+                if (distSq < best.sq) {
+                    best.update(distSq, ws.sid[i], ws.sid[j]);
+                }
+            }
+        }
+    }
+
+    static void bruteForce(Workspace ws, int lo, int hi, Best best, Tracker tracker) {
+        for (int i = lo; i <= hi; i++) {
+            for (int j = i + 1; j <= hi; j++) {
+                double dx = ws.x[i] - ws.x[j];
+                double dy = ws.y[i] - ws.y[j];
+                double distSq = dx * dx + dy * dy;
+                tracker.incrementComparison();
+                if (distSq < best.sq) {
+                    best.update(distSq, ws.id[i], ws.id[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the y-sorted runs [lo..mid] and [mid+1..hi] through the scratch arrays.
+     */
+    static void mergeByY(Workspace ws, int lo, int mid, int hi) {
+        double[] x = ws.x, y = ws.y, sx = ws.sx, sy = ws.sy;
+        int[] id = ws.id, sid = ws.sid;
+        int len = hi - lo + 1;
+        System.arraycopy(x, lo, sx, lo, len);
+        System.arraycopy(y, lo, sy, lo, len);
+        System.arraycopy(id, lo, sid, lo, len);
+        int i = lo, j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            int from;
+            if (i > mid) {
+                from = j++;
+            } else if (j > hi) {
+                from = i++;
+            } else if (sy[j] < sy[i]) {
+                from = j++;
+            } else {
+                from = i++;
+            }
+            x[k] = sx[from];
+            y[k] = sy[from];
+            id[k] = sid[from];
+        }
+    }
+
+    static void insertionSortByY(Workspace ws, int lo, int hi) {
+        double[] x = ws.x, y = ws.y;
+        int[] id = ws.id;
+        for (int i = lo + 1; i <= hi; i++) {
+            double kx = x[i], ky = y[i];
+            int kid = id[i];
+            int j = i - 1;
+            while (j >= lo && y[j] > ky) {
+                x[j + 1] = x[j];
+                y[j + 1] = y[j];
+                id[j + 1] = id[j];
+                j--;
+            }
+            x[j + 1] = kx;
+            y[j + 1] = ky;
+            id[j + 1] = kid;
+        }
+    }
+
+    /**
+     * Contiguous x-ordered copy of the distinct points plus equally sized scratch arrays.
+     * Every recursion range [lo..hi] only touches the same range of the scratch arrays.
+     */
+    static class Workspace {
+        final double[] x;
+        final double[] y;
+        final int[] id;
+        final double[] sx;
+        final double[] sy;
+        final int[] sid;
+        final int n;
+
+        private Workspace(int n, double[] x, double[] y, int[] id) {
+            this.x = x;
+            this.y = y;
+            this.id = id;
+            this.sx = new double[n];
+            this.sy = new double[n];
+            this.sid = new int[n];
+            this.n = n;
+        }
+
+        /**
+         * Gathers the points in the given (x, y) order, dropping duplicates in the same pass.
+         */
+        static Workspace gather(PointSet points, int[] order, Tracker tracker) {
+            int size = order.length;
+            double[] xs = points.getXs();
+            double[] ys = points.getYs();
+            double[] x = new double[size];
+            double[] y = new double[size];
+            int[] id = new int[size];
+            int n = 0;
+            for (int k = 0; k < size; k++) {
+                int p = order[k];
+                if (n > 0 && xs[p] == x[n - 1] && ys[p] == y[n - 1]) {
+                    continue;
+                }
+                x[n] = xs[p];
+                y[n] = ys[p];
+                id[n] = p;
+                n++;
+            }
+            tracker.incrementAllocation(); // For the gathered coordinates
+            tracker.incrementAllocation(); // For the scratch arrays
+            return new Workspace(n, x, y, id);
+        }
+    }
+
+    /**
+     * Best pair seen so far, as a squared distance and two point indices.
+     */
+    static class Best {
+        double sq = Double.POSITIVE_INFINITY;
+        int first = -1;
+        int second = -1;
+
+        void update(double distSq, int a, int b) {
+            sq = distSq;
+            first = Math.min(a, b);
+            second = Math.max(a, b);
+        }
+
+        void merge(Best other) {
+            if (other.sq < sq) {
+                update(other.sq, other.first, other.second);
+            }
+        }
+
+        ClosestPairResult toResult() {
+            if (first < 0) {
+                return new ClosestPairResult(-1, -1, 0.0);
+            }
+            return new ClosestPairResult(first, second, Math.sqrt(sq));
+        }
+    }
+}
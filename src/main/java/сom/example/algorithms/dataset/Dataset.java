@@ -0,0 +1,282 @@
+package сom.example.algorithms.dataset;
+
+import сom.example.algorithms.closest.PointSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary dataset file, read through a memory mapping.
+ * <p>
+ * Layout (little-endian): a 32-byte header — magic "DAAD", format version (short), type code (byte),
+ * flags (byte), element count (long), generator seed (long), 8 reserved bytes — followed by the
+ * payload: {@code count} ints, longs or doubles, or for points {@code count} x coordinates followed
+ * by {@code count} y coordinates. The payload starts 8-byte aligned, and a single mapping covers the
+ * file, so datasets are limited to 2 GiB (5·10^8 ints, 1.3·10^8 points).
+ * <p>
+ * Opening a dataset maps the file and validates the header; nothing is parsed. The buffer views
+ * ({@link #intKeys()}, {@link #xs()}, ...) read the page cache directly. The algorithms work on heap
+ * arrays, which a mapping cannot back, so {@link #toIntArray()} and {@link #toPointSet()} fill them
+ * with one bulk copy per array — a memcpy on little-endian hardware.
+ */
+public class Dataset {
+
+    static final int MAGIC = 0x44414144; // "DAAD" read as little-endian
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    /** Flag: keys are in non-decreasing order (points: by x, then y). */
+    public static final int FLAG_SORTED = 1;
+
+    private final DatasetType type;
+    private final int count;
+    private final int flags;
+    private final long seed;
+    private final ByteBuffer payload;
+
+    private Dataset(DatasetType type, int count, int flags, long seed, ByteBuffer payload) {
+        this.type = type;
+        this.count = count;
+        this.flags = flags;
+        this.seed = seed;
+        this.payload = payload;
+    }
+
+    /**
+     * Maps a dataset file read-only. The mapping stays valid after the file channel is closed and is
+     * released when the dataset is garbage collected.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a dataset, or its size does not match the header.
+     */
+    public static Dataset open(Path file) throws IOException {
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IllegalArgumentException("Not a dataset (too short): " + file);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Dataset larger than 2 GiB: " + file);
+            }
+            map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        if (map.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a dataset (bad magic): " + file);
+        }
+        if (map.getShort(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported dataset version " + map.getShort(4) + ": " + file);
+        }
+        DatasetType type = DatasetType.fromCode(map.get(6));
+        int flags = map.get(7);
+        long count = map.getLong(8);
+        long seed = map.getLong(16);
+        if (count < 0 || HEADER_BYTES + count * type.getElementBytes() != map.capacity()) {
+            throw new IllegalArgumentException("Dataset size does not match its header (" + count + " "
+                    + type + " elements): " + file);
+        }
+        ByteBuffer payload = map.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN);
+        return new Dataset(type, (int) count, flags, seed, payload);
+    }
+
+    /**
+     * Writes int keys, flagged as sorted if they are.
+     * @param seed Seed the keys were generated from, kept for provenance (0 if none).
+     */
+    public static void write(Path file, int[] keys, long seed) throws IOException {
+        ByteBuffer out = create(file, DatasetType.INT, keys.length, isSorted(keys) ? FLAG_SORTED : 0, seed);
+        out.asIntBuffer().put(keys);
+    }
+
+    /**
+     * Writes long keys; see {@link #write(Path, int[], long)}.
+     */
+    public static void write(Path file, long[] keys, long seed) throws IOException {
+        ByteBuffer out = create(file, DatasetType.LONG, keys.length, isSorted(keys) ? FLAG_SORTED : 0, seed);
+        out.asLongBuffer().put(keys);
+    }
+
+    /**
+     * Writes double keys; see {@link #write(Path, int[], long)}.
+     */
+    public static void write(Path file, double[] keys, long seed) throws IOException {
+        ByteBuffer out = create(file, DatasetType.DOUBLE, keys.length, isSorted(keys) ? FLAG_SORTED : 0, seed);
+        out.asDoubleBuffer().put(keys);
+    }
+
+    /**
+     * Writes points; see {@link #write(Path, int[], long)}.
+     */
+    public static void write(Path file, PointSet points, long seed) throws IOException {
+        int n = points.size();
+        ByteBuffer out = create(file, DatasetType.POINT, n, isSorted(points) ? FLAG_SORTED : 0, seed);
+        DoubleBuffer coordinates = out.asDoubleBuffer();
+        coordinates.put(points.getXs());
+        coordinates.put(points.getYs());
+    }
+
+    /**
+     * Maps a new file of the given size read-write, fills in the header and returns the payload.
+     */
+    private static ByteBuffer create(Path file, DatasetType type, int count, int flags, long seed) throws IOException {
+        long size = HEADER_BYTES + (long) count * type.getElementBytes();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dataset larger than 2 GiB");
+        }
+        MappedByteBuffer map;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        map.order(ByteOrder.LITTLE_ENDIAN);
+        map.putInt(MAGIC).putShort(VERSION).put((byte) type.getCode()).put((byte) flags)
+                .putLong(count).putLong(seed).putLong(0);
+        return map.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public DatasetType getType() {
+        return type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Whether the writer found the keys (points: by x, then y) in non-decreasing order.
+     */
+    public boolean isSorted() {
+        return (flags & FLAG_SORTED) != 0;
+    }
+
+    /**
+     * @return Read-only view of INT keys over the mapping.
+     */
+    public IntBuffer intKeys() {
+        requireType(DatasetType.INT);
+        return payload.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * @return Read-only view of LONG keys over the mapping.
+     */
+    public LongBuffer longKeys() {
+        requireType(DatasetType.LONG);
+        return payload.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+    }
+
+    /**
+     * @return Read-only view of DOUBLE keys over the mapping.
+     */
+    public DoubleBuffer doubleKeys() {
+        requireType(DatasetType.DOUBLE);
+        return payload.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    /**
+     * @return Read-only view of the points' x coordinates over the mapping.
+     */
+    public DoubleBuffer xs() {
+        requireType(DatasetType.POINT);
+        return coordinates(0);
+    }
+
+    /**
+     * @return Read-only view of the points' y coordinates over the mapping.
+     */
+    public DoubleBuffer ys() {
+        requireType(DatasetType.POINT);
+        return coordinates(count);
+    }
+
+    private DoubleBuffer coordinates(int first) {
+        ByteBuffer view = payload.asReadOnlyBuffer();
+        view.position(first * Double.BYTES).limit((first + count) * Double.BYTES);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    /**
+     * @return The INT keys in a new array, for the primitive sorters and selectors.
+     */
+    public int[] toIntArray() {
+        int[] keys = new int[count];
+        intKeys().get(keys);
+        return keys;
+    }
+
+    /**
+     * @return The LONG keys in a new array.
+     */
+    public long[] toLongArray() {
+        long[] keys = new long[count];
+        longKeys().get(keys);
+        return keys;
+    }
+
+    /**
+     * @return The DOUBLE keys in a new array.
+     */
+    public double[] toDoubleArray() {
+        double[] keys = new double[count];
+        doubleKeys().get(keys);
+        return keys;
+    }
+
+    /**
+     * @return The points as a point set over two new coordinate arrays, for the closest-pair engines.
+     */
+    public PointSet toPointSet() {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        xs().get(x);
+        ys().get(y);
+        return new PointSet(x, y);
+    }
+
+    private void requireType(DatasetType expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Dataset holds " + type + ", not " + expected);
+        }
+    }
+
+    private static boolean isSorted(int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSorted(long[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] > keys[i]) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSorted(double[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (Double.compare(keys[i - 1], keys[i]) > 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSorted(PointSet points) {
+        for (int i = 1; i < points.size(); i++) {
+            int cmp = Double.compare(points.x(i - 1), points.x(i));
+            if (cmp > 0 || (cmp == 0 && Double.compare(points.y(i - 1), points.y(i)) > 0)) return false;
+        }
+        return true;
+    }
+}
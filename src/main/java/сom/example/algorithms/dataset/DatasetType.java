@@ -0,0 +1,38 @@
+package сom.example.algorithms.dataset;
+
+/**
+ * Element type of a {@link Dataset} payload, with its on-disk code and width.
+ */
+public enum DatasetType {
+    INT(1, Integer.BYTES),
+    LONG(2, Long.BYTES),
+    DOUBLE(3, Double.BYTES),
+    /** 2D points stored as all x coordinates, then all y coordinates (doubles). */
+    POINT(4, 2 * Double.BYTES);
+
+    private final int code;
+    private final int elementBytes;
+
+    DatasetType(int code, int elementBytes) {
+        this.code = code;
+        this.elementBytes = elementBytes;
+    }
+
+    int getCode() {
+        return code;
+    }
+
+    /**
+     * @return Bytes per element (per point for POINT).
+     */
+    public int getElementBytes() {
+        return elementBytes;
+    }
+
+    static DatasetType fromCode(int code) {
+        for (DatasetType type : values()) {
+            if (type.code == code) return type;
+        }
+        throw new IllegalArgumentException("Unknown dataset type code: " + code);
+    }
+}
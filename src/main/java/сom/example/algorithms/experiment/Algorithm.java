@@ -0,0 +1,70 @@
+package сom.example.algorithms.experiment;
+
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.RandomSource;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Random;
+
+/**
+ * The algorithms an experiment can run, each taking an input built outside the timed call.
+ */
+public enum Algorithm {
+    MERGE_SORT("MergeSort"),
+    QUICK_SORT("QuickSort"),
+    DETERMINISTIC_SELECT("DeterministicSelect"),
+    CLOSEST_PAIR("ClosestPair");
+
+    private final String displayName;
+
+    Algorithm(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * @return Name used in metrics records, matching {@link сom.example.algorithms.Main}.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Builds the input for this algorithm from the generated keys.
+     * ClosestPair uses the keys as x coordinates and draws y from {@code seed}, like Main does.
+     */
+    Object prepare(Integer[] keys, long seed) {
+        if (this != CLOSEST_PAIR) {
+            return keys;
+        }
+        Random rand = new Random(~seed);
+        ClosestPair.Point[] points = new ClosestPair.Point[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            points[i] = new ClosestPair.Point(keys[i] / 100.0, rand.nextDouble() * 100);
+        }
+        return points;
+    }
+
+    /**
+     * Runs the algorithm on an input from {@link #prepare(Integer[], long)}; this is the timed part.
+     * QuickSort draws its pivots from {@code seed}, so a cell's comparison count is reproducible.
+     */
+    void run(Object input, long seed, Tracker tracker) {
+        switch (this) {
+            case MERGE_SORT:
+                new MergeSort().sort((Integer[]) input, tracker);
+                break;
+            case QUICK_SORT:
+                new QuickSort(RandomSource.seeded(seed)).sort((Integer[]) input, tracker);
+                break;
+            case DETERMINISTIC_SELECT:
+                Integer[] arr = (Integer[]) input;
+                new DeterministicSelect().select(arr, arr.length / 2, tracker);
+                break;
+            default:
+                new ClosestPair().findClosestPair((ClosestPair.Point[]) input, tracker);
+        }
+    }
+}
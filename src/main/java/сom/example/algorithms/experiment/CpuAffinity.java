@@ -0,0 +1,57 @@
+package сom.example.algorithms.experiment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pins the calling thread to one CPU on Linux, using {@code /proc/thread-self} for the native
+ * thread id and {@code taskset} to set the affinity. Java has no affinity API, so elsewhere (or
+ * without taskset) pinning reports failure and threads stay wherever the scheduler puts them.
+ */
+public final class CpuAffinity {
+
+    private static final Path THREAD_SELF = Path.of("/proc/thread-self");
+
+    private CpuAffinity() {
+    }
+
+    /**
+     * @return Whether this platform can pin threads.
+     */
+    public static boolean isSupported() {
+        return Files.isSymbolicLink(THREAD_SELF);
+    }
+
+    /**
+     * Pins the calling thread to the given CPU.
+     * @return Whether the affinity was set.
+     */
+    public static boolean pinCurrentThread(int cpu) {
+        if (cpu < 0) {
+            throw new IllegalArgumentException("CPU index must be non-negative");
+        }
+        if (!isSupported()) {
+            return false;
+        }
+        try {
+            String link = Files.readSymbolicLink(THREAD_SELF).toString(); // "<pid>/task/<tid>"
+            String tid = link.substring(link.lastIndexOf('/') + 1);
+            Process process = new ProcessBuilder("taskset", "-p", "-c", Integer.toString(cpu), tid)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return false;
+            }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
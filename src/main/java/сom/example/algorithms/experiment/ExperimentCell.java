@@ -0,0 +1,98 @@
+package сom.example.algorithms.experiment;
+
+import сom.example.algorithms.workload.KeyDistribution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One point of an experiment matrix: an algorithm run on one input of a given size,
+ * distribution and seed.
+ */
+public final class ExperimentCell {
+    private final int size;
+    private final Algorithm algorithm;
+    private final KeyDistribution distribution;
+    private final long seed;
+
+    public ExperimentCell(int size, Algorithm algorithm, KeyDistribution distribution, long seed) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if (algorithm == null || distribution == null) {
+            throw new IllegalArgumentException("Algorithm and distribution must not be null");
+        }
+        this.size = size;
+        this.algorithm = algorithm;
+        this.distribution = distribution;
+        this.seed = seed;
+    }
+
+    /**
+     * @return Every combination of the given dimensions, sizes outermost.
+     */
+    public static List<ExperimentCell> matrix(int[] sizes, List<Algorithm> algorithms,
+                                              List<KeyDistribution> distributions, long[] seeds) {
+        List<ExperimentCell> cells = new ArrayList<>(sizes.length * algorithms.size() * distributions.size() * seeds.length);
+        for (int size : sizes) {
+            for (Algorithm algorithm : algorithms) {
+                for (KeyDistribution distribution : distributions) {
+                    for (long seed : seeds) {
+                        cells.add(new ExperimentCell(size, algorithm, distribution, seed));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * @return Stable identifier of the cell, as stored in the journal.
+     */
+    public String key() {
+        return size + "," + algorithm + "," + distribution + "," + seed;
+    }
+
+    /**
+     * @return Algorithm column for the cell's records: the algorithm name, suffixed with the
+     *         distribution unless it is the uniform input that Main uses (e.g. "QuickSort/SORTED").
+     */
+    public String label() {
+        String name = algorithm.getDisplayName();
+        return distribution == KeyDistribution.UNIFORM ? name : name + "/" + distribution;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public KeyDistribution getDistribution() {
+        return distribution;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ExperimentCell)) return false;
+        ExperimentCell other = (ExperimentCell) o;
+        return size == other.size && seed == other.seed
+                && algorithm == other.algorithm && distribution == other.distribution;
+    }
+
+    @Override
+    public int hashCode() {
+        return key().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key();
+    }
+}
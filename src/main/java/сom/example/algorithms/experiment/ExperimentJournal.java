@@ -0,0 +1,75 @@
+package сom.example.algorithms.experiment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Append-only list of finished cell keys, one per line, so an interrupted sweep can resume.
+ * A torn last line (the process died mid-write) is ignored, and that cell runs again.
+ * Each line is forced to the storage device before {@link #markDone} returns, so a journaled cell
+ * survives a crash of the machine, not only of the JVM.
+ */
+public class ExperimentJournal implements AutoCloseable {
+
+    private final Set<String> done = new HashSet<>();
+    private final FileChannel channel;
+
+    /**
+     * Opens the journal, reading the cells recorded by earlier sweeps.
+     * @throws IOException If the file cannot be read or opened for appending.
+     */
+    public ExperimentJournal(Path file) throws IOException {
+        boolean torn = false;
+        if (Files.exists(file)) {
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            int end = content.lastIndexOf('\n'); // Anything after the last newline is torn
+            for (String line : content.substring(0, end + 1).split("\n")) {
+                if (!line.isEmpty()) {
+                    done.add(line);
+                }
+            }
+            torn = end + 1 < content.length();
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (torn) {
+            append("\n"); // Ends the torn line so it can't merge with the next key
+        }
+    }
+
+    /**
+     * @return Whether the cell was finished by this or an earlier sweep.
+     */
+    public synchronized boolean isDone(ExperimentCell cell) {
+        return done.contains(cell.key());
+    }
+
+    /**
+     * Records a finished cell and forces the line out to the storage device.
+     */
+    public synchronized void markDone(ExperimentCell cell) throws IOException {
+        if (done.add(cell.key())) {
+            append(cell.key() + "\n");
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void append(String text) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false); // Data only: the file's metadata is not needed to read the line back
+    }
+}
@@ -0,0 +1,127 @@
+package сom.example.algorithms.experiment;
+
+import сom.example.algorithms.jfr.JfrTracker;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs an experiment matrix on a fixed pool of worker threads, one run per worker at a time.
+ * <ul>
+ *   <li>Workers default to one per available core, so runs don't compete for CPU time; with
+ *       pinning, worker i is bound to CPU i (see {@link CpuAffinity}).</li>
+ *   <li>Largest cells start first, so a long run doesn't end up alone at the tail of the sweep.</li>
+ *   <li>Each record goes to the shared sink, which is flushed before the cell is journaled: after
+ *       a crash a cell is either re-run or already in the output (at worst both, once).</li>
+ *   <li>GC counts and times are JVM-wide, so with more than one worker they would include
+ *       collections caused by other cells; they are then recorded as -1 (unknown). Run with one
+ *       worker to measure them.</li>
+ * </ul>
+ */
+public class ExperimentScheduler {
+
+    private final int workers;
+    private final boolean pinCpus;
+
+    /**
+     * One worker per available core, unpinned.
+     */
+    public ExperimentScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), false);
+    }
+
+    /**
+     * @param workers Number of cells run at the same time.
+     * @param pinCpus Whether to pin each worker to its own CPU; ignored where unsupported.
+     */
+    public ExperimentScheduler(int workers, boolean pinCpus) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Workers must be positive");
+        }
+        this.workers = workers;
+        this.pinCpus = pinCpus;
+    }
+
+    /**
+     * Runs every cell not yet recorded in the journal and writes one record per cell to the sink.
+     * @param journal Finished cells to skip and to extend, or null to run everything.
+     * @return Number of cells run by this call.
+     * @throws IOException If the sink or the journal fails; unfinished cells stay unjournaled.
+     */
+    public int run(List<ExperimentCell> cells, MetricsSink sink, ExperimentJournal journal) throws IOException {
+        List<ExperimentCell> pending = new ArrayList<>();
+        for (ExperimentCell cell : cells) {
+            if (journal == null || !journal.isDone(cell)) {
+                pending.add(cell);
+            }
+        }
+        pending.sort(Comparator.comparingInt(ExperimentCell::getSize).reversed());
+
+        AtomicInteger nextWorker = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            int id = nextWorker.getAndIncrement();
+            Thread thread = new Thread(() -> {
+                if (pinCpus && !CpuAffinity.pinCurrentThread(id % Runtime.getRuntime().availableProcessors())) {
+                    System.err.println("Could not pin experiment-worker-" + id + "; running unpinned");
+                }
+                r.run();
+            }, "experiment-worker-" + id);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(pending.size());
+            for (ExperimentCell cell : pending) {
+                futures.add(pool.submit(() -> {
+                    runCell(cell, sink, workers == 1);
+                    sink.flush();
+                    if (journal != null) {
+                        journal.markDone(cell);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Experiment cell failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted; finished cells are journaled", e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return pending.size();
+    }
+
+    /**
+     * Generates the cell's input and runs it once, timing only the algorithm call.
+     * @param alone Whether no other cell runs concurrently; otherwise the GC columns are -1.
+     */
+    static void runCell(ExperimentCell cell, MetricsSink sink, boolean alone) {
+        Algorithm algorithm = cell.getAlgorithm();
+        Integer[] keys = cell.getDistribution().generateBoxed(cell.getSize(), cell.getSeed());
+        Object input = algorithm.prepare(keys, cell.getSeed());
+        MetricsTracker tracker = new MetricsTracker();
+        algorithm.run(input, cell.getSeed(), new JfrTracker(tracker, cell.label(), cell.getSize()));
+        long gcCount = alone ? tracker.getGcCount() : -1;
+        long gcTimeMs = alone ? tracker.getGcTimeMs() : -1;
+        sink.write(new MetricsRecord(cell.getSize(), tracker.getExecutionTimeNs(), tracker.getMaxDepth(),
+                tracker.getComparisons(), tracker.getAllocations(), cell.label(), tracker.getAllocatedBytes(),
+                gcCount, gcTimeMs, tracker.getPhases()));
+    }
+}
@@ -0,0 +1,33 @@
+package сom.example.algorithms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event spanning one named phase inside an algorithm (e.g. "merge", "strip.scan").
+ * Phases run once per recursion node, so by default only spans of 100 µs or more are recorded;
+ * lower the threshold in the recording settings to see them all.
+ */
+@Name(AlgorithmPhaseEvent.NAME)
+@Label("Algorithm Phase")
+@Category("Algorithms")
+@Description("A named phase inside an algorithm call")
+@StackTrace(false)
+@Threshold("100 us")
+public class AlgorithmPhaseEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.algorithms.AlgorithmPhase";
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Input Size")
+    int size;
+}
@@ -0,0 +1,32 @@
+package сom.example.algorithms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one top-level algorithm call (from tracker start to stop).
+ */
+@Name(AlgorithmRunEvent.NAME)
+@Label("Algorithm Run")
+@Category("Algorithms")
+@Description("One top-level call of a sorting, selection or closest-pair algorithm")
+@StackTrace(false)
+public class AlgorithmRunEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.example.algorithms.AlgorithmRun";
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Input Size")
+    int size;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Max Recursion Depth")
+    int depth;
+}
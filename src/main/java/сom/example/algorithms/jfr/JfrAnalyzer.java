@@ -0,0 +1,65 @@
+package сom.example.algorithms.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import сom.example.algorithms.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarises a JFR recording: latency distribution of the algorithm runs per algorithm and input
+ * size, and of the recorded phase spans per algorithm and phase.
+ */
+public class JfrAnalyzer {
+
+    /**
+     * Entry point.
+     * Args: <recording.jfr>
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java JfrAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+        Path recording = Path.of(args[0]);
+        System.out.println("Runs (ns):");
+        runLatencies(recording).forEach((key, histogram) -> System.out.println("  " + key + ": " + histogram.summary()));
+        System.out.println("Phases (ns):");
+        phaseLatencies(recording).forEach((key, histogram) -> System.out.println("  " + key + ": " + histogram.summary()));
+    }
+
+    /**
+     * @return Run durations keyed by "algorithm n=size", sorted by key.
+     */
+    public static Map<String, LatencyHistogram> runLatencies(Path recording) throws IOException {
+        return collect(recording, AlgorithmRunEvent.NAME, false);
+    }
+
+    /**
+     * @return Phase span durations keyed by "algorithm phase", sorted by key.
+     */
+    public static Map<String, LatencyHistogram> phaseLatencies(Path recording) throws IOException {
+        return collect(recording, AlgorithmPhaseEvent.NAME, true);
+    }
+
+    private static Map<String, LatencyHistogram> collect(Path recording, String eventName, boolean byPhase)
+            throws IOException {
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (!event.getEventType().getName().equals(eventName)) {
+                    continue;
+                }
+                String key = event.getString("algorithm") + (byPhase
+                        ? " " + event.getString("phase")
+                        : " n=" + event.getInt("size"));
+                histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(event.getDuration().toNanos());
+            }
+        }
+        return histograms;
+    }
+}
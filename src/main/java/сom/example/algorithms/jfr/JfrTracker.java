@@ -0,0 +1,181 @@
+package сom.example.algorithms.jfr;
+
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.PhaseTimer;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tracker decorator that emits JFR events: an {@link AlgorithmRunEvent} from start to stop,
+ * and an {@link AlgorithmPhaseEvent} per phase span. Every call is forwarded to the delegate, whose
+ * comparison and depth counts fill in the run event.
+ * <p>
+ * When no recording has the events enabled, {@code isEnabled()} is a constant-folded check and the
+ * unused event objects are scalar-replaced, so the decorator costs little more than its delegate.
+ * One instance tracks one call on one thread; {@link #fork()} wraps the delegate's fork.
+ */
+public class JfrTracker implements Tracker {
+
+    private final Tracker delegate;
+    private final String algorithm;
+    private final int size;
+    private AlgorithmRunEvent run;
+    private AlgorithmPhaseEvent[] phases = new AlgorithmPhaseEvent[8];
+    private int phaseDepth = 0;
+
+    /**
+     * Records into a fresh {@link MetricsTracker}.
+     */
+    public JfrTracker(String algorithm, int size) {
+        this(new MetricsTracker(), algorithm, size);
+    }
+
+    /**
+     * @param delegate Tracker that keeps the counters (its counts are copied into the run event).
+     * @param algorithm Algorithm name carried by the events.
+     * @param size Input size carried by the events.
+     */
+    public JfrTracker(Tracker delegate, String algorithm, int size) {
+        if (delegate == null || algorithm == null) {
+            throw new IllegalArgumentException("Delegate and algorithm must not be null");
+        }
+        this.delegate = delegate;
+        this.algorithm = algorithm;
+        this.size = size;
+    }
+
+    @Override
+    public void start() {
+        AlgorithmRunEvent event = new AlgorithmRunEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            run = event;
+        }
+        delegate.start();
+    }
+
+    @Override
+    public void stop() {
+        delegate.stop();
+        AlgorithmRunEvent event = run;
+        run = null;
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.algorithm = algorithm;
+                event.size = size;
+                event.comparisons = delegate.getComparisons();
+                event.depth = delegate.getMaxDepth();
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void enterPhase(String name) {
+        delegate.enterPhase(name);
+        AlgorithmPhaseEvent event = new AlgorithmPhaseEvent();
+        if (phaseDepth == phases.length) {
+            phases = Arrays.copyOf(phases, phaseDepth * 2);
+        }
+        if (event.isEnabled()) {
+            event.phase = name;
+            event.begin();
+            phases[phaseDepth++] = event;
+        } else {
+            phases[phaseDepth++] = null; // Keeps the stack aligned with exitPhase
+        }
+    }
+
+    @Override
+    public void exitPhase() {
+        AlgorithmPhaseEvent event = phases[--phaseDepth];
+        phases[phaseDepth] = null;
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.algorithm = algorithm;
+                event.size = size;
+                event.commit();
+            }
+        }
+        delegate.exitPhase();
+    }
+
+    @Override
+    public void incrementComparison() {
+        delegate.incrementComparison();
+    }
+
+    @Override
+    public void incrementComparisons(long count) {
+        delegate.incrementComparisons(count);
+    }
+
+    @Override
+    public void incrementAllocation() {
+        delegate.incrementAllocation();
+    }
+
+    @Override
+    public void enterRecursion() {
+        delegate.enterRecursion();
+    }
+
+    @Override
+    public void exitRecursion() {
+        delegate.exitRecursion();
+    }
+
+    @Override
+    public Tracker fork() {
+        return new JfrTracker(delegate.fork(), algorithm, size);
+    }
+
+    @Override
+    public void join(Tracker child) {
+        delegate.join(child instanceof JfrTracker ? ((JfrTracker) child).delegate : child);
+    }
+
+    @Override
+    public List<PhaseTimer.Phase> getPhases() {
+        return delegate.getPhases();
+    }
+
+    @Override
+    public long getComparisons() {
+        return delegate.getComparisons();
+    }
+
+    @Override
+    public long getAllocations() {
+        return delegate.getAllocations();
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return delegate.getMaxDepth();
+    }
+
+    @Override
+    public long getExecutionTimeNs() {
+        return delegate.getExecutionTimeNs();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return delegate.getAllocatedBytes();
+    }
+
+    @Override
+    public long getGcCount() {
+        return delegate.getGcCount();
+    }
+
+    @Override
+    public long getGcTimeMs() {
+        return delegate.getGcTimeMs();
+    }
+}
@@ -0,0 +1,279 @@
+package сom.example.algorithms.metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics sink that appends to one long-lived file channel from a background thread.
+ * {@link #write} only enqueues the record in a bounded queue (blocking when it is full, so a slow disk
+ * throttles producers instead of growing memory). The flusher thread drains the queue in batches,
+ * formats them into a reused buffer and writes each batch with a single channel write.
+ * A shutdown hook closes the sink, so records queued before JVM exit still reach the file.
+ * A non-empty file is only appended to if its first line is the format's header, so rows of
+ * different layouts never end up under one header.
+ * <p>
+ * Callers never wait on a dead flusher: queueing and flush waits are timed and re-check that the
+ * flusher is alive. A record the format fails on is dropped and the first such failure, like the
+ * first I/O error, is reported by the next flush or close.
+ */
+public class AsyncMetricsSink implements MetricsSink {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final int BATCH_SIZE = 1024;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long POLL_MS = 100; // How often blocked callers check that the flusher is alive
+    private static final Object CLOSE = new Object();
+
+    private final BlockingQueue<Object> queue; // MetricsRecord, CountDownLatch (flush) or CLOSE
+    private final FileChannel channel;
+    private final RecordFormat format;
+    private final Thread flusher;
+    private final Thread shutdownHook;
+    private volatile boolean closed = false;
+    private volatile IOException failure = null;
+
+    // Owned by the flusher thread
+    private final StringBuilder text = new StringBuilder(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Opens a sink on the given file, choosing the format from its extension.
+     * @param path File to append to (created if missing).
+     * @throws IOException If the file cannot be opened.
+     */
+    public AsyncMetricsSink(Path path) throws IOException {
+        this(path, RecordFormat.forPath(path), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param path File to append to (created if missing).
+     * @param format Output format; its header is written if the file is empty.
+     * @param queueCapacity Records that may wait for the flusher before writers block.
+     * @throws IOException If the file cannot be opened, or it is not empty and starts with a
+     *                     different header than the format's.
+     */
+    public AsyncMetricsSink(Path path, RecordFormat format, int queueCapacity) throws IOException {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.format = format;
+        checkHeader(path, format.header());
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (channel.size() == 0 && format.header() != null) {
+            text.append(format.header()).append('\n');
+            writeText();
+        }
+        flusher = new Thread(this::drain, "metrics-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        shutdownHook = new Thread(this::closeQuietly, "metrics-sink-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public void write(MetricsRecord record) {
+        if (closed) {
+            throw new IllegalStateException("Metrics sink is closed");
+        }
+        if (!enqueue(record)) {
+            throw new IllegalStateException("Metrics flusher has stopped", failure);
+        }
+    }
+
+    /**
+     * Waits until everything queued before the call is written. A flush racing with close returns
+     * once the flusher has stopped.
+     */
+    @Override
+    public void flush() throws IOException {
+        boolean stalled = false;
+        if (!closed) {
+            CountDownLatch done = new CountDownLatch(1);
+            boolean queued = enqueue(done);
+            try {
+                // The latch may land behind CLOSE, where nobody counts it down
+                while (queued && !done.await(POLL_MS, TimeUnit.MILLISECONDS)) {
+                    if (!flusher.isAlive()) {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while flushing metrics", e);
+            }
+            stalled = done.getCount() > 0 && !closed;
+        }
+        checkFailure();
+        if (stalled) {
+            throw new IOException("Metrics flusher has stopped");
+        }
+    }
+
+    /**
+     * Writes everything queued so far, stops the flusher and closes the file.
+     * Records that race with close from other threads may be dropped.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            enqueue(CLOSE);
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.close();
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // Already shutting down: we are running inside the hook
+            }
+        }
+        checkFailure();
+    }
+
+    /**
+     * Rejects an existing non-empty file whose first line is not {@code header}.
+     */
+    private static void checkHeader(Path path, String header) throws IOException {
+        if (header == null || !Files.exists(path) || Files.size(path) == 0) {
+            return;
+        }
+        String first;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            first = reader.readLine();
+        }
+        if (!header.equals(first)) {
+            throw new IOException(path + " starts with header \"" + first + "\", expected \"" + header
+                    + "\"; write to a new file");
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            System.err.println("Failed to flush metrics on shutdown: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks while the queue is full, but only as long as the flusher is alive to empty it.
+     * @return False if the flusher has stopped and the item was not queued.
+     */
+    private boolean enqueue(Object item) {
+        try {
+            while (!queue.offer(item, POLL_MS, TimeUnit.MILLISECONDS)) {
+                if (!flusher.isAlive()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing metrics", e);
+        }
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = failure;
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Flusher loop: takes one item, drains whatever else is waiting, writes the batch.
+     */
+    private void drain() {
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            for (Object item : batch) {
+                if (item instanceof MetricsRecord) {
+                    int mark = text.length();
+                    try {
+                        format.append((MetricsRecord) item, text);
+                    } catch (RuntimeException e) {
+                        text.setLength(mark); // Drop the partial row, keep the flusher running
+                        fail(new IOException("Failed to format metrics record", e));
+                    }
+                    if (text.length() >= BUFFER_SIZE) {
+                        writeText();
+                    }
+                } else if (item instanceof CountDownLatch) {
+                    writeText();
+                    ((CountDownLatch) item).countDown();
+                } else {
+                    running = false; // CLOSE: finish this batch, then stop
+                }
+            }
+            writeText();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Keeps the first failure for the next flush or close; called on the flusher thread only.
+     */
+    private void fail(IOException e) {
+        if (failure == null) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Encodes the pending text as UTF-8 through the reused direct buffer and writes it out.
+     * The first I/O error is kept and reported by the next flush or close.
+     */
+    private void writeText() {
+        if (text.length() == 0) {
+            return;
+        }
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        try {
+            boolean done = false;
+            while (!done) {
+                done = !encoder.encode(chars, bytes, true).isOverflow();
+                if (done) {
+                    encoder.flush(bytes);
+                }
+                bytes.flip();
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                bytes.clear();
+            }
+        } catch (IOException e) {
+            fail(e);
+        } finally {
+            bytes.clear();
+            text.setLength(0);
+        }
+    }
+}
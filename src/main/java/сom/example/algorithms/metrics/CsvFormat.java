@@ -0,0 +1,77 @@
+package сom.example.algorithms.metrics;
+
+import сom.example.algorithms.util.PhaseTimer;
+
+/**
+ * CSV rows starting with the same columns as {@link сom.example.algorithms.util.MetricsTracker#writeToCSV},
+ * followed by the JVM-measured allocation and GC figures.
+ * Format: n,time_ns,depth,comparisons,allocations,algorithm,allocated_bytes,gc_count,gc_time_ms
+ * With phases enabled a last column lists name:count:total_ns:self_ns entries separated by ';'.
+ */
+public class CsvFormat implements RecordFormat {
+
+    private final boolean withPhases;
+
+    public CsvFormat() {
+        this(false);
+    }
+
+    /**
+     * @param withPhases Whether to add the phases column.
+     */
+    public CsvFormat(boolean withPhases) {
+        this.withPhases = withPhases;
+    }
+
+    @Override
+    public String header() {
+        return withPhases
+                ? "n,time_ns,depth,comparisons,allocations,algorithm,allocated_bytes,gc_count,gc_time_ms,phases"
+                : "n,time_ns,depth,comparisons,allocations,algorithm,allocated_bytes,gc_count,gc_time_ms";
+    }
+
+    @Override
+    public void append(MetricsRecord record, StringBuilder out) {
+        out.append(record.getN()).append(',')
+                .append(record.getTimeNs()).append(',')
+                .append(record.getDepth()).append(',')
+                .append(record.getComparisons()).append(',')
+                .append(record.getAllocations()).append(',');
+        appendField(record.getAlgorithm(), out);
+        out.append(',').append(record.getAllocatedBytes())
+                .append(',').append(record.getGcCount())
+                .append(',').append(record.getGcTimeMs());
+        if (withPhases) {
+            out.append(',');
+            for (int i = 0; i < record.getPhases().size(); i++) {
+                PhaseTimer.Phase phase = record.getPhases().get(i);
+                if (i > 0) out.append(';');
+                out.append(phase.getName()).append(':').append(phase.getCount())
+                        .append(':').append(phase.getTotalNs()).append(':').append(phase.getSelfNs());
+            }
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Quotes a text field if it contains a separator, quote or line break (RFC 4180).
+     */
+    static void appendField(String value, StringBuilder out) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.append('"');
+            out.append(c);
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,67 @@
+package сom.example.algorithms.metrics;
+
+import сom.example.algorithms.util.PhaseTimer;
+
+/**
+ * One JSON object per line, e.g.
+ * {"n":100,"time_ns":5120,"depth":4,"comparisons":540,"allocations":1,"algorithm":"MergeSort",
+ *  "allocated_bytes":1040,"gc_count":0,"gc_time_ms":0}
+ * Records with phase timing add
+ * "phases":[{"name":"merge","count":6,"total_ns":2100,"self_ns":2100},...]
+ */
+public class JsonLinesFormat implements RecordFormat {
+
+    @Override
+    public String header() {
+        return null;
+    }
+
+    @Override
+    public void append(MetricsRecord record, StringBuilder out) {
+        out.append("{\"n\":").append(record.getN())
+                .append(",\"time_ns\":").append(record.getTimeNs())
+                .append(",\"depth\":").append(record.getDepth())
+                .append(",\"comparisons\":").append(record.getComparisons())
+                .append(",\"allocations\":").append(record.getAllocations())
+                .append(",\"algorithm\":");
+        appendString(record.getAlgorithm(), out);
+        out.append(",\"allocated_bytes\":").append(record.getAllocatedBytes())
+                .append(",\"gc_count\":").append(record.getGcCount())
+                .append(",\"gc_time_ms\":").append(record.getGcTimeMs());
+        if (!record.getPhases().isEmpty()) {
+            out.append(",\"phases\":[");
+            for (int i = 0; i < record.getPhases().size(); i++) {
+                PhaseTimer.Phase phase = record.getPhases().get(i);
+                if (i > 0) out.append(',');
+                out.append("{\"name\":");
+                appendString(phase.getName(), out);
+                out.append(",\"count\":").append(phase.getCount())
+                        .append(",\"total_ns\":").append(phase.getTotalNs())
+                        .append(",\"self_ns\":").append(phase.getSelfNs()).append('}');
+            }
+            out.append(']');
+        }
+        out.append("}\n");
+    }
+
+    /**
+     * Appends a JSON string literal, escaping quotes, backslashes and control characters.
+     */
+    static void appendString(String value, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c < 0x20) {
+                out.append("\\u00");
+                out.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xf, 16));
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,282 @@
+package сom.example.algorithms.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram.
+ * Values (nanoseconds) are grouped into buckets that double in width; each bucket is split into a
+ * fixed number of linear sub-buckets, so every recorded value keeps the requested number of
+ * significant decimal digits with a fixed memory footprint and O(1) recording (a few shifts and one
+ * array increment). Min, max and total count are exact; percentiles are exact to the bucket precision.
+ * <p>
+ * Recording is single-writer: give each thread its own histogram and combine them with {@link #add}.
+ * Histograms export to a compact byte (or Base64) form so runs can be stored and merged later.
+ */
+public class LatencyHistogram {
+
+    public static final long DEFAULT_HIGHEST_TRACKABLE = 3_600_000_000_000L; // One hour in ns
+    public static final int DEFAULT_SIGNIFICANT_DIGITS = 2;
+    private static final int ENCODING_MAGIC = 0x4C48_0001; // "LH", version 1
+
+    private final long highestTrackableValue;
+    private final int significantDigits;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+    private final long[] counts;
+    private long totalCount = 0;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue = 0;
+    private double sum = 0;
+
+    /**
+     * Creates a histogram for values up to one hour with 2 significant digits (1% precision).
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE, DEFAULT_SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * @param highestTrackableValue Largest value recorded precisely; larger values count as this value.
+     * @param significantDigits Decimal digits of precision kept for every value (1 to 5).
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+        if (highestTrackableValue < 2) {
+            throw new IllegalArgumentException("highestTrackableValue must be at least 2");
+        }
+        if (significantDigits < 1 || significantDigits > 5) {
+            throw new IllegalArgumentException("significantDigits must be between 1 and 5");
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+        long largestSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestSingleUnitResolution - 1);
+        subBucketHalfCountMagnitude = Math.max(subBucketCountMagnitude, 1) - 1;
+        int subBucketCount = 1 << (subBucketHalfCountMagnitude + 1);
+        subBucketHalfCount = subBucketCount / 2;
+        subBucketMask = subBucketCount - 1;
+        leadingZeroCountBase = 64 - subBucketHalfCountMagnitude - 1;
+
+        int bucketCount = 1;
+        long smallestUntrackable = subBucketCount;
+        while (smallestUntrackable <= highestTrackableValue) {
+            if (smallestUntrackable > Long.MAX_VALUE / 2) {
+                bucketCount++;
+                break;
+            }
+            smallestUntrackable <<= 1;
+            bucketCount++;
+        }
+        counts = new long[(bucketCount + 1) * subBucketHalfCount];
+    }
+
+    /**
+     * Records one value.
+     * @param value Latency in nanoseconds (non-negative).
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records the same value {@code count} times.
+     */
+    public void record(long value, long count) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must be non-negative: " + value);
+        }
+        long clamped = Math.min(value, highestTrackableValue);
+        counts[countsIndex(clamped)] += count;
+        totalCount += count;
+        sum += (double) clamped * count;
+        if (clamped < minValue) minValue = clamped;
+        if (clamped > maxValue) maxValue = clamped;
+    }
+
+    /**
+     * Adds all counts of another histogram with the same configuration to this one.
+     * @param other Histogram to merge in (unchanged).
+     */
+    public void add(LatencyHistogram other) {
+        if (other.highestTrackableValue != highestTrackableValue || other.significantDigits != significantDigits) {
+            throw new IllegalArgumentException("Histograms must have the same range and precision");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    /**
+     * Returns the value at or below which the given percentage of recorded values fall.
+     * @param percentile Percentage in [0, 100], e.g. 99.9.
+     * @return The value, or 0 if the histogram is empty.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.max(minValue, Math.min(maxValue, highestEquivalentValue(i)));
+            }
+        }
+        return maxValue;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    public long getMax() {
+        return maxValue;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    /**
+     * Clears all counts for reuse.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        minValue = Long.MAX_VALUE;
+        maxValue = 0;
+        sum = 0;
+    }
+
+    /**
+     * One-line summary: count, mean, p50, p90, p99, p99.9 and max, in nanoseconds.
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder(128);
+        out.append("count=").append(totalCount)
+                .append(" mean=").append(Math.round(getMean()))
+                .append(" p50=").append(getValueAtPercentile(50))
+                .append(" p90=").append(getValueAtPercentile(90))
+                .append(" p99=").append(getValueAtPercentile(99))
+                .append(" p99.9=").append(getValueAtPercentile(99.9))
+                .append(" max=").append(maxValue);
+        return out.toString();
+    }
+
+    /**
+     * Encodes the histogram: configuration, exact min/max/sum, then (index gap, count) pairs for the
+     * non-empty buckets as variable-length integers: a few hundred bytes to a few kilobytes.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        ByteBuffer header = ByteBuffer.allocate(4 + 8 + 4 + 8 + 8 + 8);
+        header.putInt(ENCODING_MAGIC).putLong(highestTrackableValue).putInt(significantDigits)
+                .putLong(minValue).putLong(maxValue).putDouble(sum);
+        out.write(header.array(), 0, header.position());
+        int previous = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            writeVarLong(out, i - previous);
+            writeVarLong(out, counts[i]);
+            previous = i;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Restores a histogram written by {@link #encode()}.
+     */
+    public static LatencyHistogram decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (bytes.length < 40 || in.getInt() != ENCODING_MAGIC) {
+            throw new IllegalArgumentException("Not an encoded LatencyHistogram");
+        }
+        LatencyHistogram histogram = new LatencyHistogram(in.getLong(), in.getInt());
+        histogram.minValue = in.getLong();
+        histogram.maxValue = in.getLong();
+        histogram.sum = in.getDouble();
+        int index = -1;
+        while (in.hasRemaining()) {
+            index += (int) readVarLong(in);
+            long count = readVarLong(in);
+            if (index < 0 || index >= histogram.counts.length) {
+                throw new IllegalArgumentException("Corrupt histogram encoding");
+            }
+            histogram.counts[index] = count;
+            histogram.totalCount += count;
+        }
+        return histogram;
+    }
+
+    public String toBase64() {
+        return Base64.getEncoder().encodeToString(encode());
+    }
+
+    public static LatencyHistogram fromBase64(String text) {
+        return decode(Base64.getDecoder().decode(text));
+    }
+
+    private int countsIndex(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    /**
+     * Largest value that maps to the given counts index.
+     */
+    private long highestEquivalentValue(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        long lowest = (long) subBucketIndex << bucketIndex;
+        return lowest + (1L << bucketIndex) - 1;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupt histogram encoding");
+    }
+}
@@ -0,0 +1,105 @@
+package сom.example.algorithms.metrics;
+
+import сom.example.algorithms.util.PhaseTimer;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One result row: the metrics of a single algorithm run on an input of size n, the JVM's
+ * allocation and GC figures for the run, and the per-phase breakdown if the tracker timed phases.
+ */
+public class MetricsRecord {
+
+    private final int n;
+    private final long timeNs;
+    private final int depth;
+    private final long comparisons;
+    private final long allocations;
+    private final String algorithm;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcTimeMs;
+    private final List<PhaseTimer.Phase> phases;
+
+    public MetricsRecord(int n, long timeNs, int depth, long comparisons, long allocations, String algorithm) {
+        this(n, timeNs, depth, comparisons, allocations, algorithm, 0, 0, 0, Collections.emptyList());
+    }
+
+    public MetricsRecord(int n, long timeNs, int depth, long comparisons, long allocations, String algorithm,
+                         long allocatedBytes, long gcCount, long gcTimeMs, List<PhaseTimer.Phase> phases) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm name must not be null");
+        }
+        this.n = n;
+        this.timeNs = timeNs;
+        this.depth = depth;
+        this.comparisons = comparisons;
+        this.allocations = allocations;
+        this.algorithm = algorithm;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMs = gcTimeMs;
+        this.phases = phases;
+    }
+
+    /**
+     * Snapshots the tracker's current values.
+     * @param tracker Tracker of the finished run.
+     * @param n The input size.
+     * @param algorithm Name of the algorithm.
+     * @return The record.
+     */
+    public static MetricsRecord of(Tracker tracker, int n, String algorithm) {
+        return new MetricsRecord(n, tracker.getExecutionTimeNs(), tracker.getMaxDepth(),
+                tracker.getComparisons(), tracker.getAllocations(), algorithm,
+                tracker.getAllocatedBytes(), tracker.getGcCount(), tracker.getGcTimeMs(), tracker.getPhases());
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    public long getTimeNs() {
+        return timeNs;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getAllocations() {
+        return allocations;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return Collections during the run (JVM-wide), or -1 if other runs overlapped it.
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @return Collection time in milliseconds during the run (JVM-wide), or -1 if other runs overlapped it.
+     */
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    public List<PhaseTimer.Phase> getPhases() {
+        return phases;
+    }
+}
@@ -0,0 +1,213 @@
+package сom.example.algorithms.metrics;
+
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process aggregation of run metrics per algorithm and input-size bucket (powers of ten),
+ * rendered in the Prometheus text exposition format.
+ * <p>
+ * Recording only touches {@link LongAdder}s of an existing series (a new series is created once),
+ * and {@link #scrape()} reads them without locking, so a scrape never blocks algorithm threads and
+ * writers never wait on each other. A scrape taken while runs finish may see a run's latency before
+ * its counters; each value on its own is consistent.
+ */
+public class MetricsRegistry implements MetricsSink {
+
+    // Latency histogram bounds in seconds: 1, 2.5, 5 per decade from 1 µs to 100 s
+    private static final double[] BUCKET_BOUNDS = bucketBounds();
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+
+    /**
+     * Aggregates one finished run.
+     */
+    @Override
+    public void write(MetricsRecord record) {
+        Series s = seriesFor(record.getAlgorithm(), record.getN());
+        s.record(record.getTimeNs(), record.getComparisons(), record.getAllocations(),
+                Math.max(0, record.getAllocatedBytes()), Math.max(0, record.getGcTimeMs()), record.getDepth());
+    }
+
+    /**
+     * Aggregates the run the tracker just measured, without building a record.
+     */
+    public void record(Tracker tracker, int n, String algorithm) {
+        Series s = seriesFor(algorithm, n);
+        s.record(tracker.getExecutionTimeNs(), tracker.getComparisons(), tracker.getAllocations(),
+                Math.max(0, tracker.getAllocatedBytes()), tracker.getGcTimeMs(), tracker.getMaxDepth());
+    }
+
+    /**
+     * Nothing is buffered: every write is visible to the next scrape.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Renders all series in the Prometheus text exposition format (version 0.0.4).
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        out.append("# HELP algorithm_duration_seconds Wall time of one algorithm call.\n");
+        out.append("# TYPE algorithm_duration_seconds histogram\n");
+        for (Map.Entry<SeriesKey, Series> entry : series.entrySet()) {
+            Series s = entry.getValue();
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                cumulative += s.buckets[i].sum();
+                appendSample(out, "algorithm_duration_seconds_bucket", entry.getKey(),
+                        Double.toString(BUCKET_BOUNDS[i]), cumulative);
+            }
+            cumulative += s.buckets[BUCKET_BOUNDS.length].sum();
+            appendSample(out, "algorithm_duration_seconds_bucket", entry.getKey(), "+Inf", cumulative);
+            appendLabels(out.append("algorithm_duration_seconds_sum"), entry.getKey(), null);
+            out.append(' ').append(s.durationNs.sum() / 1e9).append('\n');
+            appendSample(out, "algorithm_duration_seconds_count", entry.getKey(), null, cumulative);
+        }
+        appendFamily(out, "algorithm_comparisons_total", "counter", "Element comparisons.", 0);
+        appendFamily(out, "algorithm_allocations_total", "counter", "Allocations counted by the algorithms.", 1);
+        appendFamily(out, "algorithm_allocated_bytes_total", "counter", "Bytes allocated on the calling thread.", 2);
+        appendFamily(out, "algorithm_gc_time_ms_total", "counter", "GC time during runs, JVM-wide.", 3);
+        appendFamily(out, "algorithm_max_depth", "gauge", "Deepest recursion seen.", 4);
+        return out.toString();
+    }
+
+    private Series seriesFor(String algorithm, int n) {
+        SeriesKey key = new SeriesKey(algorithm, sizeBucket(n));
+        Series s = series.get(key); // Lock-free once the series exists
+        return s != null ? s : series.computeIfAbsent(key, k -> new Series());
+    }
+
+    private void appendFamily(StringBuilder out, String name, String type, String help, int field) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        for (Map.Entry<SeriesKey, Series> entry : series.entrySet()) {
+            appendSample(out, name, entry.getKey(), null, entry.getValue().value(field));
+        }
+    }
+
+    private static void appendSample(StringBuilder out, String name, SeriesKey key, String le, long value) {
+        appendLabels(out.append(name), key, le);
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static void appendLabels(StringBuilder out, SeriesKey key, String le) {
+        out.append("{algorithm=\"");
+        appendEscaped(key.algorithm, out);
+        out.append("\",size=\"").append(key.sizeBucket).append('"');
+        if (le != null) {
+            out.append(",le=\"").append(le).append('"');
+        }
+        out.append('}');
+    }
+
+    private static void appendEscaped(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    /**
+     * @return Lower bound of n's power-of-ten bucket (1, 10, 100, ...).
+     */
+    static long sizeBucket(int n) {
+        long bucket = 1;
+        while (bucket * 10 <= n) {
+            bucket *= 10;
+        }
+        return bucket;
+    }
+
+    private static double[] bucketBounds() {
+        double[] steps = {1, 2.5, 5};
+        double[] bounds = new double[25];
+        int i = 0;
+        for (int exponent = -6; exponent <= 1; exponent++) {
+            for (double step : steps) {
+                bounds[i++] = step * Math.pow(10, exponent);
+            }
+        }
+        bounds[i] = 100;
+        return bounds;
+    }
+
+    private static class SeriesKey {
+        final String algorithm;
+        final long sizeBucket;
+
+        SeriesKey(String algorithm, long sizeBucket) {
+            this.algorithm = algorithm;
+            this.sizeBucket = sizeBucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SeriesKey)) return false;
+            SeriesKey other = (SeriesKey) o;
+            return sizeBucket == other.sizeBucket && algorithm.equals(other.algorithm);
+        }
+
+        @Override
+        public int hashCode() {
+            return algorithm.hashCode() * 31 + Long.hashCode(sizeBucket);
+        }
+    }
+
+    private static class Series {
+        final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1]; // Last is +Inf
+        final LongAdder durationNs = new LongAdder();
+        final LongAdder comparisons = new LongAdder();
+        final LongAdder allocations = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+        final LongAdder gcTimeMs = new LongAdder();
+        final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+
+        Series() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long timeNs, long comparisons, long allocations, long allocatedBytes, long gcTimeMs, int depth) {
+            double seconds = timeNs / 1e9;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS.length && seconds > BUCKET_BOUNDS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            durationNs.add(timeNs);
+            this.comparisons.add(comparisons);
+            this.allocations.add(allocations);
+            this.allocatedBytes.add(allocatedBytes);
+            this.gcTimeMs.add(gcTimeMs);
+            maxDepth.accumulate(depth);
+        }
+
+        long value(int field) {
+            switch (field) {
+                case 0: return comparisons.sum();
+                case 1: return allocations.sum();
+                case 2: return allocatedBytes.sum();
+                case 3: return gcTimeMs.sum();
+                default: return maxDepth.get();
+            }
+        }
+    }
+}
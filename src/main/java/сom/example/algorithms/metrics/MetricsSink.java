@@ -0,0 +1,27 @@
+package сom.example.algorithms.metrics;
+
+import java.io.IOException;
+
+/**
+ * Destination for metrics records. Implementations must be safe to call from several threads.
+ */
+public interface MetricsSink extends AutoCloseable {
+
+    /**
+     * Hands a record to the sink. May return before the record reaches its destination.
+     */
+    void write(MetricsRecord record);
+
+    /**
+     * Blocks until every record written so far has reached the destination.
+     * @throws IOException If writing failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes and releases the destination; later writes are rejected.
+     * @throws IOException If writing failed.
+     */
+    @Override
+    void close() throws IOException;
+}
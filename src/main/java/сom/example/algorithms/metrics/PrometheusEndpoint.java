@@ -0,0 +1,90 @@
+package сom.example.algorithms.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves a {@link MetricsRegistry} at {@code /metrics} for Prometheus to scrape, using the JDK's
+ * {@code com.sun.net.httpserver}. Requests are handled on one daemon thread of their own, so scrapes
+ * run beside the algorithm threads and only read the registry's counters.
+ * <p>
+ * Binds to the loopback address; put a proxy in front to expose it further.
+ */
+public class PrometheusEndpoint implements AutoCloseable {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts serving on the given loopback port.
+     * @param registry Registry to expose.
+     * @param port TCP port, or 0 to pick a free one (see {@link #getPort()}).
+     * @throws IOException If the port cannot be bound.
+     */
+    public PrometheusEndpoint(MetricsRegistry registry, int port) throws IOException {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry must not be null");
+        }
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be in [0, 65535]");
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", exchange -> handle(exchange, registry));
+        server.start();
+    }
+
+    /**
+     * @return Port the endpoint listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting scrapes and releases the port.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private static void handle(HttpExchange exchange, MetricsRegistry registry) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
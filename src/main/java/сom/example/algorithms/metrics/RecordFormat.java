@@ -0,0 +1,56 @@
+package сom.example.algorithms.metrics;
+
+import java.nio.file.Path;
+
+/**
+ * Text layout of metrics records in an output file.
+ * Implementations append to a caller-supplied StringBuilder so rows are built without
+ * intermediate strings or {@code String.format}.
+ */
+public interface RecordFormat {
+
+    /**
+     * @return Line written once at the start of an empty file (without newline), or null for none.
+     */
+    String header();
+
+    /**
+     * Appends one record as a single line, including the trailing newline.
+     */
+    void append(MetricsRecord record, StringBuilder out);
+
+    /**
+     * Picks the format from the file extension: {@code .jsonl} or {@code .json} for JSON lines,
+     * CSV otherwise.
+     */
+    static RecordFormat forPath(Path path) {
+        return forPath(path, false);
+    }
+
+    /**
+     * Like {@link #forPath(Path)}; CSV gets the phases column if requested (JSON lines always carry phases).
+     */
+    static RecordFormat forPath(Path path, boolean withPhases) {
+        return isJson(path) ? new JsonLinesFormat() : new CsvFormat(withPhases);
+    }
+
+    /**
+     * File for records with phases requested for {@code path}: CSV rows with the phases column have
+     * a different header, so they go to a sibling file, e.g. {@code out.csv} to {@code out.phases.csv}.
+     * JSON lines always carry phases and keep the path.
+     */
+    static Path phasesPath(Path path) {
+        if (isJson(path)) {
+            return path;
+        }
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String phasesName = dot > 0 ? name.substring(0, dot) + ".phases" + name.substring(dot) : name + ".phases";
+        return path.resolveSibling(phasesName);
+    }
+
+    private static boolean isJson(Path path) {
+        String name = path.getFileName().toString();
+        return name.endsWith(".jsonl") || name.endsWith(".json");
+    }
+}
@@ -0,0 +1,77 @@
+package сom.example.algorithms.metrics;
+
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Measures an algorithm after JIT warmup: runs batches (at least {@value #MIN_BATCH_RUNS} runs and
+ * 50 ms each) for at least half a second and until the batch mean time stops moving, then records a
+ * fixed number of runs. Small inputs need thousands of runs before C2 has compiled the hot loops,
+ * which is why batches are sized by time rather than by count. Every run gets a fresh input from the supplier, and only
+ * the tracker's start/stop interval is counted, so input generation and copying are not timed.
+ */
+public final class SteadyState {
+
+    public static final int DEFAULT_REPETITIONS = 30;
+
+    private static final int MIN_BATCH_RUNS = 10;
+    private static final long MIN_BATCH_NS = 50_000_000L;
+    private static final double TOLERANCE = 0.05; // Relative change of batch means counted as stable
+    private static final int STABLE_BATCHES = 3;
+    private static final long MIN_WARMUP_NS = 500_000_000L;
+    private static final long MAX_WARMUP_NS = 10_000_000_000L;
+
+    private SteadyState() {
+    }
+
+    /**
+     * @param tracker Tracker the call reports to; reset before every run, so afterwards it
+     *                holds the last measured run.
+     * @param input Supplies a fresh input per run (not timed).
+     * @param call Runs the algorithm on the input with {@code tracker}.
+     * @param repetitions Number of recorded runs (at least two).
+     * @return Statistics of the recorded run times.
+     */
+    public static <T> SteadyStateStats measure(MetricsTracker tracker, Supplier<T> input, Consumer<T> call,
+                                               int repetitions) {
+        if (repetitions < 2) {
+            throw new IllegalArgumentException("At least two repetitions are required");
+        }
+        long begin = System.nanoTime();
+        double previous = Double.NaN;
+        int stable = 0;
+        int warmupRuns = 0;
+        while (true) {
+            long elapsed = System.nanoTime() - begin;
+            if (elapsed >= MAX_WARMUP_NS || (stable >= STABLE_BATCHES && elapsed >= MIN_WARMUP_NS)) {
+                break;
+            }
+            long batchStart = System.nanoTime();
+            long total = 0;
+            int runs = 0;
+            while (runs < MIN_BATCH_RUNS || System.nanoTime() - batchStart < MIN_BATCH_NS) {
+                total += run(tracker, input, call);
+                runs++;
+            }
+            double mean = (double) total / runs;
+            stable = Math.abs(mean - previous) <= TOLERANCE * previous ? stable + 1 : 0;
+            previous = mean;
+            warmupRuns += runs;
+        }
+
+        long[] samples = new long[repetitions];
+        for (int i = 0; i < repetitions; i++) {
+            samples[i] = run(tracker, input, call);
+        }
+        return SteadyStateStats.of(samples, warmupRuns, stable >= STABLE_BATCHES);
+    }
+
+    private static <T> long run(MetricsTracker tracker, Supplier<T> input, Consumer<T> call) {
+        T fresh = input.get();
+        tracker.reset();
+        call.accept(fresh);
+        return tracker.getExecutionTimeNs();
+    }
+}
@@ -0,0 +1,139 @@
+package сom.example.algorithms.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Summary of repeated timings of one algorithm: mean, sample standard deviation, a 95% confidence
+ * interval for the mean (Student's t), median, and the number of outliers outside Tukey's fences
+ * (1.5 interquartile ranges beyond the quartiles). Outliers are counted, not removed.
+ */
+public class SteadyStateStats {
+
+    // Two-sided 95% Student t quantiles for 1..30 degrees of freedom
+    private static final double[] T_975 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+
+    private final int count;
+    private final double mean;
+    private final double stdDev;
+    private final double ciHalfWidth;
+    private final double median;
+    private final int outliers;
+    private final int warmupRuns;
+    private final boolean converged;
+
+    private SteadyStateStats(int count, double mean, double stdDev, double ciHalfWidth, double median,
+                             int outliers, int warmupRuns, boolean converged) {
+        this.count = count;
+        this.mean = mean;
+        this.stdDev = stdDev;
+        this.ciHalfWidth = ciHalfWidth;
+        this.median = median;
+        this.outliers = outliers;
+        this.warmupRuns = warmupRuns;
+        this.converged = converged;
+    }
+
+    /**
+     * @param samples Measured times in nanoseconds (at least two).
+     * @param warmupRuns Unrecorded runs before the samples.
+     * @param converged Whether the warmup reached stable timings before its budget ran out.
+     */
+    public static SteadyStateStats of(long[] samples, int warmupRuns, boolean converged) {
+        if (samples.length < 2) {
+            throw new IllegalArgumentException("At least two samples are required");
+        }
+        int n = samples.length;
+        double sum = 0;
+        for (long sample : samples) {
+            sum += sample;
+        }
+        double mean = sum / n;
+        double squares = 0;
+        for (long sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        double stdDev = Math.sqrt(squares / (n - 1));
+        double halfWidth = tQuantile(n - 1) * stdDev / Math.sqrt(n);
+
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        double q1 = quantile(sorted, 0.25);
+        double q3 = quantile(sorted, 0.75);
+        double low = q1 - 1.5 * (q3 - q1);
+        double high = q3 + 1.5 * (q3 - q1);
+        int outliers = 0;
+        for (long sample : sorted) {
+            if (sample < low || sample > high) {
+                outliers++;
+            }
+        }
+        return new SteadyStateStats(n, mean, stdDev, halfWidth, quantile(sorted, 0.5), outliers, warmupRuns, converged);
+    }
+
+    /**
+     * @return Two-sided 95% quantile of Student's t distribution; the Cornish-Fisher
+     *         expansion beyond the table, accurate to about 0.001.
+     */
+    static double tQuantile(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_975.length) {
+            return T_975[degreesOfFreedom - 1];
+        }
+        double z = 1.959964;
+        double df = degreesOfFreedom;
+        return z + (z * z * z + z) / (4 * df) + (5 * Math.pow(z, 5) + 16 * z * z * z + 3 * z) / (96 * df * df);
+    }
+
+    // Linear interpolation between closest ranks
+    private static double quantile(long[] sorted, double q) {
+        double rank = q * (sorted.length - 1);
+        int lower = (int) rank;
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStdDev() {
+        return stdDev;
+    }
+
+    public double getCiLow() {
+        return mean - ciHalfWidth;
+    }
+
+    public double getCiHigh() {
+        return mean + ciHalfWidth;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    public int getOutliers() {
+        return outliers;
+    }
+
+    public int getWarmupRuns() {
+        return warmupRuns;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mean=%.0fns sd=%.0fns ci95=[%.0f, %.0f] median=%.0fns outliers=%d/%d warmup=%d%s",
+                mean, stdDev, getCiLow(), getCiHigh(), median, outliers, count, warmupRuns,
+                converged ? "" : " (not stable)");
+    }
+}
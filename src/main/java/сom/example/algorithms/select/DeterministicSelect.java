@@ -1,6 +1,8 @@
 package сom.example.algorithms.select;
 
-import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.simd.Kernels;
+import сom.example.algorithms.simd.Simd;
+import сom.example.algorithms.util.Tracker;
 import сom.example.algorithms.util.PartitionUtil;
 
 import java.util.Arrays;
@@ -12,6 +14,9 @@ import java.util.Arrays;
  */
 public class DeterministicSelect {
 
+    private static final Kernels SIMD = Simd.kernels();
+    private static final int SIMD_CUTOFF = 256; // Smallest range given to the vector partition
+
     /**
      * Finds the k-th smallest element (0-based) in the array.
      * The array is modified in-place.
@@ -21,7 +26,7 @@ public class DeterministicSelect {
      * @param <T> Type extending Comparable.
      * @return The k-th smallest element.
      */
-    public <T extends Comparable<T>> T select(T[] arr, int k, MetricsTracker tracker) {
+    public <T extends Comparable<T>> T select(T[] arr, int k, Tracker tracker) {
         PartitionUtil.checkNotNullOrEmpty(arr);
         if (k < 0 || k >= arr.length) {
             throw new IllegalArgumentException("k out of bounds");
@@ -32,17 +37,74 @@ public class DeterministicSelect {
         return result;
     }
 
+    /**
+     * Primitive counterpart of {@link #select(Comparable[], int, Tracker)}. The median of medians
+     * is gathered in place at the front of the range, so no arrays are allocated, except for one
+     * scratch array when the SIMD kernels (see {@link Simd}) partition ranges of at least
+     * {@value #SIMD_CUTOFF} keys.
+     * @param arr The array, modified in place.
+     * @param k The order statistic (0 for smallest, arr.length-1 for largest).
+     * @param tracker Metrics tracker for performance data.
+     * @return The k-th smallest key.
+     */
+    public int select(int[] arr, int k, Tracker tracker) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= arr.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+        tracker.start();
+        int[] scratch = null;
+        if (SIMD != null && arr.length >= SIMD_CUTOFF) {
+            tracker.incrementAllocation(); // For the partition scratch
+            scratch = new int[arr.length];
+        }
+        selectHelper(arr, 0, arr.length - 1, k, scratch, tracker);
+        tracker.stop();
+        return arr[k];
+    }
+
+    /**
+     * Primitive variant for index arrays ordered by a double key (e.g., point coordinates).
+     * Rearranges indices[low..high] so that indices[k] holds the index with the k-th smallest key
+     * in that range, with keys to its left &lt;= and keys to its right &gt;= (nth_element semantics).
+     * Uses the same median-of-medians pivot, computed in place without allocating.
+     * @param indices Index array to rearrange.
+     * @param keys Key of each index (NaN is not supported).
+     * @param low First position of the range (inclusive).
+     * @param high Last position of the range (inclusive).
+     * @param k Target position, low <= k <= high.
+     * @param tracker Metrics tracker for performance data.
+     */
+    public void selectIndex(int[] indices, double[] keys, int low, int high, int k, Tracker tracker) {
+        if (indices == null || keys == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        if (low < 0 || high >= indices.length || low > high) {
+            throw new IllegalArgumentException("Invalid range");
+        }
+        if (k < low || k > high) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+        selectIndexHelper(indices, keys, low, high, k, tracker);
+    }
+
     /**
      * Recursive helper for finding the k-th smallest element.
      * T(n) = T(n/5) + T(7n/10) + O(n) -> Akra-Bazzi method,
      * where p=1 (from integration), β≈0.794 < 1, thus Θ(n) worst-case complexity.
      */
-    private <T extends Comparable<T>> T selectHelper(T[] arr, int low, int high, int k, MetricsTracker tracker) {
+    private <T extends Comparable<T>> T selectHelper(T[] arr, int low, int high, int k, Tracker tracker) {
         try {
             tracker.enterRecursion();
             while (low < high) {
+                tracker.enterPhase("medianOfMedians");
                 T pivot = medianOfMedians(arr, low, high, tracker);
+                tracker.exitPhase();
+                tracker.enterPhase("partition");
                 int[] bounds = threeWayPartition(arr, low, high, pivot, tracker);
+                tracker.exitPhase();
                 int lt = bounds[0];
                 int gt = bounds[1];
 
@@ -86,7 +148,7 @@ public class DeterministicSelect {
     /**
      * Computes the median of medians by grouping into 5s and recursing.
      */
-    private <T extends Comparable<T>> T medianOfMedians(T[] arr, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> T medianOfMedians(T[] arr, int low, int high, Tracker tracker) {
         int n = high - low + 1;
         if (n <= 5) {
             insertionSort(arr, low, high, tracker);
@@ -113,7 +175,7 @@ public class DeterministicSelect {
      * Performs a three-way partition: < pivot | == pivot | > pivot.
      * Returns [lt, gt] where lt is the start of ==, gt is the end of ==.
      */
-    private <T extends Comparable<T>> int[] threeWayPartition(T[] arr, int low, int high, T pivot, MetricsTracker tracker) {
+    private <T extends Comparable<T>> int[] threeWayPartition(T[] arr, int low, int high, T pivot, Tracker tracker) {
         // Find and swap one occurrence of pivot to high
         boolean found = false;
         for (int j = low; j <= high; j++) {
@@ -148,13 +210,176 @@ public class DeterministicSelect {
                 i++;
             }
         }
+        tracker.incrementAllocation(); // For the bounds array
         return new int[]{lt, gt};
     }
 
+    /**
+     * Index/key counterpart of selectHelper; k is an absolute position within [low, high].
+     */
+    private void selectIndexHelper(int[] idx, double[] keys, int low, int high, int k, Tracker tracker) {
+        try {
+            tracker.enterRecursion();
+            while (low < high) {
+                tracker.enterPhase("medianOfMedians");
+                double pivot = medianOfMediansIndex(idx, keys, low, high, tracker);
+                tracker.exitPhase();
+                // Three-way partition: < pivot | == pivot | > pivot
+                tracker.enterPhase("partition");
+                int lt = low, gt = high, i = low;
+                while (i <= gt) {
+                    tracker.incrementComparison();
+                    double key = keys[idx[i]];
+                    if (key < pivot) {
+                        swap(idx, lt++, i++);
+                    } else if (key > pivot) {
+                        swap(idx, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+                tracker.exitPhase();
+                if (k < lt) {
+                    high = lt - 1;
+                } else if (k > gt) {
+                    low = gt + 1;
+                } else {
+                    return;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    /**
+     * Median of medians in place: each group's median is swapped to the front of the range,
+     * and the median of that prefix is selected recursively.
+     */
+    private double medianOfMediansIndex(int[] idx, double[] keys, int low, int high, Tracker tracker) {
+        int n = high - low + 1;
+        if (n <= 5) {
+            insertionSortIndex(idx, keys, low, high, tracker);
+            return keys[idx[low + n / 2]];
+        }
+        int numGroups = (n + 4) / 5;
+        for (int i = 0; i < numGroups; i++) {
+            int groupLow = low + i * 5;
+            int groupHigh = Math.min(groupLow + 4, high);
+            insertionSortIndex(idx, keys, groupLow, groupHigh, tracker);
+            swap(idx, low + i, (groupLow + groupHigh) / 2);
+        }
+        int mid = low + numGroups / 2;
+        selectIndexHelper(idx, keys, low, low + numGroups - 1, mid, tracker);
+        return keys[idx[mid]];
+    }
+
+    private void insertionSortIndex(int[] idx, double[] keys, int low, int high, Tracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int item = idx[i];
+            double key = keys[item];
+            int j = i - 1;
+            while (j >= low) {
+                tracker.incrementComparison();
+                if (keys[idx[j]] > key) {
+                    idx[j + 1] = idx[j];
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            idx[j + 1] = item;
+        }
+    }
+
+    /**
+     * int[] counterpart of selectIndexHelper: leaves the k-th smallest key at arr[k].
+     */
+    private void selectHelper(int[] arr, int low, int high, int k, int[] scratch, Tracker tracker) {
+        try {
+            tracker.enterRecursion();
+            while (low < high) {
+                tracker.enterPhase("medianOfMedians");
+                int pivot = medianOfMedians(arr, low, high, scratch, tracker);
+                tracker.exitPhase();
+                tracker.enterPhase("partition");
+                int lt = low, gt = high, i = low;
+                if (scratch != null && high - low + 1 >= SIMD_CUTOFF) {
+                    long bounds = SIMD.partition3(arr, low, high, pivot, scratch, tracker);
+                    lt = Simd.lt(bounds);
+                    gt = Simd.gt(bounds);
+                    i = gt + 1; // Skips the scalar loop
+                }
+                while (i <= gt) {
+                    tracker.incrementComparison();
+                    int key = arr[i];
+                    if (key < pivot) {
+                        swap(arr, lt++, i++);
+                    } else if (key > pivot) {
+                        swap(arr, i, gt--);
+                    } else {
+                        i++;
+                    }
+                }
+                tracker.exitPhase();
+                if (k < lt) {
+                    high = lt - 1;
+                } else if (k > gt) {
+                    low = gt + 1;
+                } else {
+                    return;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private int medianOfMedians(int[] arr, int low, int high, int[] scratch, Tracker tracker) {
+        int n = high - low + 1;
+        if (n <= 5) {
+            insertionSort(arr, low, high, tracker);
+            return arr[low + n / 2];
+        }
+        int numGroups = (n + 4) / 5;
+        for (int i = 0; i < numGroups; i++) {
+            int groupLow = low + i * 5;
+            int groupHigh = Math.min(groupLow + 4, high);
+            insertionSort(arr, groupLow, groupHigh, tracker);
+            swap(arr, low + i, (groupLow + groupHigh) / 2);
+        }
+        int mid = low + numGroups / 2;
+        selectHelper(arr, low, low + numGroups - 1, mid, scratch, tracker);
+        return arr[mid];
+    }
+
+    private void insertionSort(int[] arr, int low, int high, Tracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low) {
+                tracker.incrementComparison();
+                if (arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
     /**
      * Insertion sort for small groups or base cases.
      */
-    private <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, Tracker tracker) {
         for (int i = low + 1; i <= high; i++) {
             T key = arr[i];
             int j = i - 1;
@@ -0,0 +1,288 @@
+package сom.example.algorithms.select;
+
+import java.util.Arrays;
+
+/**
+ * Build-once index for repeated order-statistic queries over a static int array.
+ * A sorted copy answers select in O(1) and rank/range-count in O(log n); a wavelet matrix over
+ * value ranks answers the same queries restricted to a subarray [from, to) in O(log sigma),
+ * where sigma is the number of distinct values. The input array is never modified.
+ */
+public class OrderStatisticIndex {
+
+    private final int n;
+    private final int[] sorted;
+    private final int[] distinct;  // Sorted distinct values; the wavelet matrix stores indices into it
+    private final int bitsPerValue;
+    private final long[][] bits;    // bits[level][word], level 0 is the most significant bit
+    private final int[][] ranks;    // ranks[level][w] = number of ones before word w
+    private final int[] zeros;      // zeros[level] = number of zero bits on that level
+
+    /**
+     * Builds the index in O(n log n) time.
+     * @param values The data (copied, not modified).
+     */
+    public OrderStatisticIndex(int[] values) {
+        if (values == null) throw new IllegalArgumentException("Array cannot be null");
+        if (values.length == 0) throw new IllegalArgumentException("Array cannot be empty");
+        n = values.length;
+        sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int distinctCount = 1;
+        for (int i = 1; i < n; i++) {
+            if (sorted[i] != sorted[i - 1]) distinctCount++;
+        }
+        distinct = new int[distinctCount];
+        distinct[0] = sorted[0];
+        for (int i = 1, d = 1; i < n; i++) {
+            if (sorted[i] != sorted[i - 1]) distinct[d++] = sorted[i];
+        }
+
+        bitsPerValue = Math.max(1, 32 - Integer.numberOfLeadingZeros(distinctCount - 1));
+        bits = new long[bitsPerValue][];
+        ranks = new int[bitsPerValue][];
+        zeros = new int[bitsPerValue];
+
+        int[] current = new int[n];
+        for (int i = 0; i < n; i++) {
+            current[i] = Arrays.binarySearch(distinct, values[i]);
+        }
+        int[] next = new int[n];
+        int words = (n + 63) >>> 6;
+        for (int level = 0; level < bitsPerValue; level++) {
+            int shift = bitsPerValue - 1 - level;
+            long[] levelBits = new long[words];
+            int zeroCount = 0;
+            for (int i = 0; i < n; i++) {
+                if (((current[i] >>> shift) & 1) != 0) {
+                    levelBits[i >>> 6] |= 1L << (i & 63);
+                } else {
+                    zeroCount++;
+                }
+            }
+            int[] levelRanks = new int[words + 1];
+            for (int w = 0; w < words; w++) {
+                levelRanks[w + 1] = levelRanks[w] + Long.bitCount(levelBits[w]);
+            }
+            // Stable partition: zeros first, then ones
+            int z = 0, o = zeroCount;
+            for (int i = 0; i < n; i++) {
+                if (((current[i] >>> shift) & 1) != 0) {
+                    next[o++] = current[i];
+                } else {
+                    next[z++] = current[i];
+                }
+            }
+            bits[level] = levelBits;
+            ranks[level] = levelRanks;
+            zeros[level] = zeroCount;
+            int[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Returns the k-th smallest element (0-based) of the whole array in O(1).
+     */
+    public int select(int k) {
+        if (k < 0 || k >= n) throw new IllegalArgumentException("k out of bounds");
+        return sorted[k];
+    }
+
+    /**
+     * Returns the number of elements strictly less than x in O(log n).
+     */
+    public int rank(int x) {
+        return lowerBound(sorted, x);
+    }
+
+    /**
+     * Returns the number of elements with lo <= value <= hi in O(log n).
+     */
+    public int rangeCount(int lo, int hi) {
+        if (lo > hi) return 0;
+        return upperBound(sorted, hi) - lowerBound(sorted, lo);
+    }
+
+    /**
+     * Returns the k-th smallest element (0-based) of the subarray [from, to) of the original array.
+     */
+    public int selectInRange(int from, int to, int k) {
+        checkRange(from, to);
+        if (k < 0 || k >= to - from) throw new IllegalArgumentException("k out of bounds");
+        int code = 0;
+        for (int level = 0; level < bitsPerValue; level++) {
+            int zerosBeforeFrom = rank0(level, from);
+            int zerosBeforeTo = rank0(level, to);
+            int zerosInRange = zerosBeforeTo - zerosBeforeFrom;
+            if (k < zerosInRange) {
+                from = zerosBeforeFrom;
+                to = zerosBeforeTo;
+            } else {
+                k -= zerosInRange;
+                from = zeros[level] + (from - zerosBeforeFrom);
+                to = zeros[level] + (to - zerosBeforeTo);
+                code |= 1 << (bitsPerValue - 1 - level);
+            }
+        }
+        return distinct[code];
+    }
+
+    /**
+     * Returns the number of elements strictly less than x in the subarray [from, to).
+     */
+    public int rankInRange(int from, int to, int x) {
+        checkRange(from, to);
+        int code = lowerBound(distinct, x);
+        if (code >= distinct.length) return to - from;
+        int count = 0;
+        for (int level = 0; level < bitsPerValue; level++) {
+            int zerosBeforeFrom = rank0(level, from);
+            int zerosBeforeTo = rank0(level, to);
+            if (((code >>> (bitsPerValue - 1 - level)) & 1) != 0) {
+                count += zerosBeforeTo - zerosBeforeFrom; // Everything on the zero side is smaller
+                from = zeros[level] + (from - zerosBeforeFrom);
+                to = zeros[level] + (to - zerosBeforeTo);
+            } else {
+                from = zerosBeforeFrom;
+                to = zerosBeforeTo;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements with lo <= value <= hi in the subarray [from, to).
+     */
+    public int rangeCountInRange(int from, int to, int lo, int hi) {
+        if (lo > hi) return 0;
+        int below = rankInRange(from, to, lo);
+        int belowOrEqual = hi == Integer.MAX_VALUE ? to - from : rankInRange(from, to, hi + 1);
+        return belowOrEqual - below;
+    }
+
+    /**
+     * Reports the heap bytes held by the index (array payloads plus headers).
+     */
+    public Footprint memoryFootprint() {
+        long sortedBytes = arrayBytes(4L * sorted.length);
+        long distinctBytes = arrayBytes(4L * distinct.length);
+        long bitBytes = 0;
+        long rankBytes = 0;
+        for (int level = 0; level < bitsPerValue; level++) {
+            bitBytes += arrayBytes(8L * bits[level].length);
+            rankBytes += arrayBytes(4L * ranks[level].length);
+        }
+        return new Footprint(n, sortedBytes, distinctBytes, bitBytes, rankBytes);
+    }
+
+    private int rank0(int level, int pos) {
+        return pos - rank1(level, pos);
+    }
+
+    private int rank1(int level, int pos) {
+        int word = pos >>> 6;
+        int bit = pos & 63;
+        int count = ranks[level][word];
+        if (bit != 0) {
+            count += Long.bitCount(bits[level][word] & ((1L << bit) - 1));
+        }
+        return count;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > n || from >= to) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+    }
+
+    private static int lowerBound(int[] arr, int x) {
+        int lo = 0, hi = arr.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(int[] arr, int x) {
+        int lo = 0, hi = arr.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static long arrayBytes(long payload) {
+        return 16 + ((payload + 7) & ~7L); // 16-byte array header, 8-byte alignment
+    }
+
+    /**
+     * Memory breakdown of an {@link OrderStatisticIndex}.
+     */
+    public static class Footprint {
+        private final int n;
+        private final long sortedBytes;
+        private final long distinctBytes;
+        private final long bitVectorBytes;
+        private final long rankDirectoryBytes;
+
+        Footprint(int n, long sortedBytes, long distinctBytes, long bitVectorBytes, long rankDirectoryBytes) {
+            this.n = n;
+            this.sortedBytes = sortedBytes;
+            this.distinctBytes = distinctBytes;
+            this.bitVectorBytes = bitVectorBytes;
+            this.rankDirectoryBytes = rankDirectoryBytes;
+        }
+
+        public long getSortedBytes() {
+            return sortedBytes;
+        }
+
+        public long getDistinctBytes() {
+            return distinctBytes;
+        }
+
+        public long getBitVectorBytes() {
+            return bitVectorBytes;
+        }
+
+        public long getRankDirectoryBytes() {
+            return rankDirectoryBytes;
+        }
+
+        public long getTotalBytes() {
+            return sortedBytes + distinctBytes + bitVectorBytes + rankDirectoryBytes;
+        }
+
+        public double getBytesPerElement() {
+            return (double) getTotalBytes() / n;
+        }
+
+        @Override
+        public String toString() {
+            return "OrderStatisticIndex[n=" + n + "]\n"
+                    + "  sorted copy:    " + sortedBytes + " B\n"
+                    + "  distinct:       " + distinctBytes + " B\n"
+                    + "  bit vectors:    " + bitVectorBytes + " B\n"
+                    + "  rank directory: " + rankDirectoryBytes + " B\n"
+                    + "  total:          " + getTotalBytes() + " B ("
+                    + String.format("%.2f", getBytesPerElement()) + " B/element)";
+        }
+    }
+}
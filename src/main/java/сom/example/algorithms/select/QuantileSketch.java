@@ -0,0 +1,289 @@
+package сom.example.algorithms.select;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Mergeable streaming quantile sketch in the style of KLL (Karnin, Lang, Liberty).
+ * Values are kept in a hierarchy of compactors: level h holds items of weight 2^h,
+ * and a full level is sorted and every other item (random offset) is promoted to the next one.
+ * Memory stays O(k) regardless of the stream length, and the rank error is bounded by
+ * {@link #getNormalizedRankError()} * n with high probability.
+ */
+public class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+    private static final double DECAY = 2.0 / 3.0; // Capacity ratio between adjacent levels
+
+    private final int k;
+    private final Random random;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    private int numLevels = 1;
+    private int retained = 0;
+    private long n = 0;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    // Sorted view for queries, rebuilt lazily after updates
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        this(k, new Random());
+    }
+
+    /**
+     * @param k Accuracy parameter; larger k means smaller rank error and more memory.
+     * @param random Source of compaction offsets (seed it for reproducible sketches).
+     */
+    public QuantileSketch(int k, Random random) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY);
+        }
+        this.k = k;
+        this.random = random;
+        levels[0] = new double[k];
+    }
+
+    /**
+     * Adds a value to the sketch.
+     * @param value The value (NaN is rejected).
+     */
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN values are not supported");
+        }
+        if (n == 0) {
+            min = value;
+            max = value;
+        } else {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        n++;
+        append(0, value);
+        while (retained >= maxRetained()) {
+            compress();
+        }
+        sortedValues = null;
+    }
+
+    /**
+     * Merges another sketch into this one (e.g., sketches built per thread or per shard).
+     * @param other Sketch with the same k; may be this sketch, which then counts every value twice.
+     */
+    public void merge(QuantileSketch other) {
+        if (other == null || other.n == 0) return;
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with different k");
+        }
+        if (n == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+        n += other.n;
+        // Sizes as of now: if other is this sketch, appending grows the levels being read
+        int otherLevels = other.numLevels;
+        int[] otherSizes = Arrays.copyOf(other.sizes, otherLevels);
+        for (int h = 0; h < otherLevels; h++) {
+            for (int i = 0; i < otherSizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        while (retained >= maxRetained()) {
+            compress();
+        }
+        sortedValues = null;
+    }
+
+    /**
+     * Returns the approximate value at the given 0-based rank.
+     * @param rank Rank in [0, n).
+     * @return Value whose rank is within the sketch error of the requested one.
+     */
+    public double valueAtRank(long rank) {
+        if (n == 0) throw new IllegalStateException("Sketch is empty");
+        if (rank < 0 || rank >= n) {
+            throw new IllegalArgumentException("rank out of bounds");
+        }
+        if (rank == 0) return min;
+        if (rank == n - 1) return max;
+        ensureSortedView();
+        int lo = 0, hi = cumulativeWeights.length - 1;
+        while (lo < hi) { // First item whose cumulative weight exceeds rank
+            int mid = (lo + hi) >>> 1;
+            if (cumulativeWeights[mid] > rank) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return sortedValues[lo];
+    }
+
+    /**
+     * Returns the approximate value at the given fraction of the stream (0.5 for the median).
+     */
+    public double getQuantile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("fraction must be in [0, 1]");
+        }
+        return valueAtRank(Math.min(n - 1, (long) (fraction * n)));
+    }
+
+    /**
+     * Returns the approximate number of values strictly less than the given value.
+     */
+    public long rankOf(double value) {
+        if (n == 0) return 0;
+        ensureSortedView();
+        int lo = 0, hi = sortedValues.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedValues[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo == 0 ? 0 : cumulativeWeights[lo - 1];
+    }
+
+    /**
+     * Normalized single-sided rank error (fraction of n) that holds with ~99% confidence.
+     * Empirical constants from the KLL analysis used by Apache DataSketches.
+     */
+    public double getNormalizedRankError() {
+        return 2.296 / Math.pow(k, 0.9723);
+    }
+
+    public long getN() {
+        return n;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Number of values physically stored by the sketch.
+     */
+    public int getRetainedItems() {
+        return retained;
+    }
+
+    private void append(int level, double value) {
+        while (level >= numLevels) {
+            addLevel();
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, numLevels + 1);
+        sizes = Arrays.copyOf(sizes, numLevels + 1);
+        levels[numLevels] = new double[MIN_LEVEL_CAPACITY];
+        numLevels++;
+    }
+
+    /**
+     * Compacts the lowest level that is over its capacity.
+     * One always exists when the total is over budget, since the budget is the sum of capacities.
+     */
+    private void compress() {
+        for (int h = 0; h < numLevels; h++) {
+            if (sizes[h] >= capacity(h)) {
+                compact(h);
+                return;
+            }
+        }
+        throw new IllegalStateException("No level over capacity");
+    }
+
+    /**
+     * Sorts level h and promotes every other item to level h+1, halving its weight count.
+     * An odd leftover item stays on level h so no weight is lost.
+     */
+    private void compact(int h) {
+        if (h + 1 >= numLevels) {
+            addLevel();
+        }
+        double[] level = levels[h];
+        int size = sizes[h];
+        Arrays.sort(level, 0, size);
+        int pairs = size / 2 * 2;
+        double leftover = level[size - 1];
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = offset; i < pairs; i += 2) {
+            append(h + 1, level[i]);
+        }
+        retained -= pairs;
+        if (size != pairs) {
+            level[0] = leftover;
+            sizes[h] = 1;
+        } else {
+            sizes[h] = 0;
+        }
+    }
+
+    private int capacity(int level) {
+        int depth = numLevels - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+    }
+
+    private int maxRetained() {
+        int total = 0;
+        for (int h = 0; h < numLevels; h++) {
+            total += capacity(h);
+        }
+        return total;
+    }
+
+    /**
+     * All items of a level have the same weight, so the levels are sorted in place (compaction
+     * re-sorts a level anyway, so their order carries no information) and merged by value.
+     * Only the two result arrays are allocated; the merge costs O(retained * levels).
+     */
+    private void ensureSortedView() {
+        if (sortedValues != null) return;
+        int[] next = new int[numLevels];
+        for (int h = 0; h < numLevels; h++) {
+            Arrays.sort(levels[h], 0, sizes[h]);
+        }
+        sortedValues = new double[retained];
+        cumulativeWeights = new long[retained];
+        long cumulative = 0;
+        for (int i = 0; i < retained; i++) {
+            int smallest = -1;
+            for (int h = 0; h < numLevels; h++) {
+                if (next[h] < sizes[h] && (smallest < 0 || levels[h][next[h]] < levels[smallest][next[smallest]])) {
+                    smallest = h;
+                }
+            }
+            sortedValues[i] = levels[smallest][next[smallest]++];
+            cumulative += 1L << smallest;
+            cumulativeWeights[i] = cumulative;
+        }
+    }
+}
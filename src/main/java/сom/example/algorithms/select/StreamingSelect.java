@@ -0,0 +1,174 @@
+package сom.example.algorithms.select;
+
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+/**
+ * Order statistics over streams that do not fit in memory.
+ * APPROXIMATE mode answers from a {@link QuantileSketch} in one pass and constant memory.
+ * EXACT mode uses the sketch to bracket the target rank with a small value band, collects that band
+ * in a second pass and finishes with {@link DeterministicSelect} on the collected values.
+ */
+public class StreamingSelect {
+
+    public enum Mode {
+        APPROXIMATE,
+        EXACT
+    }
+
+    private static final int DEFAULT_MAX_BAND_SIZE = 1 << 22;
+
+    private final int sketchK;
+    private final int maxBandSize;
+
+    public StreamingSelect() {
+        this(QuantileSketch.DEFAULT_K, DEFAULT_MAX_BAND_SIZE);
+    }
+
+    /**
+     * @param sketchK Accuracy parameter of the sketch built in the first pass.
+     * @param maxBandSize Maximum number of values the exact pass may hold in memory.
+     */
+    public StreamingSelect(int sketchK, int maxBandSize) {
+        if (maxBandSize <= 0) {
+            throw new IllegalArgumentException("maxBandSize must be positive");
+        }
+        this.sketchK = sketchK;
+        this.maxBandSize = maxBandSize;
+    }
+
+    /**
+     * Finds the k-th smallest value (0-based) of a re-readable stream.
+     * @param source Supplies a fresh stream over the same data for every pass.
+     * @param k The order statistic.
+     * @param mode APPROXIMATE (one pass) or EXACT (two passes).
+     * @param tracker Metrics tracker for the in-memory selection of the exact pass.
+     * @return The k-th smallest value, exact or within the sketch rank error.
+     */
+    public double select(Supplier<? extends DoubleStream> source, long k, Mode mode, Tracker tracker) {
+        QuantileSketch sketch = sketch(source);
+        if (mode == Mode.APPROXIMATE) {
+            checkRank(sketch, k);
+            return sketch.valueAtRank(k);
+        }
+        return selectExact(source, sketch, k, tracker);
+    }
+
+    /**
+     * Builds a sketch over one pass of the stream.
+     */
+    public QuantileSketch sketch(Supplier<? extends DoubleStream> source) {
+        QuantileSketch sketch = new QuantileSketch(sketchK);
+        try (DoubleStream stream = source.get()) {
+            stream.forEach(sketch::update);
+        }
+        return sketch;
+    }
+
+    /**
+     * Exact pass for an already built sketch (e.g., one merged from per-shard sketches).
+     * The band around rank k starts at twice the sketch error and doubles until it brackets k;
+     * values equal to the band bounds are only counted, so duplicates do not consume memory.
+     * @param source Supplies a fresh stream over the data the sketch was built from.
+     * @param sketch Sketch over exactly that data.
+     * @param k The order statistic.
+     * @param tracker Metrics tracker for the in-memory selection.
+     * @return The exact k-th smallest value.
+     */
+    public double selectExact(Supplier<? extends DoubleStream> source, QuantileSketch sketch, long k, Tracker tracker) {
+        checkRank(sketch, k);
+        long n = sketch.getN();
+        double slack = Math.max(1.0, sketch.getNormalizedRankError() * n);
+
+        for (double factor = 2; ; factor *= 2) {
+            long margin = (long) Math.ceil(slack * factor);
+            double lo = k - margin < 0 ? Double.NEGATIVE_INFINITY : sketch.valueAtRank(k - margin);
+            double hi = k + margin >= n ? Double.POSITIVE_INFINITY : sketch.valueAtRank(k + margin);
+
+            BandCollector band = new BandCollector(lo, hi, maxBandSize);
+            try (DoubleStream stream = source.get()) {
+                stream.forEach(band);
+            }
+            if (band.below + band.equalLo + band.inner + band.equalHi + band.above != n) {
+                throw new IllegalStateException("Stream changed between passes");
+            }
+
+            long rank = k - band.below;
+            if (rank >= 0) {
+                if (rank < band.equalLo) {
+                    return lo;
+                }
+                rank -= band.equalLo;
+                if (rank < band.inner) {
+                    Double[] values = new Double[band.inner];
+                    for (int i = 0; i < band.inner; i++) {
+                        values[i] = band.values[i];
+                    }
+                    tracker.incrementAllocation(); // For the band array
+                    return new DeterministicSelect().select(values, (int) rank, tracker);
+                }
+                rank -= band.inner;
+                if (rank < band.equalHi) {
+                    return hi;
+                }
+            }
+            // The sketch missed its error bound (low probability): widen the band and retry
+        }
+    }
+
+    private static void checkRank(QuantileSketch sketch, long k) {
+        if (sketch.getN() == 0) {
+            throw new IllegalArgumentException("Stream cannot be empty");
+        }
+        if (k < 0 || k >= sketch.getN()) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+    }
+
+    /**
+     * Second-pass consumer: counts values outside and on the band bounds, keeps values strictly inside.
+     */
+    private static class BandCollector implements DoubleConsumer {
+        private final double lo;
+        private final double hi;
+        private final int limit;
+        private double[] values;
+        private int inner = 0;
+        private long below = 0;
+        private long equalLo = 0;
+        private long equalHi = 0;
+        private long above = 0;
+
+        BandCollector(double lo, double hi, int limit) {
+            this.lo = lo;
+            this.hi = hi;
+            this.limit = limit;
+            this.values = new double[Math.min(64, limit)];
+        }
+
+        @Override
+        public void accept(double value) {
+            if (value < lo) {
+                below++;
+            } else if (value == lo) {
+                equalLo++;
+            } else if (value > hi) {
+                above++;
+            } else if (value == hi) {
+                equalHi++;
+            } else {
+                if (inner == values.length) {
+                    if (inner == limit) {
+                        throw new IllegalStateException("Value band exceeds " + limit + " elements; increase sketch k");
+                    }
+                    values = Arrays.copyOf(values, (int) Math.min(limit, 2L * inner));
+                }
+                values[inner++] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package сom.example.algorithms.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Framing shared by requests and responses: every message is a big-endian int length followed by
+ * that many payload bytes. Key and coordinate arrays are moved in bulk through a byte buffer
+ * rather than element by element.
+ */
+final class Frames {
+
+    static final int MAX_FRAME_BYTES = 1 << 30;
+
+    private Frames() {
+    }
+
+    /**
+     * Reads the length of the next frame.
+     * @return The payload length, or -1 at a clean end of stream.
+     * @throws ProtocolException If the length is negative or above {@link #MAX_FRAME_BYTES}.
+     */
+    static int readLength(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return -1;
+        }
+        int length = (first << 24) | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8) | in.readUnsignedByte();
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new ProtocolException("Bad frame length: " + length);
+        }
+        return length;
+    }
+
+    static void expect(int length, long expected) throws ProtocolException {
+        if (length != expected) {
+            throw new ProtocolException("Frame of " + length + " bytes, expected " + expected);
+        }
+    }
+
+    static int readCount(DataInputStream in, int maxCount) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > maxCount) {
+            throw new ProtocolException("Bad element count: " + count);
+        }
+        return count;
+    }
+
+    static int[] readInts(DataInputStream in, int count) throws IOException {
+        byte[] bytes = new byte[count * Integer.BYTES];
+        in.readFully(bytes);
+        int[] values = new int[count];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(values);
+        return values;
+    }
+
+    static double[] readDoubles(DataInputStream in, int count) throws IOException {
+        byte[] bytes = new byte[count * Double.BYTES];
+        in.readFully(bytes);
+        double[] values = new double[count];
+        ByteBuffer.wrap(bytes).asDoubleBuffer().get(values);
+        return values;
+    }
+
+    static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+        bytes.asIntBuffer().put(values);
+        out.write(bytes.array());
+    }
+
+    static void writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Double.BYTES);
+        bytes.asDoubleBuffer().put(values);
+        out.write(bytes.array());
+    }
+}
@@ -0,0 +1,92 @@
+package сom.example.algorithms.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client side of the {@link JobServer} protocol. Requests may be pipelined: {@link #send} is
+ * thread-safe and {@link #receive} returns answers in completion order, matched by request id.
+ * Only one thread may receive at a time.
+ */
+public class JobClient implements AutoCloseable {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final ReentrantLock sendLock = new ReentrantLock();
+
+    /**
+     * Connects to a server listening on the loopback address.
+     */
+    public JobClient(int port) throws IOException {
+        this(new Socket(InetAddress.getLoopbackAddress(), port));
+    }
+
+    private JobClient(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 1 << 16));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+    }
+
+    /**
+     * Talks over a pair of streams, e.g. to a server serving a child process's stdin/stdout.
+     */
+    public JobClient(InputStream in, OutputStream out) {
+        this.socket = null;
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+    }
+
+    /**
+     * Sends one request and flushes it.
+     */
+    public void send(JobRequest request) throws IOException {
+        sendLock.lock();
+        try {
+            request.write(out);
+            out.flush();
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the next answer.
+     * @throws EOFException If the server closed the connection.
+     */
+    public JobResponse receive() throws IOException {
+        JobResponse response = JobResponse.read(in);
+        if (response == null) {
+            throw new EOFException("Server closed the connection");
+        }
+        return response;
+    }
+
+    /**
+     * Sends one request and waits for its answer; only for clients that do not pipeline.
+     */
+    public JobResponse call(JobRequest request) throws IOException {
+        send(request);
+        return receive();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (socket != null) {
+            socket.close();
+        } else {
+            out.close();
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package сom.example.algorithms.server;
+
+import сom.example.algorithms.closest.PointSet;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+
+/**
+ * One job for the {@link JobServer}.
+ * <p>
+ * Payload: operation code (byte), request id (long), k (int), element count (int), then the count
+ * int keys, or for {@link Operation#CLOSEST_PAIR} the count x coordinates followed by the count y
+ * coordinates (doubles). k is ignored by SORT and CLOSEST_PAIR. The id is chosen by the client and
+ * echoed in the response, so a client can pipeline requests and match answers arriving out of order.
+ */
+public class JobRequest {
+
+    static final int HEADER_BYTES = 1 + Long.BYTES + 2 * Integer.BYTES;
+
+    private final Operation operation;
+    private final long id;
+    private final int k;
+    private final int[] keys;
+    private final PointSet points;
+
+    private JobRequest(Operation operation, long id, int k, int[] keys, PointSet points) {
+        this.operation = operation;
+        this.id = id;
+        this.k = k;
+        this.keys = keys;
+        this.points = points;
+    }
+
+    public static JobRequest sort(long id, int[] keys) {
+        return keyed(Operation.SORT, id, 0, keys);
+    }
+
+    /**
+     * @param k Order statistic, 0 for the smallest key.
+     */
+    public static JobRequest select(long id, int[] keys, int k) {
+        return keyed(Operation.SELECT, id, k, keys);
+    }
+
+    /**
+     * @param k Number of largest keys to return.
+     */
+    public static JobRequest topK(long id, int[] keys, int k) {
+        return keyed(Operation.TOP_K, id, k, keys);
+    }
+
+    public static JobRequest closestPair(long id, PointSet points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points cannot be null");
+        }
+        return new JobRequest(Operation.CLOSEST_PAIR, id, 0, null, points);
+    }
+
+    private static JobRequest keyed(Operation operation, long id, int k, int[] keys) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null");
+        }
+        return new JobRequest(operation, id, k, keys, null);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return The keys (not copied), or null for CLOSEST_PAIR.
+     */
+    public int[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return The points, or null unless CLOSEST_PAIR.
+     */
+    public PointSet getPoints() {
+        return points;
+    }
+
+    /**
+     * @return Number of keys or points.
+     */
+    public int size() {
+        return keys != null ? keys.length : points.size();
+    }
+
+    /**
+     * Writes the request as one frame; the caller flushes.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        int elementBytes = keys != null ? Integer.BYTES : 2 * Double.BYTES;
+        long length = HEADER_BYTES + (long) size() * elementBytes;
+        if (length > Frames.MAX_FRAME_BYTES) {
+            throw new IllegalArgumentException("Request too large: " + length + " bytes");
+        }
+        out.writeInt((int) length);
+        out.writeByte(operation.getCode());
+        out.writeLong(id);
+        out.writeInt(k);
+        out.writeInt(size());
+        if (keys != null) {
+            Frames.writeInts(out, keys);
+        } else {
+            Frames.writeDoubles(out, points.getXs());
+            Frames.writeDoubles(out, points.getYs());
+        }
+    }
+
+    /**
+     * Reads the next request frame.
+     * @return The request, or null at a clean end of stream.
+     * @throws ProtocolException If the frame is malformed.
+     */
+    public static JobRequest read(DataInputStream in) throws IOException {
+        int length = Frames.readLength(in);
+        if (length < 0) {
+            return null;
+        }
+        if (length < HEADER_BYTES) {
+            throw new ProtocolException("Request frame too short: " + length);
+        }
+        Operation operation;
+        try {
+            operation = Operation.fromCode(in.readUnsignedByte());
+        } catch (IllegalArgumentException e) {
+            throw new ProtocolException(e.getMessage());
+        }
+        long id = in.readLong();
+        int k = in.readInt();
+        if (operation == Operation.CLOSEST_PAIR) {
+            int count = Frames.readCount(in, (length - HEADER_BYTES) / (2 * Double.BYTES));
+            Frames.expect(length, HEADER_BYTES + (long) count * 2 * Double.BYTES);
+            double[] xs = Frames.readDoubles(in, count);
+            double[] ys = Frames.readDoubles(in, count);
+            return new JobRequest(operation, id, k, null, new PointSet(xs, ys));
+        }
+        int count = Frames.readCount(in, (length - HEADER_BYTES) / Integer.BYTES);
+        Frames.expect(length, HEADER_BYTES + (long) count * Integer.BYTES);
+        return new JobRequest(operation, id, k, Frames.readInts(in, count), null);
+    }
+}
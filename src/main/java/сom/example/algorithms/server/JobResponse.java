@@ -0,0 +1,202 @@
+package сom.example.algorithms.server;
+
+import сom.example.algorithms.closest.ClosestPairResult;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Answer to one {@link JobRequest}, with the server-side latency split into time spent admitted
+ * but waiting to run and time spent running.
+ * <p>
+ * Payload: request id (long), operation code (byte), status (byte: 0 ok, 1 error), queue time and
+ * service time in ns (longs), then the result: for SORT and TOP_K a count and that many int keys,
+ * for SELECT the key, for CLOSEST_PAIR the two point indices and the distance (double), and for an
+ * error a UTF-8 message preceded by its byte length.
+ */
+public class JobResponse {
+
+    static final int HEADER_BYTES = Long.BYTES + 2 + 2 * Long.BYTES;
+
+    private static final int STATUS_OK = 0;
+    private static final int STATUS_ERROR = 1;
+
+    private final long id;
+    private final Operation operation;
+    private final long queueNs;
+    private final long serviceNs;
+    private final int[] keys;
+    private final int value;
+    private final ClosestPairResult pair;
+    private final String error;
+
+    JobResponse(long id, Operation operation, long queueNs, long serviceNs,
+                int[] keys, int value, ClosestPairResult pair, String error) {
+        this.id = id;
+        this.operation = operation;
+        this.queueNs = queueNs;
+        this.serviceNs = serviceNs;
+        this.keys = keys;
+        this.value = value;
+        this.pair = pair;
+        this.error = error;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public boolean isError() {
+        return error != null;
+    }
+
+    /**
+     * @return Error message, or null if the job succeeded.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return Nanoseconds between the server reading the request and starting the job.
+     */
+    public long getQueueNs() {
+        return queueNs;
+    }
+
+    /**
+     * @return Nanoseconds the job ran for.
+     */
+    public long getServiceNs() {
+        return serviceNs;
+    }
+
+    /**
+     * @return SORT: the sorted keys; TOP_K: the k largest keys, largest first; otherwise null.
+     */
+    public int[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return SELECT: the selected key.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * @return CLOSEST_PAIR: indices of the pair in the request's point set and their distance.
+     */
+    public ClosestPairResult getPair() {
+        return pair;
+    }
+
+    /**
+     * Writes the response as one frame; the caller flushes.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        byte[] message = error == null ? null : error.getBytes(StandardCharsets.UTF_8);
+        long length = HEADER_BYTES + bodyBytes(message);
+        out.writeInt((int) length);
+        out.writeLong(id);
+        out.writeByte(operation.getCode());
+        out.writeByte(error == null ? STATUS_OK : STATUS_ERROR);
+        out.writeLong(queueNs);
+        out.writeLong(serviceNs);
+        if (message != null) {
+            out.writeInt(message.length);
+            out.write(message);
+            return;
+        }
+        switch (operation) {
+            case SORT:
+            case TOP_K:
+                out.writeInt(keys.length);
+                Frames.writeInts(out, keys);
+                break;
+            case SELECT:
+                out.writeInt(value);
+                break;
+            default:
+                out.writeInt(pair.getFirst());
+                out.writeInt(pair.getSecond());
+                out.writeDouble(pair.getDistance());
+        }
+    }
+
+    private long bodyBytes(byte[] message) {
+        if (message != null) {
+            return Integer.BYTES + message.length;
+        }
+        switch (operation) {
+            case SORT:
+            case TOP_K:
+                return Integer.BYTES + (long) keys.length * Integer.BYTES;
+            case SELECT:
+                return Integer.BYTES;
+            default:
+                return 2 * Integer.BYTES + Double.BYTES;
+        }
+    }
+
+    /**
+     * Reads the next response frame.
+     * @return The response, or null at a clean end of stream.
+     * @throws ProtocolException If the frame is malformed.
+     */
+    public static JobResponse read(DataInputStream in) throws IOException {
+        int length = Frames.readLength(in);
+        if (length < 0) {
+            return null;
+        }
+        if (length < HEADER_BYTES) {
+            throw new ProtocolException("Response frame too short: " + length);
+        }
+        long id = in.readLong();
+        Operation operation;
+        try {
+            operation = Operation.fromCode(in.readUnsignedByte());
+        } catch (IllegalArgumentException e) {
+            throw new ProtocolException(e.getMessage());
+        }
+        int status = in.readUnsignedByte();
+        long queueNs = in.readLong();
+        long serviceNs = in.readLong();
+        int remaining = length - HEADER_BYTES;
+        if (status == STATUS_ERROR) {
+            int size = Frames.readCount(in, remaining - Integer.BYTES);
+            Frames.expect(length, HEADER_BYTES + Integer.BYTES + size);
+            byte[] message = new byte[size];
+            in.readFully(message);
+            return new JobResponse(id, operation, queueNs, serviceNs, null, 0, null,
+                    new String(message, StandardCharsets.UTF_8));
+        }
+        if (status != STATUS_OK) {
+            throw new ProtocolException("Unknown status: " + status);
+        }
+        switch (operation) {
+            case SORT:
+            case TOP_K: {
+                int count = Frames.readCount(in, (remaining - Integer.BYTES) / Integer.BYTES);
+                Frames.expect(length, HEADER_BYTES + Integer.BYTES + (long) count * Integer.BYTES);
+                return new JobResponse(id, operation, queueNs, serviceNs, Frames.readInts(in, count), 0, null, null);
+            }
+            case SELECT:
+                Frames.expect(length, HEADER_BYTES + Integer.BYTES);
+                return new JobResponse(id, operation, queueNs, serviceNs, null, in.readInt(), null, null);
+            default: {
+                Frames.expect(length, HEADER_BYTES + 2 * Integer.BYTES + Double.BYTES);
+                ClosestPairResult pair = new ClosestPairResult(in.readInt(), in.readInt(), in.readDouble());
+                return new JobResponse(id, operation, queueNs, serviceNs, null, 0, pair, null);
+            }
+        }
+    }
+}
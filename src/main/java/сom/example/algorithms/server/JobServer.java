@@ -0,0 +1,259 @@
+package сom.example.algorithms.server;
+
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Long-running job server: keeps one warmed-up JVM serving sort, select, top-k and closest-pair jobs
+ * over the framed protocol of {@link JobRequest} and {@link JobResponse}, either on a loopback socket
+ * ({@link #listen}) or on a pair of streams such as stdin/stdout ({@link #serve}).
+ * <p>
+ * Each connection has a reader that decodes requests and starts every job on its own virtual thread;
+ * answers are written as jobs finish, so they may come back out of order. Admission is bounded: a
+ * request holds one of {@code queueCapacity} permits from the moment it is read until its answer is
+ * written. When all permits are taken the reader stops reading, the socket buffers fill and clients
+ * block in their writes — backpressure instead of an ever-growing backlog of decoded inputs.
+ * <p>
+ * Each finished job is also written to the metrics sink as a record named "Server/OPERATION" whose
+ * time is the service time; the response carries both the service time and the time spent waiting.
+ */
+public class JobServer implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private final Semaphore admission;
+    private final MetricsSink sink;
+    private final ExecutorService acceptors = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<AutoCloseable> open = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
+
+    /**
+     * @param queueCapacity Requests admitted at once, running or waiting for a carrier thread.
+     * @param sink Destination of one record per finished job.
+     */
+    public JobServer(int queueCapacity, MetricsSink sink) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink must not be null");
+        }
+        this.admission = new Semaphore(queueCapacity);
+        this.sink = sink;
+    }
+
+    /**
+     * Starts accepting connections on a loopback port; each connection is served on virtual threads.
+     * @param port TCP port, or 0 to pick a free one.
+     * @return The port bound.
+     * @throws IOException If the port cannot be bound.
+     */
+    public int listen(int port) throws IOException {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be in [0, 65535]");
+        }
+        ServerSocket serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        open.add(serverSocket);
+        acceptors.submit(() -> {
+            while (!closed) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (IOException e) {
+                    break; // Closed
+                }
+                open.add(socket);
+                acceptors.submit(() -> {
+                    try {
+                        socket.setTcpNoDelay(true);
+                        serve(socket.getInputStream(), socket.getOutputStream());
+                    } catch (IOException e) {
+                        if (!closed) {
+                            System.err.println("Connection failed: " + e.getMessage());
+                        }
+                    } finally {
+                        close(socket);
+                    }
+                });
+            }
+        });
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Serves one connection until the peer closes its side, then waits for the connection's
+     * outstanding jobs and returns. Neither stream is closed.
+     * @throws IOException If reading fails or the peer sends a malformed frame (the jobs already
+     *                     admitted are still answered).
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        ResponseWriter writer = new ResponseWriter(out);
+        try (ExecutorService jobs = Executors.newVirtualThreadPerTaskExecutor()) { // close() awaits the jobs
+            JobRequest request;
+            while ((request = JobRequest.read(input)) != null) {
+                long received = System.nanoTime();
+                admission.acquireUninterruptibly(); // Backpressure: stop reading while the queue is full
+                JobRequest job = request;
+                jobs.submit(() -> {
+                    try {
+                        writer.write(answer(job, received));
+                    } finally {
+                        admission.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * {@link #handle}, turning any other failure of the job into an error response as well, so every
+     * request id gets an answer and the client never waits for one that will not come.
+     * VirtualMachineErrors (e.g. OutOfMemoryError) are left to propagate.
+     */
+    private JobResponse answer(JobRequest request, long received) {
+        try {
+            return handle(request, received);
+        } catch (RuntimeException | Error e) {
+            if (e instanceof VirtualMachineError) {
+                throw (VirtualMachineError) e;
+            }
+            return new JobResponse(request.getId(), request.getOperation(), 0, System.nanoTime() - received,
+                    null, 0, null, "Internal error: " + e);
+        }
+    }
+
+    /**
+     * Runs one job on the calling thread. Invalid requests get an error response; other exceptions
+     * propagate.
+     * @param received {@link System#nanoTime()} when the request was read, for the queue time.
+     */
+    JobResponse handle(JobRequest request, long received) {
+        long started = System.nanoTime();
+        MetricsTracker tracker = new MetricsTracker();
+        int[] keys = null;
+        int value = 0;
+        ClosestPairResult pair = null;
+        try {
+            switch (request.getOperation()) {
+                case SORT:
+                    keys = request.getKeys();
+                    new QuickSort().sort(keys, tracker);
+                    break;
+                case SELECT:
+                    value = new DeterministicSelect().select(request.getKeys(), request.getK(), tracker);
+                    break;
+                case TOP_K:
+                    keys = topK(request.getKeys(), request.getK(), tracker);
+                    break;
+                default:
+                    pair = new PrimitiveClosestPair().findClosestPair(request.getPoints(), tracker);
+            }
+        } catch (IllegalArgumentException e) {
+            return new JobResponse(request.getId(), request.getOperation(), started - received,
+                    System.nanoTime() - started, null, 0, null, e.getMessage());
+        }
+        long finished = System.nanoTime();
+        sink.write(new MetricsRecord(request.size(), finished - started, tracker.getMaxDepth(),
+                tracker.getComparisons(), tracker.getAllocations(), "Server/" + request.getOperation(),
+                tracker.getAllocatedBytes(), tracker.getGcCount(), tracker.getGcTimeMs(), tracker.getPhases()));
+        return new JobResponse(request.getId(), request.getOperation(), started - received, finished - started,
+                keys, value, pair, null);
+    }
+
+    /**
+     * Selects the (n-k)-th smallest key, which leaves the k largest to its right, and sorts only those.
+     * Θ(n + k log k).
+     */
+    private static int[] topK(int[] keys, int k, MetricsTracker tracker) {
+        if (k < 0 || k > keys.length) {
+            throw new IllegalArgumentException("k out of bounds");
+        }
+        if (k == 0) {
+            return new int[0];
+        }
+        int n = keys.length;
+        new DeterministicSelect().select(keys, n - k, tracker);
+        int[] top = Arrays.copyOfRange(keys, n - k, n);
+        new QuickSort().sort(top, tracker); // Counters add up; the record takes the server's time
+        for (int i = 0, j = k - 1; i < j; i++, j--) {
+            int swap = top[i];
+            top[i] = top[j];
+            top[j] = swap;
+        }
+        return top;
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones; jobs already running finish.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (AutoCloseable resource : open) {
+            close(resource);
+        }
+        acceptors.shutdown();
+    }
+
+    private void close(AutoCloseable resource) {
+        open.remove(resource);
+        try {
+            resource.close();
+        } catch (Exception e) {
+            // Already closed or reset by the peer
+        }
+    }
+
+    /**
+     * Serializes responses of concurrent jobs onto one stream. A lock rather than synchronized,
+     * so a virtual thread blocked on a slow client does not pin its carrier.
+     */
+    private static class ResponseWriter {
+        private final DataOutputStream out;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean broken = false;
+
+        ResponseWriter(OutputStream out) {
+            this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        }
+
+        void write(JobResponse response) {
+            if (broken) {
+                return; // Peer is gone; drop the answer
+            }
+            lock.lock();
+            try {
+                response.write(out);
+                out.flush();
+            } catch (IOException e) {
+                broken = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package сom.example.algorithms.server;
+
+/**
+ * Job kinds understood by the {@link JobServer}, with their wire codes.
+ */
+public enum Operation {
+    /** Sorts int keys; answers the sorted keys. */
+    SORT(1),
+    /** Finds the k-th smallest int key (0-based). */
+    SELECT(2),
+    /** Finds the k largest int keys; answers them in descending order. */
+    TOP_K(3),
+    /** Finds the closest pair of distinct points; answers their indices and distance. */
+    CLOSEST_PAIR(4);
+
+    private final int code;
+
+    Operation(int code) {
+        this.code = code;
+    }
+
+    int getCode() {
+        return code;
+    }
+
+    static Operation fromCode(int code) {
+        for (Operation operation : values()) {
+            if (operation.code == code) return operation;
+        }
+        throw new IllegalArgumentException("Unknown operation code: " + code);
+    }
+}
@@ -0,0 +1,40 @@
+package сom.example.algorithms.simd;
+
+import сom.example.algorithms.util.Tracker;
+
+/**
+ * Data-parallel inner loops on primitive keys. Obtained from {@link Simd#kernels()}; callers keep
+ * their scalar loops as the fallback for when no implementation is available.
+ */
+public interface Kernels {
+
+    /**
+     * @return Lanes per int vector (e.g. 8 for AVX2, 16 for AVX-512); ranges shorter than a few
+     *         vectors are better left to the scalar loops.
+     */
+    int intLanes();
+
+    /**
+     * Three-way partition of a[low..high] around {@code pivot}: &lt; pivot | == pivot | &gt; pivot.
+     * Counts one comparison per element.
+     * @param scratch Buffer of at least high - low + 1 ints for the elements greater than the pivot.
+     * @return The bounds of the == range, packed as {@code (long) lt << 32 | gt}; see {@link Simd#lt}
+     *         and {@link Simd#gt}. The range is empty (lt = gt + 1) if the pivot does not occur.
+     */
+    long partition3(int[] a, int low, int high, int pivot, int[] scratch, Tracker tracker);
+
+    /**
+     * Merges the sorted runs src[low..mid] and src[mid+1..high] into dst[low..high].
+     * src[low..mid] may be overwritten. Counts the comparisons a linear merge would make, so metrics
+     * match the scalar path.
+     */
+    void merge(int[] src, int low, int mid, int high, int[] dst, Tracker tracker);
+
+    /**
+     * Finds, among the successors j of point i in a y-sorted strip with i &lt; j &lt; end, the one
+     * closest to i with a squared distance below {@code bestSq}. Counts one comparison per successor
+     * whose y-gap alone is below the bound, as the scalar scan does.
+     * @return The first such j at the minimum distance, or -1 if none beats {@code bestSq}.
+     */
+    int closestSuccessor(double[] sx, double[] sy, int i, int end, double bestSq, Tracker tracker);
+}
@@ -0,0 +1,58 @@
+package сom.example.algorithms.simd;
+
+/**
+ * Entry point to the SIMD kernels. They are built on the incubating {@code jdk.incubator.vector}
+ * module, which is only resolved when the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ * Without it (or with {@code -Dalgorithms.simd=false}) {@link #kernels()} is null and the algorithms
+ * run their scalar loops; the vector classes are then never loaded.
+ */
+public final class Simd {
+
+    /** System property that disables the kernels when set to false. */
+    public static final String PROPERTY = "algorithms.simd";
+
+    private static final Kernels KERNELS = load();
+
+    private Simd() {
+    }
+
+    /**
+     * @return The vector kernels, or null when the scalar loops should be used.
+     */
+    public static Kernels kernels() {
+        return KERNELS;
+    }
+
+    /**
+     * @return Whether the algorithms dispatch to the vector kernels in this JVM.
+     */
+    public static boolean isEnabled() {
+        return KERNELS != null;
+    }
+
+    /**
+     * @return Start of the == range of a {@link Kernels#partition3} result.
+     */
+    public static int lt(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    /**
+     * @return End of the == range of a {@link Kernels#partition3} result.
+     */
+    public static int gt(long bounds) {
+        return (int) bounds;
+    }
+
+    private static Kernels load() {
+        if (!Boolean.parseBoolean(System.getProperty(PROPERTY, "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return new VectorKernels();
+        } catch (LinkageError e) {
+            return null; // Vector API present but unusable on this platform
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package сom.example.algorithms.simd;
+
+import сom.example.algorithms.util.Tracker;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link Kernels} on the Vector API, at the platform's preferred vector width.
+ * Only loaded through {@link Simd}, after checking that the module is present.
+ */
+final class VectorKernels implements Kernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = INTS.length();
+    private static final int STRIP_SUCCESSORS = 7; // As in the scalar strip scan
+
+    // Bitonic network: lane order reversal, then for strides L/2 .. 1 the partner lane i ^ stride
+    // and the lanes that keep the maximum of each pair
+    private static final VectorShuffle<Integer> REVERSE = VectorShuffle.fromOp(INTS, i -> LANES - 1 - i);
+    private static final VectorShuffle<Integer>[] PARTNERS = partners();
+    private static final VectorMask<Integer>[] UPPER = upperLanes();
+
+    @Override
+    public int intLanes() {
+        return LANES;
+    }
+
+    /**
+     * Elements below the pivot are compressed to the front of the range in place (the write position
+     * never passes the vector just loaded); elements above it are compressed into the scratch buffer
+     * and copied back behind the run of pivot copies.
+     */
+    @Override
+    public long partition3(int[] a, int low, int high, int pivot, int[] scratch, Tracker tracker) {
+        int lt = low;
+        int above = 0;
+        int i = low;
+        for (int bound = INTS.loopBound(high - low + 1) + low; i < bound; i += LANES) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            VectorMask<Integer> less = v.compare(VectorOperators.LT, pivot);
+            VectorMask<Integer> greater = v.compare(VectorOperators.GT, pivot);
+            v.compress(less).intoArray(a, lt);
+            lt += less.trueCount();
+            v.compress(greater).intoArray(scratch, above);
+            above += greater.trueCount();
+        }
+        for (; i <= high; i++) {
+            int key = a[i];
+            if (key < pivot) {
+                a[lt++] = key;
+            } else if (key > pivot) {
+                scratch[above++] = key;
+            }
+        }
+        int gt = high - above;
+        for (int k = lt; k <= gt; k++) {
+            a[k] = pivot;
+        }
+        System.arraycopy(scratch, 0, a, gt + 1, above);
+        tracker.incrementComparisons(high - low + 1);
+        return (long) lt << 32 | (gt & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Vectorized merge: the two smallest unmerged vectors go through a bitonic merge network, whose
+     * lower half is final and whose upper half is merged with the next vector, taken from the run with
+     * the smaller head. When that run has less than a vector left, the pending upper half (parked in
+     * the consumed front of the first run) and both remainders are merged by a scalar loop.
+     */
+    @Override
+    public void merge(int[] src, int low, int mid, int high, int[] dst, Tracker tracker) {
+        tracker.incrementComparisons(linearMergeComparisons(src, low, mid, high));
+        int i = low, aEnd = mid + 1;
+        int j = mid + 1, bEnd = high + 1;
+        int k = low;
+        if (aEnd - i >= LANES && bEnd - j >= LANES) {
+            IntVector pending = IntVector.fromArray(INTS, src, i);
+            IntVector next = IntVector.fromArray(INTS, src, j);
+            i += LANES;
+            j += LANES;
+            while (true) {
+                IntVector reversed = next.rearrange(REVERSE);
+                IntVector lower = bitonicSort(pending.min(reversed));
+                pending = bitonicSort(pending.max(reversed));
+                lower.intoArray(dst, k);
+                k += LANES;
+                boolean fromA = j >= bEnd || (i < aEnd && src[i] <= src[j]);
+                if (fromA ? aEnd - i < LANES : bEnd - j < LANES) {
+                    break;
+                }
+                if (fromA) {
+                    next = IntVector.fromArray(INTS, src, i);
+                    i += LANES;
+                } else {
+                    next = IntVector.fromArray(INTS, src, j);
+                    j += LANES;
+                }
+            }
+            pending.intoArray(src, low); // src[low..low+L) was consumed by the first load
+            mergeTail(src, low, low + LANES, i, aEnd, j, bEnd, dst, k);
+            return;
+        }
+        mergeTail(src, 0, 0, i, aEnd, j, bEnd, dst, k);
+    }
+
+    /**
+     * Comparisons a linear merge makes: one per element placed until either run is exhausted, that is
+     * all elements but the tail of the other run that sorts after the exhausted run's last key.
+     */
+    private static int linearMergeComparisons(int[] src, int low, int mid, int high) {
+        int tail;
+        if (src[mid] <= src[high]) { // The first run is exhausted first; ties go to it
+            int key = src[mid], lo = mid + 1, hi = high + 1;
+            while (lo < hi) { // First right key >= key
+                int m = (lo + hi) >>> 1;
+                if (src[m] < key) lo = m + 1; else hi = m;
+            }
+            tail = high + 1 - lo;
+        } else {
+            int key = src[high], lo = low, hi = mid + 1;
+            while (lo < hi) { // First left key > key
+                int m = (lo + hi) >>> 1;
+                if (src[m] <= key) lo = m + 1; else hi = m;
+            }
+            tail = mid + 1 - lo;
+        }
+        return high - low + 1 - tail;
+    }
+
+    /**
+     * Sorts a bitonic vector ascending: at each stride, every lane pairs with lane ^ stride and the
+     * upper lane of the pair keeps the maximum.
+     */
+    private static IntVector bitonicSort(IntVector v) {
+        for (int level = 0; level < PARTNERS.length; level++) {
+            IntVector partner = v.rearrange(PARTNERS[level]);
+            v = v.min(partner).blend(v.max(partner), UPPER[level]);
+        }
+        return v;
+    }
+
+    /**
+     * Scalar three-way merge of src[h..hEnd), src[i..aEnd) and src[j..bEnd) into dst from k.
+     */
+    private static void mergeTail(int[] src, int h, int hEnd, int i, int aEnd, int j, int bEnd, int[] dst, int k) {
+        while (h < hEnd || i < aEnd || j < bEnd) {
+            if (h < hEnd && (i >= aEnd || src[h] <= src[i]) && (j >= bEnd || src[h] <= src[j])) {
+                dst[k++] = src[h++];
+            } else if (i < aEnd && (j >= bEnd || src[i] <= src[j])) {
+                dst[k++] = src[i++];
+            } else {
+                dst[k++] = src[j++];
+            }
+        }
+    }
+
+    /**
+     * Computes the squared distances from point i to its next successors in one masked vector
+     * operation and reduces them to their minimum; only a hit is located lane by lane.
+     */
+    @Override
+    public int closestSuccessor(double[] sx, double[] sy, int i, int end, double bestSq, Tracker tracker) {
+        int limit = Math.min(end, i + 1 + STRIP_SUCCESSORS);
+        double xi = sx[i], yi = sy[i];
+        double best = bestSq;
+        int found = -1;
+        for (int base = i + 1; base < limit; base += DOUBLES.length()) {
+            double gap = sy[base] - yi;
+            if (gap * gap >= best) {
+                break; // y-sorted: no later successor can be closer
+            }
+            VectorMask<Double> inRange = DOUBLES.indexInRange(base, limit);
+            DoubleVector dy = DoubleVector.fromArray(DOUBLES, sy, base, inRange).sub(yi);
+            DoubleVector dx = DoubleVector.fromArray(DOUBLES, sx, base, inRange).sub(xi);
+            DoubleVector dySq = dy.mul(dy);
+            VectorMask<Double> near = dySq.compare(VectorOperators.LT, best, inRange);
+            tracker.incrementComparisons(near.trueCount());
+            // mul + add rather than fma, so lanes round exactly like the scalar dx * dx + dy * dy
+            double min = dx.mul(dx).add(dySq).reduceLanes(VectorOperators.MIN, near);
+            if (min < best) {
+                for (int j = base; j < limit; j++) {
+                    double ddx = sx[j] - xi, ddy = sy[j] - yi;
+                    if (ddx * ddx + ddy * ddy == min) {
+                        best = min;
+                        found = j;
+                        break;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[] partners() {
+        int levels = Integer.numberOfTrailingZeros(LANES);
+        VectorShuffle<Integer>[] shuffles = new VectorShuffle[levels];
+        for (int level = 0; level < levels; level++) {
+            int stride = LANES >> (level + 1);
+            shuffles[level] = VectorShuffle.fromOp(INTS, lane -> lane ^ stride);
+        }
+        return shuffles;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorMask<Integer>[] upperLanes() {
+        int levels = Integer.numberOfTrailingZeros(LANES);
+        VectorMask<Integer>[] masks = new VectorMask[levels];
+        for (int level = 0; level < levels; level++) {
+            int stride = LANES >> (level + 1);
+            boolean[] upper = new boolean[LANES];
+            for (int lane = 0; lane < LANES; lane++) {
+                upper[lane] = (lane & stride) != 0;
+            }
+            masks[level] = VectorMask.fromArray(INTS, upper, 0);
+        }
+        return masks;
+    }
+}
@@ -1,17 +1,20 @@
 package сom.example.algorithms.sorting;
 
-import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.simd.Kernels;
+import сom.example.algorithms.simd.Simd;
+import сom.example.algorithms.util.Tracker;
 
 import java.util.Arrays;
 
 /**
  * MergeSort implementation with divide-and-conquer strategy.
  * Features: reusable buffer for merging, small-n cutoff to insertion sort,
- * and integration with MetricsTracker for performance metrics.
+ * and integration with Tracker for performance metrics.
  */
 public class MergeSort {
 
     private static final int CUTOFF = 16; // Threshold for switching to insertion sort
+    private static final Kernels SIMD = Simd.kernels();
 
     /**
      * Sorts the array using MergeSort.
@@ -19,7 +22,7 @@ public class MergeSort {
      * @param tracker Metrics tracker for collecting performance data.
      * @param <T> Type extending Comparable.
      */
-    public <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+    public <T extends Comparable<T>> void sort(T[] arr, Tracker tracker) {
         if (arr == null || arr.length <= 1) return;
         tracker.start();
         tracker.incrementAllocation(); // For the buffer
@@ -28,16 +31,34 @@ public class MergeSort {
         tracker.stop();
     }
 
+    /**
+     * Primitive counterpart of {@link #sort(Comparable[], Tracker)}: same algorithm and metrics,
+     * on unboxed keys, so no pointer is chased per comparison. When the SIMD kernels are available
+     * (see {@link Simd}), runs of at least one vector each are merged by a bitonic merge network.
+     * @param arr The array to sort.
+     * @param tracker Metrics tracker for collecting performance data.
+     */
+    public void sort(int[] arr, Tracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+        tracker.start();
+        tracker.incrementAllocation(); // For the buffer
+        int[] buffer = new int[arr.length];
+        sortHelper(arr, buffer, 0, arr.length - 1, tracker);
+        tracker.stop();
+    }
+
     /**
      * Recursive helper for sorting subarray from low to high.
      * T(n) = 2T(n/2) + O(n) -> Master Case 2 (a=2, b=2, f(n)=O(n), n^log_b(a)=n),
      * where a*f(n/b) = O(n) = f(n), thus Θ(n log n).
      */
-    private <T extends Comparable<T>> void sortHelper(T[] arr, T[] buffer, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> void sortHelper(T[] arr, T[] buffer, int low, int high, Tracker tracker) {
         try {
             tracker.enterRecursion();
             if (high - low < CUTOFF) {
+                tracker.enterPhase("insertionSort");
                 insertionSort(arr, low, high, tracker);
+                tracker.exitPhase();
                 return;
             }
             int mid = low + (high - low) / 2;
@@ -48,7 +69,9 @@ public class MergeSort {
             if (arr[mid].compareTo(arr[mid + 1]) <= 0) {
                 return;
             }
+            tracker.enterPhase("merge");
             merge(arr, buffer, low, mid, high, tracker);
+            tracker.exitPhase();
         } finally {
             tracker.exitRecursion();
         }
@@ -57,7 +80,7 @@ public class MergeSort {
     /**
      * Merges two sorted halves using linear merge.
      */
-    private <T extends Comparable<T>> void merge(T[] arr, T[] buffer, int low, int mid, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> void merge(T[] arr, T[] buffer, int low, int mid, int high, Tracker tracker) {
         // Copy to buffer
         System.arraycopy(arr, low, buffer, low, high - low + 1);
         int i = low, j = mid + 1;
@@ -80,7 +103,7 @@ public class MergeSort {
     /**
      * Insertion sort for small subarrays.
      */
-    private <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, Tracker tracker) {
         for (int i = low + 1; i <= high; i++) {
             T key = arr[i];
             int j = i - 1;
@@ -96,4 +119,68 @@ public class MergeSort {
             arr[j + 1] = key;
         }
     }
-}
\ No newline at end of file
+
+    private void sortHelper(int[] arr, int[] buffer, int low, int high, Tracker tracker) {
+        try {
+            tracker.enterRecursion();
+            if (high - low < CUTOFF) {
+                tracker.enterPhase("insertionSort");
+                insertionSort(arr, low, high, tracker);
+                tracker.exitPhase();
+                return;
+            }
+            int mid = low + (high - low) / 2;
+            sortHelper(arr, buffer, low, mid, tracker);
+            sortHelper(arr, buffer, mid + 1, high, tracker);
+            tracker.incrementComparison();
+            if (arr[mid] <= arr[mid + 1]) {
+                return;
+            }
+            tracker.enterPhase("merge");
+            merge(arr, buffer, low, mid, high, tracker);
+            tracker.exitPhase();
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private void merge(int[] arr, int[] buffer, int low, int mid, int high, Tracker tracker) {
+        System.arraycopy(arr, low, buffer, low, high - low + 1);
+        if (SIMD != null && mid - low + 1 >= SIMD.intLanes() && high - mid >= SIMD.intLanes()) {
+            SIMD.merge(buffer, low, mid, high, arr, tracker);
+            return;
+        }
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                arr[k] = buffer[j++];
+            } else if (j > high) {
+                arr[k] = buffer[i++];
+            } else {
+                tracker.incrementComparison();
+                if (buffer[i] <= buffer[j]) {
+                    arr[k] = buffer[i++];
+                } else {
+                    arr[k] = buffer[j++];
+                }
+            }
+        }
+    }
+
+    private void insertionSort(int[] arr, int low, int high, Tracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low) {
+                tracker.incrementComparison();
+                if (arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            arr[j + 1] = key;
+        }
+    }
+}
@@ -1,19 +1,43 @@
 package сom.example.algorithms.sorting;
 
-import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.simd.Kernels;
+import сom.example.algorithms.simd.Simd;
+import сom.example.algorithms.util.RandomSource;
+import сom.example.algorithms.util.Tracker;
 import сom.example.algorithms.util.PartitionUtil;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * QuickSort implementation with randomized pivot, smaller-first recursion,
  * and bounded stack depth (typically O(log n)).
+ * Pivots are drawn from a {@link RandomSource}: per-thread by default, so concurrent sorts don't
+ * contend, or seeded, so a sort of the same input is reproducible.
  */
 public class QuickSort {
 
-    private static final Random RANDOM = new Random();
     private static final int CUTOFF = 16; // Threshold for switching to insertion sort
+    private static final Kernels SIMD = Simd.kernels();
+    private static final int SIMD_CUTOFF = 256; // Smallest range given to the vector partition
 
+    private final RandomSource randomSource;
+
+    /**
+     * QuickSort drawing pivots from per-thread generators.
+     */
+    public QuickSort() {
+        this(RandomSource.perThread());
+    }
+
+    /**
+     * @param randomSource Source of the pivots; every sort call takes a fresh generator from it.
+     */
+    public QuickSort(RandomSource randomSource) {
+        if (randomSource == null) {
+            throw new IllegalArgumentException("Random source cannot be null");
+        }
+        this.randomSource = randomSource;
+    }
 
     /**
      * Sorts the array using QuickSort.
@@ -21,11 +45,31 @@ public class QuickSort {
      * @param tracker Metrics tracker for collecting performance data.
      * @param <T> Type extending Comparable.
      */
-    public <T extends Comparable<T>> void sort(T[] arr, MetricsTracker tracker) {
+    public <T extends Comparable<T>> void sort(T[] arr, Tracker tracker) {
         if (arr == null || arr.length <= 1) return;
         PartitionUtil.checkNotNullOrEmpty(arr); // Guard
         tracker.start();
-        sortHelper(arr, 0, arr.length - 1, tracker);
+        sortHelper(arr, 0, arr.length - 1, randomSource.generator(), tracker);
+        tracker.stop();
+    }
+
+    /**
+     * Primitive counterpart of {@link #sort(Comparable[], Tracker)}: same algorithm and metrics,
+     * on unboxed keys. When the SIMD kernels are available (see {@link Simd}), ranges of at least
+     * {@value #SIMD_CUTOFF} keys are split by a vectorized three-way partition instead, which needs
+     * one scratch array.
+     * @param arr The array to sort.
+     * @param tracker Metrics tracker for collecting performance data.
+     */
+    public void sort(int[] arr, Tracker tracker) {
+        if (arr == null || arr.length <= 1) return;
+        tracker.start();
+        int[] scratch = null;
+        if (SIMD != null && arr.length >= SIMD_CUTOFF) {
+            tracker.incrementAllocation(); // For the partition scratch
+            scratch = new int[arr.length];
+        }
+        sortHelper(arr, 0, arr.length - 1, scratch, randomSource.generator(), tracker);
         tracker.stop();
     }
 
@@ -34,21 +78,26 @@ public class QuickSort {
      * Average T(n) = 2T(n/2) + O(n) -> Master Case 2 (a=2, b=2, f(n)=O(n), n^log_b(a)=n),
      * where a*f(n/b) = O(n) = f(n), thus average Θ(n log n). Worst case O(n^2) with bad pivot.
      */
-    private <T extends Comparable<T>> void sortHelper(T[] arr, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> void sortHelper(T[] arr, int low, int high, RandomGenerator random,
+                                                      Tracker tracker) {
         try {
             tracker.enterRecursion();
             while (low < high) {
                 if (high - low < CUTOFF) {
+                    tracker.enterPhase("insertionSort");
                     insertionSort(arr, low, high, tracker); // Реализуй insertionSort аналогично MergeSort
+                    tracker.exitPhase();
                     return;
                 }
-                int pivotIndex = partition(arr, low, high, tracker);
+                tracker.enterPhase("partition");
+                int pivotIndex = partition(arr, low, high, random, tracker);
+                tracker.exitPhase();
                 // Recurse on smaller partition, iterate over larger
                 if (pivotIndex - low < high - pivotIndex) {
-                    sortHelper(arr, low, pivotIndex - 1, tracker);
+                    sortHelper(arr, low, pivotIndex - 1, random, tracker);
                     low = pivotIndex + 1;
                 } else {
-                    sortHelper(arr, pivotIndex + 1, high, tracker);
+                    sortHelper(arr, pivotIndex + 1, high, random, tracker);
                     high = pivotIndex - 1;
                 }
             }
@@ -60,9 +109,10 @@ public class QuickSort {
     /**
      * Partitions the subarray around a random pivot and returns its final position.
      */
-    private <T extends Comparable<T>> int partition(T[] arr, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> int partition(T[] arr, int low, int high, RandomGenerator random,
+                                                    Tracker tracker) {
         // Select random pivot
-        int randomIndex = low + RANDOM.nextInt(high - low + 1);
+        int randomIndex = low + random.nextInt(high - low + 1);
         PartitionUtil.swap(arr, low, randomIndex);
 
         T pivot = arr[low];
@@ -71,7 +121,7 @@ public class QuickSort {
         while (true) {
             while (i < high) {
                 tracker.incrementComparison();
-                if (arr[++i].compareTo(pivot) > 0) break;
+                if (arr[++i].compareTo(pivot) >= 0) break; // Stop on equal keys too, so duplicates split evenly
             }
             while (j > low) {
                 tracker.incrementComparison();
@@ -87,7 +137,7 @@ public class QuickSort {
     /**
      * Insertion sort for small subarrays.
      */
-    private <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, MetricsTracker tracker) {
+    private <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high, Tracker tracker) {
         for (int i = low + 1; i <= high; i++) {
             T key = arr[i];
             int j = i - 1;
@@ -104,5 +154,90 @@ public class QuickSort {
         }
     }
 
+    private void sortHelper(int[] arr, int low, int high, int[] scratch, RandomGenerator random,
+                            Tracker tracker) {
+        try {
+            tracker.enterRecursion();
+            while (low < high) {
+                if (high - low < CUTOFF) {
+                    tracker.enterPhase("insertionSort");
+                    insertionSort(arr, low, high, tracker);
+                    tracker.exitPhase();
+                    return;
+                }
+                if (scratch != null && high - low + 1 >= SIMD_CUTOFF) {
+                    // Keys equal to the pivot are final, so only the < and > ranges remain
+                    tracker.enterPhase("partition");
+                    long bounds = SIMD.partition3(arr, low, high, arr[low + random.nextInt(high - low + 1)],
+                            scratch, tracker);
+                    tracker.exitPhase();
+                    int lt = Simd.lt(bounds), gt = Simd.gt(bounds);
+                    if (lt - low < high - gt) {
+                        sortHelper(arr, low, lt - 1, scratch, random, tracker);
+                        low = gt + 1;
+                    } else {
+                        sortHelper(arr, gt + 1, high, scratch, random, tracker);
+                        high = lt - 1;
+                    }
+                    continue;
+                }
+                tracker.enterPhase("partition");
+                int pivotIndex = partition(arr, low, high, random, tracker);
+                tracker.exitPhase();
+                if (pivotIndex - low < high - pivotIndex) {
+                    sortHelper(arr, low, pivotIndex - 1, scratch, random, tracker);
+                    low = pivotIndex + 1;
+                } else {
+                    sortHelper(arr, pivotIndex + 1, high, scratch, random, tracker);
+                    high = pivotIndex - 1;
+                }
+            }
+        } finally {
+            tracker.exitRecursion();
+        }
+    }
+
+    private int partition(int[] arr, int low, int high, RandomGenerator random, Tracker tracker) {
+        swap(arr, low, low + random.nextInt(high - low + 1));
+        int pivot = arr[low];
+        int i = low, j = high + 1;
+
+        while (true) {
+            while (i < high) {
+                tracker.incrementComparison();
+                if (arr[++i] >= pivot) break;
+            }
+            while (j > low) {
+                tracker.incrementComparison();
+                if (arr[--j] <= pivot) break;
+            }
+            if (i >= j) break;
+            swap(arr, i, j);
+        }
+        swap(arr, low, j);
+        return j;
+    }
+
+    private void insertionSort(int[] arr, int low, int high, Tracker tracker) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low) {
+                tracker.incrementComparison();
+                if (arr[j] > key) {
+                    arr[j + 1] = arr[j];
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            arr[j + 1] = key;
+        }
+    }
 
-}
\ No newline at end of file
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
@@ -0,0 +1,95 @@
+package сom.example.algorithms.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Reads allocation and GC counters from the JVM, so runs can be measured instead of counted by hand.
+ * <ul>
+ *   <li>Allocated bytes come from {@code com.sun.management.ThreadMXBean.getThreadAllocatedBytes}:
+ *       exact per-thread TLAB accounting, covering only the calling thread.</li>
+ *   <li>GC counts and times are summed over all {@link GarbageCollectorMXBean}s; they are JVM-wide,
+ *       and for concurrent collectors the time includes concurrent phases, not just pauses.</li>
+ * </ul>
+ */
+public final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final long OVERHEAD_BYTES = calibrate();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * @return Whether per-thread allocation counting is available on this JVM.
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * @return Bytes allocated by the current thread since it started, or -1 if unsupported.
+     */
+    public static long threadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    /**
+     * @return Bytes that a pair of {@link #threadAllocatedBytes()} calls itself reports, to subtract.
+     */
+    public static long overheadBytes() {
+        return OVERHEAD_BYTES;
+    }
+
+    /**
+     * @return Total number of collections so far, over all collectors.
+     */
+    public static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * @return Total accumulated collection time so far in milliseconds, over all collectors.
+     */
+    public static long gcTimeMs() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            time += Math.max(0, collector.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+
+    private static long calibrate() {
+        if (THREADS == null) {
+            return 0;
+        }
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long before = threadAllocatedBytes();
+            min = Math.min(min, threadAllocatedBytes() - before);
+        }
+        return min;
+    }
+}
@@ -0,0 +1,232 @@
+package сom.example.algorithms.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe tracker that one instance can share across threads, e.g. a whole multithreaded service.
+ * Counters are {@link LongAdder}s, which stripe updates over per-CPU cells and sum on read, so
+ * concurrent increments do not contend on one cache line. Recursion depth is kept per thread and the
+ * reported maximum is the largest depth any thread reached.
+ * <p>
+ * Timing is per call as well: each thread keeps the start of its own run, and {@link #stop()} adds
+ * that run's elapsed time to a shared total. {@link #getExecutionTimeNs()} is therefore the summed
+ * time of all completed runs (CPU-seconds of work, not wall-clock time when runs overlap), and
+ * {@link #getRunCount()} says how many runs it covers.
+ * <p>
+ * {@link #fork()} returns a branch for a subtask: it shares the counters, and counts depth from the
+ * forking thread's depth, so parallel recursion reports the same depth as the sequential one.
+ * Getters are exact once all threads have finished; read concurrently they are a moving estimate.
+ */
+public class ConcurrentMetricsTracker implements Tracker {
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder allocations = new LongAdder();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final ThreadLocal<int[]> currentDepth = ThreadLocal.withInitial(() -> new int[1]);
+    private final ThreadLocal<long[]> runStart = ThreadLocal.withInitial(() -> new long[]{NOT_STARTED});
+    private final LongAdder elapsedNs = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+
+    @Override
+    public void start() {
+        runStart.get()[0] = System.nanoTime();
+    }
+
+    /**
+     * Ends the calling thread's run; without a matching {@link #start()} on this thread it does nothing.
+     */
+    @Override
+    public void stop() {
+        long[] start = runStart.get();
+        if (start[0] == NOT_STARTED) {
+            return;
+        }
+        elapsedNs.add(System.nanoTime() - start[0]);
+        runs.increment();
+        start[0] = NOT_STARTED;
+    }
+
+    @Override
+    public void incrementComparison() {
+        comparisons.increment();
+    }
+
+    @Override
+    public void incrementComparisons(long count) {
+        comparisons.add(count);
+    }
+
+    @Override
+    public void incrementAllocation() {
+        allocations.increment();
+    }
+
+    @Override
+    public void enterRecursion() {
+        int[] depth = currentDepth.get();
+        recordDepth(++depth[0]);
+    }
+
+    @Override
+    public void exitRecursion() {
+        currentDepth.get()[0]--;
+    }
+
+    /**
+     * @return A branch owned by one subtask, sharing this tracker's counters.
+     */
+    @Override
+    public Tracker fork() {
+        return new Branch(currentDepth.get()[0]);
+    }
+
+    /**
+     * Branches already report into this tracker; any other tracker's counters are added.
+     */
+    @Override
+    public void join(Tracker child) {
+        if (child instanceof Branch && ((Branch) child).owner() == this) {
+            return;
+        }
+        comparisons.add(child.getComparisons());
+        allocations.add(child.getAllocations());
+        recordDepth(currentDepth.get()[0] + child.getMaxDepth());
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getAllocations() {
+        return allocations.sum();
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * @return Total time of all completed runs, summed over threads.
+     */
+    @Override
+    public long getExecutionTimeNs() {
+        return elapsedNs.sum();
+    }
+
+    /**
+     * @return Number of completed start/stop runs, so callers can average {@link #getExecutionTimeNs()}.
+     */
+    public long getRunCount() {
+        return runs.sum();
+    }
+
+    /**
+     * Resets the counters. Call it while no thread is inside a tracked algorithm.
+     */
+    public void reset() {
+        comparisons.reset();
+        allocations.reset();
+        maxDepth.set(0);
+        currentDepth.get()[0] = 0;
+        runStart.get()[0] = NOT_STARTED;
+        elapsedNs.reset();
+        runs.reset();
+    }
+
+    private void recordDepth(int depth) {
+        // Plain read first: the common case (no new maximum) never writes the shared field
+        if (depth > maxDepth.get()) {
+            maxDepth.accumulateAndGet(depth, Math::max);
+        }
+    }
+
+    /**
+     * Subtask view: counters go to the owner, depth is a plain field since one thread runs the subtask.
+     */
+    private class Branch implements Tracker {
+        private int depth;
+
+        Branch(int baseDepth) {
+            this.depth = baseDepth;
+        }
+
+        ConcurrentMetricsTracker owner() {
+            return ConcurrentMetricsTracker.this;
+        }
+
+        @Override
+        public void start() {
+            // Timing belongs to the owner
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void incrementComparison() {
+            comparisons.increment();
+        }
+
+        @Override
+        public void incrementComparisons(long count) {
+            comparisons.add(count);
+        }
+
+        @Override
+        public void incrementAllocation() {
+            allocations.increment();
+        }
+
+        @Override
+        public void enterRecursion() {
+            recordDepth(++depth);
+        }
+
+        @Override
+        public void exitRecursion() {
+            depth--;
+        }
+
+        @Override
+        public Tracker fork() {
+            return new Branch(depth);
+        }
+
+        @Override
+        public void join(Tracker child) {
+            if (child instanceof Branch && ((Branch) child).owner() == owner()) {
+                return;
+            }
+            comparisons.add(child.getComparisons());
+            allocations.add(child.getAllocations());
+            recordDepth(depth + child.getMaxDepth());
+        }
+
+        @Override
+        public long getComparisons() {
+            return ConcurrentMetricsTracker.this.getComparisons();
+        }
+
+        @Override
+        public long getAllocations() {
+            return ConcurrentMetricsTracker.this.getAllocations();
+        }
+
+        @Override
+        public int getMaxDepth() {
+            return ConcurrentMetricsTracker.this.getMaxDepth();
+        }
+
+        @Override
+        public long getExecutionTimeNs() {
+            return ConcurrentMetricsTracker.this.getExecutionTimeNs();
+        }
+    }
+}
@@ -1,47 +1,92 @@
 package сom.example.algorithms.util;
 
+import java.io.BufferedReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * MetricsTracker is a utility class for tracking performance metrics in algorithms.
  * It measures execution time, recursion depth, number of comparisons, and allocations.
  * Metrics can be written to a CSV file for analysis and plotting.
+ * start()/stop() also read the JVM's allocated bytes for the calling thread and GC counters
+ * (see {@link AllocationMeter}), so the manual allocation counter can be checked against real numbers.
+ * Phase timing (see {@link PhaseTimer}) is off unless requested in the constructor.
+ * Pass {@link NoOpTracker#INSTANCE} instead when the metrics are not needed.
  */
-public class MetricsTracker {
+public class MetricsTracker implements Tracker {
+    private static final String CSV_HEADER = "n,time_ns,depth,comparisons,allocations,algorithm";
+
     private long comparisons = 0;
     private long allocations = 0;
     private int currentDepth = 0;
     private int maxDepth = 0;
     private long startTime = 0;
     private long endTime = 0;
+    private long startAllocatedBytes = 0;
+    private long allocatedBytes = 0;
+    private long startGcCount = 0;
+    private long gcCount = 0;
+    private long startGcTimeMs = 0;
+    private long gcTimeMs = 0;
+    private final PhaseTimer phases; // Null when phase timing is off
+
+    public MetricsTracker() {
+        this(false);
+    }
+
+    /**
+     * @param timePhases Whether to time named phases; when false, phase calls are a null check.
+     */
+    public MetricsTracker(boolean timePhases) {
+        this.phases = timePhases ? new PhaseTimer() : null;
+    }
 
     /**
      * Starts the timer for measuring execution time.
      */
+    @Override
     public void start() {
-        startTime = System.nanoTime();
+        startAllocatedBytes = AllocationMeter.threadAllocatedBytes();
+        startGcCount = AllocationMeter.gcCount();
+        startGcTimeMs = AllocationMeter.gcTimeMs();
+        startTime = System.nanoTime(); // Last, so the JVM counter reads stay outside the timed interval
     }
 
     /**
      * Stops the timer and records the end time.
      */
+    @Override
     public void stop() {
         endTime = System.nanoTime();
+        long allocated = AllocationMeter.threadAllocatedBytes();
+        allocatedBytes = allocated < 0 ? -1
+                : Math.max(0, allocated - startAllocatedBytes - AllocationMeter.overheadBytes());
+        gcCount = AllocationMeter.gcCount() - startGcCount;
+        gcTimeMs = AllocationMeter.gcTimeMs() - startGcTimeMs;
     }
 
     /**
      * Increments the comparison counter.
      */
+    @Override
     public void incrementComparison() {
         comparisons++;
     }
 
+    @Override
+    public void incrementComparisons(long count) {
+        comparisons += count;
+    }
+
     /**
      * Increments the allocation counter (e.g., for new arrays or objects).
      */
+    @Override
     public void incrementAllocation() {
         allocations++;
     }
@@ -49,6 +94,7 @@ public class MetricsTracker {
     /**
      * Enters a recursion level, updating the current and max depth.
      */
+    @Override
     public void enterRecursion() {
         currentDepth++;
         if (currentDepth > maxDepth) {
@@ -59,22 +105,83 @@ public class MetricsTracker {
     /**
      * Exits a recursion level, decreasing the current depth.
      */
+    @Override
     public void exitRecursion() {
         currentDepth--;
     }
 
+    @Override
+    public void enterPhase(String name) {
+        if (phases != null) {
+            phases.enter(name);
+        }
+    }
+
+    @Override
+    public void exitPhase() {
+        if (phases != null) {
+            phases.exit();
+        }
+    }
+
+    @Override
+    public List<PhaseTimer.Phase> getPhases() {
+        return phases == null ? Collections.emptyList() : phases.getPhases();
+    }
+
+    /**
+     * Creates an empty child tracker for work handed to another thread (e.g., a forked subtask).
+     * The child is owned by that thread and folded back with {@link #join(Tracker)}.
+     * @return A fresh tracker.
+     */
+    @Override
+    public MetricsTracker fork() {
+        return new MetricsTracker(phases != null);
+    }
+
+    /**
+     * Folds a finished child tracker into this one: counters are added and the child's depth
+     * is counted from this tracker's current depth, as if the child's recursion ran inline.
+     * @param child Tracker previously returned by {@link #fork()}.
+     */
+    @Override
+    public void join(Tracker child) {
+        comparisons += child.getComparisons();
+        allocations += child.getAllocations();
+        if (currentDepth + child.getMaxDepth() > maxDepth) {
+            maxDepth = currentDepth + child.getMaxDepth();
+        }
+        if (phases != null) {
+            phases.add(child.getPhases());
+        }
+    }
+
     /**
      * Writes the collected metrics to a CSV file.
+     * Opens and closes the file on every call; for many rows use
+     * {@link сom.example.algorithms.metrics.AsyncMetricsSink}, which starts with the same columns.
      * Format: n,time_ns,depth,comparisons,allocations
      * @param filePath Path to the CSV file.
      * @param n The input size (e.g., array length).
-     * @throws IOException If file writing fails.
+     * @throws IOException If file writing fails, or the file exists with another header.
      */
     public void writeToCSV(String filePath, int n, String algorithm) throws IOException {
-        boolean isNewFile = !Files.exists(Path.of(filePath));
+        Path path = Path.of(filePath);
+        boolean isNewFile = !Files.exists(path) || Files.size(path) == 0;
+        if (!isNewFile) {
+            // Appending to a file of another schema (e.g. a metrics sink's) would corrupt it
+            String first;
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                first = reader.readLine();
+            }
+            if (!CSV_HEADER.equals(first)) {
+                throw new IOException(filePath + " starts with header \"" + first + "\", expected \""
+                        + CSV_HEADER + "\"; write to a new file");
+            }
+        }
         try (FileWriter writer = new FileWriter(filePath, true)) { // Append mode
             if (isNewFile) {
-                writer.append("n,time_ns,depth,comparisons,allocations,algorithm\n");
+                writer.append(CSV_HEADER).append("\n");
             }
             long timeNs = endTime - startTime;
             writer.append(String.format("%d,%d,%d,%d,%d,%s\n", n, timeNs, maxDepth, comparisons, allocations, algorithm));
@@ -82,22 +189,41 @@ public class MetricsTracker {
     }
 
     // Getters for metrics (useful for tests or direct access)
+    @Override
     public long getComparisons() {
         return comparisons;
     }
 
+    @Override
     public long getAllocations() {
         return allocations;
     }
 
+    @Override
     public int getMaxDepth() {
         return maxDepth;
     }
 
+    @Override
     public long getExecutionTimeNs() {
         return endTime - startTime;
     }
 
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    @Override
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
     /**
      * Resets all metrics to zero for reuse.
      */
@@ -108,5 +234,11 @@ public class MetricsTracker {
         maxDepth = 0;
         startTime = 0;
         endTime = 0;
+        allocatedBytes = 0;
+        gcCount = 0;
+        gcTimeMs = 0;
+        if (phases != null) {
+            phases.reset();
+        }
     }
 }
@@ -1,6 +1,6 @@
 package сom.example.algorithms.util;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class providing common operations for partitioning and array manipulation.
@@ -25,13 +25,24 @@ public class PartitionUtil {
     }
 
     /**
-     * Shuffles the array randomly using Fisher-Yates algorithm
+     * Shuffles the array randomly using Fisher-Yates algorithm, with the calling thread's generator
+     * (see {@link RandomSource#perThread()}).
      * @param arr The array to shuffle.
      * @param <T> Type of array elements.
      */
     public static <T> void shuffle(T[] arr) {
+        shuffle(arr, RandomSource.perThread().generator());
+    }
+
+    /**
+     * Like {@link #shuffle(Object[])}, drawing from the given generator, e.g. a seeded one from
+     * {@link RandomSource#seeded(long)} for a reproducible order.
+     * @param arr The array to shuffle.
+     * @param rand Generator to draw the swaps from.
+     * @param <T> Type of array elements.
+     */
+    public static <T> void shuffle(T[] arr, RandomGenerator rand) {
         if (arr == null) throw new IllegalArgumentArrayException("Array cannot be null");
-        Random rand = new Random();
         for (int i = arr.length - 1; i > 0; i--) {
             int j = rand.nextInt(i + 1);
             swap(arr, i, j);
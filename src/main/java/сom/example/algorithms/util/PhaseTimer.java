@@ -0,0 +1,181 @@
+package сom.example.algorithms.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Nested span timer for named algorithm phases (e.g. "merge", "partition", "strip.scan").
+ * Spans nest like a call stack. For each phase name it keeps:
+ * <ul>
+ *   <li>count: number of spans entered;</li>
+ *   <li>total time: wall time inside the phase, counted once for recursive re-entries;</li>
+ *   <li>self time: total time minus the time spent in nested phases.</li>
+ * </ul>
+ * Costs two {@link System#nanoTime()} calls per span. Single-threaded, like {@link MetricsTracker}.
+ */
+public class PhaseTimer {
+
+    private final LongSupplier clock;
+
+    private String[] names = new String[8];
+    private long[] counts = new long[8];
+    private long[] totalNs = new long[8];
+    private long[] selfNs = new long[8];
+    private int[] active = new int[8]; // Open spans per phase, to count recursive total time once
+    private int phaseCount = 0;
+
+    private int[] stackPhase = new int[16];
+    private long[] stackStart = new long[16];
+    private long[] stackChildNs = new long[16];
+    private int depth = 0;
+
+    /**
+     * Timer on {@link System#nanoTime()}.
+     */
+    public PhaseTimer() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param clock Nanosecond time source in place of {@link System#nanoTime()}, e.g. a fake in tests.
+     */
+    public PhaseTimer(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Opens a span for the named phase, nested in the currently open span (if any).
+     * @param name Phase name; compile-time constants make the lookup an identity check.
+     */
+    public void enter(String name) {
+        int id = idOf(name);
+        if (depth == stackPhase.length) {
+            stackPhase = Arrays.copyOf(stackPhase, depth * 2);
+            stackStart = Arrays.copyOf(stackStart, depth * 2);
+            stackChildNs = Arrays.copyOf(stackChildNs, depth * 2);
+        }
+        stackPhase[depth] = id;
+        stackChildNs[depth] = 0;
+        stackStart[depth++] = clock.getAsLong();
+        active[id]++;
+    }
+
+    /**
+     * Closes the most recently opened span.
+     */
+    public void exit() {
+        if (depth == 0) {
+            throw new IllegalStateException("No open phase");
+        }
+        long elapsed = clock.getAsLong() - stackStart[--depth];
+        int id = stackPhase[depth];
+        counts[id]++;
+        selfNs[id] += elapsed - stackChildNs[depth];
+        if (--active[id] == 0) {
+            totalNs[id] += elapsed;
+        }
+        if (depth > 0) {
+            stackChildNs[depth - 1] += elapsed;
+        }
+    }
+
+    /**
+     * Adds phase statistics (e.g. of a forked subtask) into this timer.
+     * Times of subtasks that ran in parallel add up to more than the wall time.
+     */
+    public void add(List<Phase> phases) {
+        for (Phase phase : phases) {
+            int id = idOf(phase.getName());
+            counts[id] += phase.getCount();
+            totalNs[id] += phase.getTotalNs();
+            selfNs[id] += phase.getSelfNs();
+        }
+    }
+
+    /**
+     * @return Phase statistics in first-entered order.
+     */
+    public List<Phase> getPhases() {
+        if (phaseCount == 0) {
+            return Collections.emptyList();
+        }
+        List<Phase> phases = new ArrayList<>(phaseCount);
+        for (int i = 0; i < phaseCount; i++) {
+            phases.add(new Phase(names[i], counts[i], totalNs[i], selfNs[i]));
+        }
+        return phases;
+    }
+
+    /**
+     * Clears all phases and open spans.
+     */
+    public void reset() {
+        Arrays.fill(names, 0, phaseCount, null);
+        phaseCount = 0;
+        depth = 0;
+        Arrays.fill(counts, 0);
+        Arrays.fill(totalNs, 0);
+        Arrays.fill(selfNs, 0);
+        Arrays.fill(active, 0);
+    }
+
+    private int idOf(String name) {
+        for (int i = 0; i < phaseCount; i++) {
+            if (names[i] == name) return i;
+        }
+        for (int i = 0; i < phaseCount; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        if (phaseCount == names.length) {
+            int capacity = phaseCount * 2;
+            names = Arrays.copyOf(names, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            totalNs = Arrays.copyOf(totalNs, capacity);
+            selfNs = Arrays.copyOf(selfNs, capacity);
+            active = Arrays.copyOf(active, capacity);
+        }
+        names[phaseCount] = name;
+        return phaseCount++;
+    }
+
+    /**
+     * Immutable statistics of one phase.
+     */
+    public static class Phase {
+        private final String name;
+        private final long count;
+        private final long totalNs;
+        private final long selfNs;
+
+        public Phase(String name, long count, long totalNs, long selfNs) {
+            this.name = name;
+            this.count = count;
+            this.totalNs = totalNs;
+            this.selfNs = selfNs;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNs() {
+            return totalNs;
+        }
+
+        public long getSelfNs() {
+            return selfNs;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": count=" + count + " total=" + totalNs + "ns self=" + selfNs + "ns";
+        }
+    }
+}
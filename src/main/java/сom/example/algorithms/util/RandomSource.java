@@ -0,0 +1,71 @@
+package сom.example.algorithms.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Where randomized algorithms get their random numbers, one {@link #generator()} per call.
+ * <p>
+ * The default, {@link #perThread()}, hands out the calling thread's {@link ThreadLocalRandom}, so
+ * concurrent calls never contend on a shared seed. A {@link #seeded(long)} source starts every call
+ * from a {@link SplittableRandom} with the given seed, so the same input takes the same random path.
+ * Work forked from a call gets its own source from {@link #fork(RandomGenerator)}, whose seed is drawn
+ * from the caller's generator: forked subtasks are then reproducible too, whichever thread runs them.
+ * Sources are immutable and can be shared; generators belong to the thread that obtained them.
+ */
+public final class RandomSource {
+
+    private static final RandomSource PER_THREAD = new RandomSource(false, 0);
+
+    private final boolean seeded;
+    private final long seed;
+
+    private RandomSource(boolean seeded, long seed) {
+        this.seeded = seeded;
+        this.seed = seed;
+    }
+
+    /**
+     * @return The unseeded source backed by per-thread generators.
+     */
+    public static RandomSource perThread() {
+        return PER_THREAD;
+    }
+
+    /**
+     * @return A source whose every generator produces the sequence of {@code new SplittableRandom(seed)}.
+     */
+    public static RandomSource seeded(long seed) {
+        return new RandomSource(true, seed);
+    }
+
+    /**
+     * @return Whether calls drawing from this source are reproducible.
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * @return A generator for one call on the current thread; not to be handed to other threads.
+     */
+    public RandomGenerator generator() {
+        return seeded ? new SplittableRandom(seed) : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Source for a subtask forked from a call that draws from {@code parent}. Call it on the forking
+     * thread, in a fixed order, and pass the result to the subtask.
+     * @param parent Generator of the forking call, from {@link #generator()}.
+     * @return A seeded source with a seed taken from {@code parent} if this source is seeded, else this.
+     */
+    public RandomSource fork(RandomGenerator parent) {
+        return seeded ? seeded(parent.nextLong()) : this;
+    }
+
+    @Override
+    public String toString() {
+        return seeded ? "RandomSource[seed=" + seed + "]" : "RandomSource[perThread]";
+    }
+}
@@ -0,0 +1,115 @@
+package сom.example.algorithms.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Instrumentation points the algorithms report to while they run.
+ * {@link MetricsTracker} records everything; {@link NoOpTracker} ignores everything, and because its
+ * methods are empty the JIT inlines them away, so with it the hot loops compile to the same code as
+ * uninstrumented ones. That holds while a call site only ever sees one or two tracker classes; mixing
+ * many implementations through the same algorithm in one JVM makes the calls megamorphic again.
+ */
+public interface Tracker {
+
+    /**
+     * Starts the timer for measuring execution time.
+     */
+    void start();
+
+    /**
+     * Stops the timer and records the end time.
+     */
+    void stop();
+
+    /**
+     * Counts one element comparison.
+     */
+    void incrementComparison();
+
+    /**
+     * Counts a batch of element comparisons at once, e.g. one per lane of a vector compare.
+     */
+    default void incrementComparisons(long count) {
+        for (long i = 0; i < count; i++) {
+            incrementComparison();
+        }
+    }
+
+    /**
+     * Counts one allocation (e.g., a new array or object).
+     */
+    void incrementAllocation();
+
+    /**
+     * Enters a recursion level.
+     */
+    void enterRecursion();
+
+    /**
+     * Exits a recursion level.
+     */
+    void exitRecursion();
+
+    /**
+     * Opens a span for a named algorithm phase (e.g. "merge"), nested in the open one.
+     * Ignored unless the tracker times phases.
+     */
+    default void enterPhase(String name) {
+    }
+
+    /**
+     * Closes the span opened by the matching {@link #enterPhase(String)}.
+     */
+    default void exitPhase() {
+    }
+
+    /**
+     * @return Per-phase counts and self/total times, empty unless the tracker times phases.
+     */
+    default List<PhaseTimer.Phase> getPhases() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Creates a tracker for work handed to another thread, folded back with {@link #join(Tracker)}.
+     * @return A tracker owned by the other thread.
+     */
+    Tracker fork();
+
+    /**
+     * Folds a finished tracker returned by {@link #fork()} into this one.
+     * @param child The forked tracker.
+     */
+    void join(Tracker child);
+
+    long getComparisons();
+
+    long getAllocations();
+
+    int getMaxDepth();
+
+    long getExecutionTimeNs();
+
+    /**
+     * @return Bytes the JVM allocated on the calling thread between start and stop
+     *         (-1 if the JVM cannot tell, 0 if not measured).
+     */
+    default long getAllocatedBytes() {
+        return 0;
+    }
+
+    /**
+     * @return Garbage collections (JVM-wide) between start and stop, 0 if not measured.
+     */
+    default long getGcCount() {
+        return 0;
+    }
+
+    /**
+     * @return Collection time in milliseconds (JVM-wide) between start and stop, 0 if not measured.
+     */
+    default long getGcTimeMs() {
+        return 0;
+    }
+}
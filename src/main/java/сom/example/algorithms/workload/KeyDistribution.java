@@ -0,0 +1,50 @@
+package сom.example.algorithms.workload;
+
+/**
+ * Named key distributions with default parameters, for sweeps, benchmark parameters and tests.
+ * See {@link Workloads} for the generators and their parameters.
+ */
+public enum KeyDistribution {
+    /** Uniform keys in [0, 10000). */
+    UNIFORM,
+    /** Uniform keys, ascending. */
+    SORTED,
+    /** Uniform keys, descending. */
+    REVERSE,
+    /** Sorted keys with n / 100 random swaps (at least one). */
+    NEARLY_SORTED,
+    /** Eight ascending runs. */
+    SAWTOOTH,
+    /** Ascending to the middle, then descending. */
+    ORGAN_PIPE,
+    /** Ten distinct keys. */
+    FEW_UNIQUE,
+    /** Zipf over 10000 keys with exponent 1. */
+    ZIPF,
+    /** Median-of-3 killer permutation of 0 .. n - 1 (independent of the seed). */
+    QUICKSORT_KILLER;
+
+    /**
+     * @return n keys of this distribution; the same arguments give the same keys.
+     */
+    public int[] generate(int n, long seed) {
+        switch (this) {
+            case UNIFORM: return Workloads.uniform(n, seed);
+            case SORTED: return Workloads.sorted(n, seed);
+            case REVERSE: return Workloads.reverse(n, seed);
+            case NEARLY_SORTED: return Workloads.nearlySorted(n, Math.max(1, n / 100), seed);
+            case SAWTOOTH: return Workloads.sawtooth(n, 8, seed);
+            case ORGAN_PIPE: return Workloads.organPipe(n, seed);
+            case FEW_UNIQUE: return Workloads.fewUnique(n, 10, seed);
+            case ZIPF: return Workloads.zipf(n, Workloads.KEY_RANGE, 1.0, seed);
+            default: return Workloads.quicksortKiller(n);
+        }
+    }
+
+    /**
+     * @return {@link #generate} as boxed integers, for the generic algorithms.
+     */
+    public Integer[] generateBoxed(int n, long seed) {
+        return Workloads.boxed(generate(n, seed));
+    }
+}
@@ -0,0 +1,33 @@
+package сom.example.algorithms.workload;
+
+import сom.example.algorithms.closest.ClosestPair;
+
+/**
+ * Named point distributions with default parameters, for sweeps, benchmark parameters and tests.
+ * See {@link Workloads} for the generators and their parameters.
+ */
+public enum PointDistribution {
+    /** Uniform in [0, 100) squared. */
+    UNIFORM,
+    /** Ten Gaussian clusters with standard deviation 1. */
+    CLUSTERED,
+    /** On one random line. */
+    COLLINEAR,
+    /** Unit lattice, shuffled. */
+    GRID,
+    /** Drawn from n / 10 distinct locations (at least one). */
+    DUPLICATE_HEAVY;
+
+    /**
+     * @return n points of this distribution; the same arguments give the same points.
+     */
+    public ClosestPair.Point[] generate(int n, long seed) {
+        switch (this) {
+            case UNIFORM: return Workloads.uniformPoints(n, seed);
+            case CLUSTERED: return Workloads.clusteredPoints(n, 10, 1.0, seed);
+            case COLLINEAR: return Workloads.collinearPoints(n, seed);
+            case GRID: return Workloads.gridPoints(n, seed);
+            default: return Workloads.duplicateHeavyPoints(n, Math.max(1, n / 10), seed);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package сom.example.algorithms.workload;
+
+import сom.example.algorithms.closest.ClosestPair;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Seeded generators for algorithm inputs. Each method is a pure function of its arguments, so the
+ * same call always yields the same data. {@link KeyDistribution} and {@link PointDistribution}
+ * name these generators with default parameters.
+ * <p>
+ * Keys are drawn from [0, {@link #KEY_RANGE}) unless stated otherwise, like the uniform data the
+ * rest of the project uses; points lie in [0, 100) squared.
+ */
+public final class Workloads {
+
+    public static final int KEY_RANGE = 10000;
+
+    private Workloads() {
+    }
+
+    /**
+     * @return n uniform keys.
+     */
+    public static int[] uniform(int n, long seed) {
+        checkSize(n);
+        Random rand = new Random(seed);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rand.nextInt(KEY_RANGE);
+        }
+        return keys;
+    }
+
+    /**
+     * @return n uniform keys in ascending order.
+     */
+    public static int[] sorted(int n, long seed) {
+        int[] keys = uniform(n, seed);
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * @return n uniform keys in descending order.
+     */
+    public static int[] reverse(int n, long seed) {
+        int[] keys = sorted(n, seed);
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            swap(keys, i, j);
+        }
+        return keys;
+    }
+
+    /**
+     * @param swaps Number of random transpositions applied to the sorted keys.
+     * @return Sorted keys with {@code swaps} random pairs exchanged.
+     */
+    public static int[] nearlySorted(int n, int swaps, long seed) {
+        if (swaps < 0) {
+            throw new IllegalArgumentException("Swaps must be non-negative");
+        }
+        int[] keys = sorted(n, seed);
+        Random rand = new Random(~seed);
+        for (int s = 0; s < swaps && n > 1; s++) {
+            swap(keys, rand.nextInt(n), rand.nextInt(n));
+        }
+        return keys;
+    }
+
+    /**
+     * @param runs Number of ascending runs.
+     * @return {@code runs} ascending runs of uniform keys, each sorted on its own.
+     */
+    public static int[] sawtooth(int n, int runs, long seed) {
+        if (runs <= 0) {
+            throw new IllegalArgumentException("Runs must be positive");
+        }
+        int[] keys = uniform(n, seed);
+        for (int r = 0; r < runs; r++) {
+            Arrays.sort(keys, (int) ((long) n * r / runs), (int) ((long) n * (r + 1) / runs));
+        }
+        return keys;
+    }
+
+    /**
+     * @return Uniform keys ascending to the middle, then descending.
+     */
+    public static int[] organPipe(int n, long seed) {
+        int[] keys = sorted(n, seed);
+        int[] pipe = new int[n];
+        // Even ranks fill the ascending half, odd ranks the descending half
+        for (int i = 0; i < n; i++) {
+            pipe[(i & 1) == 0 ? i / 2 : n - 1 - i / 2] = keys[i];
+        }
+        return pipe;
+    }
+
+    /**
+     * @param distinct Number of distinct keys, 0 .. distinct - 1.
+     * @return n keys drawn uniformly from a small set.
+     */
+    public static int[] fewUnique(int n, int distinct, long seed) {
+        checkSize(n);
+        if (distinct <= 0) {
+            throw new IllegalArgumentException("Distinct count must be positive");
+        }
+        Random rand = new Random(seed);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rand.nextInt(distinct);
+        }
+        return keys;
+    }
+
+    /**
+     * Draws ranks 0 .. universe - 1 with probability proportional to 1 / (rank + 1)^exponent,
+     * by binary search over the cumulative distribution.
+     * @param universe Number of possible keys.
+     * @param exponent Skew; around 1 for word frequencies and web traffic.
+     * @return n Zipf-distributed keys; key 0 is the most frequent.
+     */
+    public static int[] zipf(int n, int universe, double exponent, long seed) {
+        checkSize(n);
+        if (universe <= 0 || !(exponent > 0)) {
+            throw new IllegalArgumentException("Universe and exponent must be positive");
+        }
+        double[] cumulative = new double[universe];
+        double total = 0;
+        for (int k = 0; k < universe; k++) {
+            total += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        Random rand = new Random(seed);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            int index = Arrays.binarySearch(cumulative, rand.nextDouble() * total);
+            keys[i] = Math.min(index < 0 ? -index - 1 : index, universe - 1);
+        }
+        return keys;
+    }
+
+    /**
+     * Musser's median-of-3 killer: a permutation of 0 .. n - 1 on which quicksorts that take the
+     * median of first, middle and last element (or the middle element alone) as pivot split off
+     * only two elements per partition, going quadratic. The construction needs a multiple of four,
+     * so up to three leftover keys are appended in order. Randomized pivots, as in
+     * {@link сom.example.algorithms.sorting.QuickSort}, are not fooled by any fixed input.
+     * Needs no seed: the permutation depends on n only.
+     */
+    public static int[] quicksortKiller(int n) {
+        checkSize(n);
+        int[] keys = new int[n];
+        int m = n & ~3;
+        int k = m / 2;
+        for (int i = 1; i <= k; i++) {
+            if ((i & 1) == 1) {
+                keys[i - 1] = i - 1;
+                keys[i] = k + i - 1;
+            }
+            keys[k + i - 1] = 2 * i - 1;
+        }
+        for (int i = m; i < n; i++) {
+            keys[i] = i;
+        }
+        return keys;
+    }
+
+    /**
+     * @return n points uniform in [0, 100) squared, with x on a 0.01 grid as in
+     *         {@link сom.example.algorithms.Main}.
+     */
+    public static ClosestPair.Point[] uniformPoints(int n, long seed) {
+        checkSize(n);
+        Random rand = new Random(seed);
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = new ClosestPair.Point(rand.nextInt(KEY_RANGE) / 100.0, rand.nextDouble() * 100);
+        }
+        return points;
+    }
+
+    /**
+     * @param clusters Number of Gaussian clusters, with uniform centres.
+     * @param sigma Standard deviation of each cluster.
+     * @return n points, each drawn from a randomly chosen cluster.
+     */
+    public static ClosestPair.Point[] clusteredPoints(int n, int clusters, double sigma, long seed) {
+        checkSize(n);
+        if (clusters <= 0 || !(sigma >= 0)) {
+            throw new IllegalArgumentException("Clusters must be positive and sigma non-negative");
+        }
+        Random rand = new Random(seed);
+        double[] cx = new double[clusters];
+        double[] cy = new double[clusters];
+        for (int c = 0; c < clusters; c++) {
+            cx[c] = rand.nextDouble() * 100;
+            cy[c] = rand.nextDouble() * 100;
+        }
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) {
+            int c = rand.nextInt(clusters);
+            points[i] = new ClosestPair.Point(cx[c] + rand.nextGaussian() * sigma, cy[c] + rand.nextGaussian() * sigma);
+        }
+        return points;
+    }
+
+    /**
+     * @return n points on one random line through the square; all strip checks hit the same
+     *         x-neighbourhood when the line is steep.
+     */
+    public static ClosestPair.Point[] collinearPoints(int n, long seed) {
+        checkSize(n);
+        Random rand = new Random(seed);
+        double angle = rand.nextDouble() * Math.PI;
+        double dx = Math.cos(angle);
+        double dy = Math.sin(angle);
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) {
+            double t = (rand.nextDouble() - 0.5) * 100;
+            points[i] = new ClosestPair.Point(50 + t * dx, 50 + t * dy);
+        }
+        return points;
+    }
+
+    /**
+     * @return The first n points of a square lattice with unit spacing, in shuffled order:
+     *         every point has up to four neighbours at exactly the minimum distance.
+     */
+    public static ClosestPair.Point[] gridPoints(int n, long seed) {
+        checkSize(n);
+        int side = (int) Math.ceil(Math.sqrt(n));
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = new ClosestPair.Point(i % side, i / side);
+        }
+        Random rand = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            ClosestPair.Point tmp = points[i];
+            points[i] = points[j];
+            points[j] = tmp;
+        }
+        return points;
+    }
+
+    /**
+     * @param distinct Number of distinct locations.
+     * @return n points drawn with repetition from {@code distinct} uniform locations, as separate
+     *         objects, to exercise duplicate handling.
+     */
+    public static ClosestPair.Point[] duplicateHeavyPoints(int n, int distinct, long seed) {
+        checkSize(n);
+        if (distinct <= 0) {
+            throw new IllegalArgumentException("Distinct count must be positive");
+        }
+        ClosestPair.Point[] pool = uniformPoints(distinct, seed);
+        Random rand = new Random(~seed);
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) {
+            ClosestPair.Point p = pool[rand.nextInt(distinct)];
+            points[i] = new ClosestPair.Point(p.x, p.y);
+        }
+        return points;
+    }
+
+    /**
+     * @return The keys as boxed integers, for the generic algorithms.
+     */
+    public static Integer[] boxed(int[] keys) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+
+    private static void swap(int[] keys, int i, int j) {
+        int tmp = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tmp;
+    }
+
+    private static void checkSize(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Size must be non-negative");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.workload.PointDistribution;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closest pair over every point distribution, from 10^3 to 10^8 points: ClosestPair on boxed
+ * Point[] against PrimitiveClosestPair on a PointSet of coordinate arrays.
+ * <p>
+ * Neither engine modifies its input (ClosestPair sorts a clone, PrimitiveClosestPair an index
+ * permutation), so no per-invocation copy is needed and the input is built once per trial.
+ * Boxed points at 10^8 need the 8 GB heap configured below; narrow the matrix with {@code -p} as for
+ * {@link BenchmarkSortingSuite}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BenchmarkClosestPairSuite {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"UNIFORM", "CLUSTERED", "COLLINEAR", "GRID", "DUPLICATE_HEAVY"})
+    private PointDistribution distribution;
+
+    @Param({"BOXED", "PRIMITIVE"})
+    private BenchmarkSortingSuite.Representation representation;
+
+    private ClosestPair.Point[] points;
+    private PointSet pointSet;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        ClosestPair.Point[] generated = distribution.generate(size, 42);
+        if (representation == BenchmarkSortingSuite.Representation.BOXED) {
+            points = generated;
+        } else {
+            pointSet = PointSet.of(generated); // The boxed points are garbage before measurement
+        }
+    }
+
+    @Benchmark
+    public double closestPair() {
+        if (representation == BenchmarkSortingSuite.Representation.BOXED) {
+            return new ClosestPair().findClosestPair(points, NoOpTracker.INSTANCE);
+        }
+        return new PrimitiveClosestPair().findClosestPair(pointSet, NoOpTracker.INSTANCE).getDistance();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
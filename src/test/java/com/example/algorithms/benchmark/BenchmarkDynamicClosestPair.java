@@ -0,0 +1,89 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.closest.DynamicClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a mixed stream of inserts, deletes and closest-pair queries: the dynamic structure
+ * against recomputing from scratch with PrimitiveClosestPair after every update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class BenchmarkDynamicClosestPair {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"uniform", "clustered"})
+    private String distribution;
+
+    @Param({"0.5"})
+    private double updateFraction; // Share of operations that change the set; the rest only query
+
+    private Random rand;
+    private DynamicClosestPair dynamic;
+    private int[] handles;
+    private double[] xs;
+    private double[] ys;
+
+    @Setup
+    public void setup() {
+        rand = new Random(42);
+        dynamic = new DynamicClosestPair();
+        handles = new int[size];
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            nextPoint(i);
+            handles[i] = dynamic.insert(xs[i], ys[i]);
+        }
+    }
+
+    /**
+     * One operation: with probability updateFraction replace a random point (delete + insert),
+     * then read the current closest pair.
+     */
+    @Benchmark
+    public double dynamicStructure() {
+        if (rand.nextDouble() < updateFraction) {
+            int slot = rand.nextInt(size);
+            dynamic.delete(handles[slot]);
+            nextPoint(slot);
+            handles[slot] = dynamic.insert(xs[slot], ys[slot]);
+        }
+        return dynamic.closestPair().getDistance();
+    }
+
+    @Benchmark
+    public double recomputeFromScratch() {
+        if (rand.nextDouble() < updateFraction) {
+            nextPoint(rand.nextInt(size));
+        }
+        return new PrimitiveClosestPair().findClosestPair(new PointSet(xs, ys), new MetricsTracker()).getDistance();
+    }
+
+    private void nextPoint(int i) {
+        if (distribution.equals("uniform")) {
+            xs[i] = rand.nextDouble() * 1e6;
+            ys[i] = rand.nextDouble() * 1e6;
+        } else {
+            int cluster = rand.nextInt(16); // Dense Gaussian blobs far apart
+            xs[i] = cluster * 1e5 + rand.nextGaussian() * 10;
+            ys[i] = (cluster % 4) * 1e5 + rand.nextGaussian() * 10;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
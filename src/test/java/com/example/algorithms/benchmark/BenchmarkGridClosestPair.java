@@ -0,0 +1,51 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.closest.GridClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.workload.PointDistribution;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Randomized grid hashing against the divide-and-conquer ClosestPair on the workload point distributions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class BenchmarkGridClosestPair {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"UNIFORM", "CLUSTERED", "COLLINEAR", "GRID", "DUPLICATE_HEAVY"})
+    private PointDistribution distribution;
+
+    private ClosestPair.Point[] points;
+    private PointSet pointSet;
+
+    @Setup
+    public void setup() {
+        points = distribution.generate(size, 42);
+        pointSet = PointSet.of(points);
+    }
+
+    @Benchmark
+    public double divideAndConquer() {
+        return new ClosestPair().findClosestPair(points, new MetricsTracker());
+    }
+
+    @Benchmark
+    public double gridHashing() {
+        return new GridClosestPair().findClosestPair(pointSet, new MetricsTracker()).getDistance();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
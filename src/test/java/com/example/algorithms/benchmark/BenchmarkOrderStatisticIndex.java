@@ -0,0 +1,81 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.select.OrderStatisticIndex;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Break-even between building an OrderStatisticIndex once and running DeterministicSelect per query.
+ * Each invocation answers {@code queries} select(k) queries; the index variant includes the build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+public class BenchmarkOrderStatisticIndex {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"1", "4", "16", "256"})
+    private int queries;
+
+    private int[] values;
+    private Integer[] boxed;
+    private int[] ks;
+
+    @Setup
+    public void setup() {
+        Random rand = new Random(42);
+        values = new int[size];
+        boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = rand.nextInt();
+            boxed[i] = values[i];
+        }
+        ks = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            ks[q] = rand.nextInt(size);
+        }
+        System.out.println();
+        System.out.println(new OrderStatisticIndex(values).memoryFootprint());
+    }
+
+    @Benchmark
+    public void repeatedSelect(Blackhole blackhole) {
+        DeterministicSelect select = new DeterministicSelect();
+        MetricsTracker tracker = new MetricsTracker();
+        for (int k : ks) {
+            Integer[] copy = boxed.clone(); // select mutates its input
+            blackhole.consume(select.select(copy, k, tracker));
+        }
+    }
+
+    @Benchmark
+    public void buildIndexAndQuery(Blackhole blackhole) {
+        OrderStatisticIndex index = new OrderStatisticIndex(values);
+        for (int k : ks) {
+            blackhole.consume(index.select(k));
+        }
+    }
+
+    @Benchmark
+    public void buildIndexAndQueryInRange(Blackhole blackhole) {
+        OrderStatisticIndex index = new OrderStatisticIndex(values);
+        int half = size / 2;
+        for (int k : ks) {
+            blackhole.consume(index.selectInRange(half / 2, half / 2 + half, k % half));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
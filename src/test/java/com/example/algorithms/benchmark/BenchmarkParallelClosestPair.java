@@ -0,0 +1,69 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.ParallelClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Strong scaling of ParallelClosestPair from 1 to N worker threads on uniform random points.
+ * The sequential engine is included as the 1-core reference without fork/join overhead.
+ * Run a subset with e.g. {@code -p size=1000000 -p parallelism=1,2,4,8}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class BenchmarkParallelClosestPair {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelism;
+
+    private PointSet points;
+    private ForkJoinPool pool;
+    private ParallelClosestPair parallel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(42);
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = rand.nextDouble();
+            ys[i] = rand.nextDouble();
+        }
+        points = new PointSet(xs, ys);
+        pool = new ForkJoinPool(parallelism);
+        parallel = new ParallelClosestPair(pool, 1 << 13);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ClosestPairResult parallel() {
+        return parallel.findClosestPair(points, new MetricsTracker());
+    }
+
+    @Benchmark
+    public ClosestPairResult sequential() {
+        return new PrimitiveClosestPair().findClosestPair(points, new MetricsTracker());
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
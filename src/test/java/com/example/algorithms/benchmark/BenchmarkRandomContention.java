@@ -0,0 +1,87 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.util.RandomSource;
+import сom.example.algorithms.workload.KeyDistribution;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Throughput of pivot draws and of whole QuickSort calls with 4 threads (override with {@code -t}).
+ * sharedRandom draws from one java.util.Random, as QuickSort's old static generator did: every draw
+ * is a CAS on the shared seed, so threads contend on one cache line. perThread and seeded use
+ * {@link RandomSource} and should scale with the thread count; compare against {@code -t 1} to see it.
+ * The quickSort benchmarks sort small arrays, where a draw per partition is a visible share of the work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@Threads(4)
+public class BenchmarkRandomContention {
+
+    private static final int DRAWS = 64;
+
+    private final Random shared = new Random();
+    private final RandomSource perThread = RandomSource.perThread();
+    private final RandomSource seeded = RandomSource.seeded(42);
+    private final QuickSort perThreadSort = new QuickSort(perThread);
+    private final QuickSort seededSort = new QuickSort(seeded);
+
+    private int[] keys;
+
+    @Setup
+    public void setup() {
+        keys = KeyDistribution.UNIFORM.generate(1000, 42);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DRAWS)
+    public int sharedRandom() {
+        return draw(shared);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DRAWS)
+    public int perThread() {
+        return draw(perThread.generator());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DRAWS)
+    public int seeded() {
+        return draw(seeded.generator());
+    }
+
+    @Benchmark
+    public int[] quickSortPerThread() {
+        int[] copy = keys.clone();
+        perThreadSort.sort(copy, NoOpTracker.INSTANCE);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] quickSortSeeded() {
+        int[] copy = keys.clone();
+        seededSort.sort(copy, NoOpTracker.INSTANCE);
+        return copy;
+    }
+
+    private static int draw(RandomGenerator random) {
+        int sum = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            sum += random.nextInt(1 << 20);
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -5,9 +5,9 @@ import org.openjdk.jmh.infra.Blackhole;
 import сom.example.algorithms.select.DeterministicSelect;
 import сom.example.algorithms.sorting.MergeSort;
 import сom.example.algorithms.sorting.QuickSort;
-import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.workload.KeyDistribution;
 
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 @State(Scope.Benchmark)
@@ -21,41 +21,41 @@ public class BenchmarkSelectVsSort {
     @Param({"100", "1000", "10000"})
     private int size;
 
+    @Param({"UNIFORM", "SORTED", "NEARLY_SORTED", "FEW_UNIQUE", "ZIPF", "QUICKSORT_KILLER"})
+    private KeyDistribution distribution;
+
     private Integer[] arr;
+    private Integer[] copy;
 
-    @Setup
+    @Setup(Level.Trial)
     public void setup() {
-        arr = new Integer[size];
-        Random rand = new Random();
-        for (int i = 0; i < size; i++) {
-            arr[i] = rand.nextInt(10000); // Initialize with random values to avoid nulls
-        }
+        arr = distribution.generateBoxed(size, 42);
+        copy = new Integer[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(arr, 0, copy, 0, size); // Fresh input per call, outside the timed region
     }
 
     @Benchmark
     public void benchmarkDeterministicSelect(Blackhole blackhole) {
-        Integer[] copy = arr.clone();
-        MetricsTracker tracker = new MetricsTracker(); // Initialize tracker to avoid null
         DeterministicSelect select = new DeterministicSelect();
-        Integer result = select.select(copy, size / 2, tracker); // Median
+        Integer result = select.select(copy, size / 2, NoOpTracker.INSTANCE); // Median
         blackhole.consume(result);
     }
 
     @Benchmark
     public void benchmarkMergeSort(Blackhole blackhole) {
-        Integer[] copy = arr.clone();
-        MetricsTracker tracker = new MetricsTracker(); // Initialize tracker to avoid null
         MergeSort mergeSort = new MergeSort();
-        mergeSort.sort(copy, tracker);
+        mergeSort.sort(copy, NoOpTracker.INSTANCE);
         blackhole.consume(copy);
     }
 
     @Benchmark
     public void benchmarkQuickSort(Blackhole blackhole) {
-        Integer[] copy = arr.clone();
-        MetricsTracker tracker = new MetricsTracker(); // Initialize tracker to avoid null
         QuickSort quickSort = new QuickSort();
-        quickSort.sort(copy, tracker);
+        quickSort.sort(copy, NoOpTracker.INSTANCE);
         blackhole.consume(copy);
     }
 
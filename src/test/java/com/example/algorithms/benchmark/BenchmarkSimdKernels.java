@@ -0,0 +1,131 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.simd.Simd;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.PointDistribution;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar against vector kernels on the primitive paths: QuickSort and DeterministicSelect (vector
+ * three-way partition), MergeSort (bitonic merge network) and PrimitiveClosestPair (vector strip scan).
+ * <p>
+ * The kernels are picked once per JVM, so each side runs in its own fork: the scalar methods with
+ * {@code -Dalgorithms.simd=false}, the vector ones with the incubator module added. Forks inherit
+ * the launcher's JVM arguments, hence the explicit opt-out even when launched from the test JVM.
+ * Each method checks it got the implementation it names, so a misconfigured fork fails loudly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class BenchmarkSimdKernels {
+
+    private static final String SCALAR = "-D" + Simd.PROPERTY + "=false";
+    private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"UNIFORM", "FEW_UNIQUE"})
+    private KeyDistribution distribution;
+
+    private int[] keys;
+    private PointSet points;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        keys = distribution.generate(size, 42);
+        points = PointSet.of(PointDistribution.UNIFORM.generate(size, 42));
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public int[] quickSortScalar() {
+        return quickSort(false);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int[] quickSortVector() {
+        return quickSort(true);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public int[] mergeSortScalar() {
+        return mergeSort(false);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int[] mergeSortVector() {
+        return mergeSort(true);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public int selectScalar() {
+        return select(false);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public int selectVector() {
+        return select(true);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = SCALAR)
+    public double closestPairScalar() {
+        return closestPair(false);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = VECTOR)
+    public double closestPairVector() {
+        return closestPair(true);
+    }
+
+    private int[] quickSort(boolean vector) {
+        checkKernels(vector);
+        int[] copy = keys.clone();
+        new QuickSort().sort(copy, NoOpTracker.INSTANCE);
+        return copy;
+    }
+
+    private int[] mergeSort(boolean vector) {
+        checkKernels(vector);
+        int[] copy = keys.clone();
+        new MergeSort().sort(copy, NoOpTracker.INSTANCE);
+        return copy;
+    }
+
+    private int select(boolean vector) {
+        checkKernels(vector);
+        return new DeterministicSelect().select(keys.clone(), size / 2, NoOpTracker.INSTANCE);
+    }
+
+    private double closestPair(boolean vector) {
+        checkKernels(vector);
+        return new PrimitiveClosestPair().findClosestPair(points, NoOpTracker.INSTANCE).getDistance();
+    }
+
+    private static void checkKernels(boolean vector) {
+        if (Simd.isEnabled() != vector) {
+            throw new IllegalStateException("Fork runs " + (vector ? "scalar" : "vector") + " kernels");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
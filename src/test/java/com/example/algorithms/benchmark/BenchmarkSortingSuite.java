@@ -0,0 +1,102 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.Workloads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MergeSort, QuickSort and DeterministicSelect over every key distribution, from 10^3 to 10^8 keys,
+ * on boxed Integer[] and primitive int[] input.
+ * <p>
+ * The algorithms work in place, so each invocation gets a fresh copy of the input, made in
+ * {@code @Setup(Level.Invocation)} into a preallocated array: neither the copy nor an allocation is
+ * timed. Invocation-level setup adds timestamping overhead that matters only for calls shorter than
+ * about a millisecond, i.e. the smallest size. Trackers are {@link NoOpTracker}.
+ * <p>
+ * The full matrix takes hours; narrow it with {@code -p}, e.g.
+ * {@code -p size=1000,1000000 -p distribution=UNIFORM,ZIPF}. Boxed input at 10^8 needs the 8 GB heap
+ * configured below. Run through {@link BenchmarkSuite} for the GC profiler and JSON results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BenchmarkSortingSuite {
+
+    public enum Representation { BOXED, PRIMITIVE }
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"UNIFORM", "SORTED", "REVERSE", "NEARLY_SORTED", "SAWTOOTH", "ORGAN_PIPE",
+            "FEW_UNIQUE", "ZIPF", "QUICKSORT_KILLER"})
+    private KeyDistribution distribution;
+
+    @Param({"BOXED", "PRIMITIVE"})
+    private Representation representation;
+
+    private int[] source;
+    private Integer[] boxedSource;
+    private int[] keys;
+    private Integer[] boxedKeys;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        source = distribution.generate(size, 42);
+        if (representation == Representation.BOXED) {
+            boxedSource = Workloads.boxed(source);
+            boxedKeys = new Integer[size];
+        } else {
+            keys = new int[size];
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        if (representation == Representation.BOXED) {
+            System.arraycopy(boxedSource, 0, boxedKeys, 0, size);
+        } else {
+            System.arraycopy(source, 0, keys, 0, size);
+        }
+    }
+
+    @Benchmark
+    public Object mergeSort() {
+        if (representation == Representation.BOXED) {
+            new MergeSort().sort(boxedKeys, NoOpTracker.INSTANCE);
+            return boxedKeys;
+        }
+        new MergeSort().sort(keys, NoOpTracker.INSTANCE);
+        return keys;
+    }
+
+    @Benchmark
+    public Object quickSort() {
+        if (representation == Representation.BOXED) {
+            new QuickSort().sort(boxedKeys, NoOpTracker.INSTANCE);
+            return boxedKeys;
+        }
+        new QuickSort().sort(keys, NoOpTracker.INSTANCE);
+        return keys;
+    }
+
+    @Benchmark
+    public int deterministicSelect() {
+        if (representation == Representation.BOXED) {
+            return new DeterministicSelect().select(boxedKeys, size / 2, NoOpTracker.INSTANCE);
+        }
+        return new DeterministicSelect().select(keys, size / 2, NoOpTracker.INSTANCE);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Runs {@link BenchmarkSortingSuite} and {@link BenchmarkClosestPairSuite} with the GC profiler
+ * (allocation rate, bytes per operation, collection counts) and writes the results as JSON to
+ * {@code target/jmh/results-<timestamp>.json}, one file per run, for trend tracking.
+ * <p>
+ * Any JMH command-line options are passed through, so e.g.
+ * {@code -p size=1000,1000000 -p representation=PRIMITIVE} narrows the matrix, a benchmark regex
+ * replaces the two suites, and {@code -rff file.json} overrides the result file.
+ */
+public class BenchmarkSuite {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON);
+        if (cli.getIncludes().isEmpty()) {
+            options.include(BenchmarkSortingSuite.class.getSimpleName())
+                    .include(BenchmarkClosestPairSuite.class.getSimpleName());
+        }
+        if (!cli.getResult().hasValue()) {
+            Path dir = Files.createDirectories(Path.of("target", "jmh"));
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            options.result(dir.resolve("results-" + stamp + ".json").toString());
+        }
+        new Runner(options.build()).run();
+    }
+}
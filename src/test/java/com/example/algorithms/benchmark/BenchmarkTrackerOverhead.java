@@ -0,0 +1,127 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import сom.example.algorithms.jfr.JfrTracker;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.util.ConcurrentMetricsTracker;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.NoOpTracker;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of instrumentation: MergeSort with the full MetricsTracker and with NoOpTracker, against an
+ * untracked copy of the same algorithm. The no-op and untracked scores should match within error;
+ * run with {@code -prof perfasm} to compare the generated hot loops directly.
+ * concurrentTracker shares one ConcurrentMetricsTracker across all benchmark threads; run with
+ * {@code -t 4} (or more) to see its cost under contention next to the per-call MetricsTracker.
+ * jfrNoOpTracker wraps the no-op tracker in the JFR decorator; without a recording it should also
+ * match the untracked score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 3)
+public class BenchmarkTrackerOverhead {
+
+    private static final int CUTOFF = 16; // Same as MergeSort
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] arr;
+    private final ConcurrentMetricsTracker shared = new ConcurrentMetricsTracker();
+
+    @Setup
+    public void setup() {
+        arr = new Integer[size];
+        Random rand = new Random(42);
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt();
+        }
+    }
+
+    @Benchmark
+    public Integer[] untracked() {
+        Integer[] copy = arr.clone();
+        Integer[] buffer = Arrays.copyOf(copy, copy.length);
+        sortHelper(copy, buffer, 0, copy.length - 1);
+        return copy;
+    }
+
+    @Benchmark
+    public Integer[] noOpTracker() {
+        Integer[] copy = arr.clone();
+        new MergeSort().sort(copy, NoOpTracker.INSTANCE);
+        return copy;
+    }
+
+    @Benchmark
+    public Integer[] metricsTracker() {
+        Integer[] copy = arr.clone();
+        new MergeSort().sort(copy, new MetricsTracker());
+        return copy;
+    }
+
+    @Benchmark
+    public Integer[] concurrentTracker() {
+        Integer[] copy = arr.clone();
+        new MergeSort().sort(copy, shared);
+        return copy;
+    }
+
+    @Benchmark
+    public Integer[] jfrNoOpTracker() {
+        Integer[] copy = arr.clone();
+        new MergeSort().sort(copy, new JfrTracker(NoOpTracker.INSTANCE, "MergeSort", size));
+        return copy;
+    }
+
+    // MergeSort with every tracker call removed
+
+    private static <T extends Comparable<T>> void sortHelper(T[] arr, T[] buffer, int low, int high) {
+        if (high - low < CUTOFF) {
+            insertionSort(arr, low, high);
+            return;
+        }
+        int mid = low + (high - low) / 2;
+        sortHelper(arr, buffer, low, mid);
+        sortHelper(arr, buffer, mid + 1, high);
+        if (arr[mid].compareTo(arr[mid + 1]) <= 0) {
+            return;
+        }
+        System.arraycopy(arr, low, buffer, low, high - low + 1);
+        int i = low, j = mid + 1;
+        for (int k = low; k <= high; k++) {
+            if (i > mid) {
+                arr[k] = buffer[j++];
+            } else if (j > high) {
+                arr[k] = buffer[i++];
+            } else if (buffer[i].compareTo(buffer[j]) <= 0) {
+                arr[k] = buffer[i++];
+            } else {
+                arr[k] = buffer[j++];
+            }
+        }
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j].compareTo(key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.algorithms.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Performance regression gate: runs a fixed JMH subset in average-time mode and compares each score
+ * with a stored baseline, taking both runs' error margins into account.
+ * <p>
+ * A benchmark regresses when even the optimistic end of the new interval (score - error) is slower
+ * than the pessimistic end of the baseline interval (score + error) by more than the threshold, so
+ * noise alone does not fail the gate. The baseline is a tab-separated text file kept under version
+ * control in {@code perf/baseline}; scores are machine-specific, so record it on the machine that
+ * runs the gate.
+ * <p>
+ * Args: [--record] [--baseline file] [--threshold fraction]. Without --record the run is compared
+ * and the process exits with status 1 on a regression.
+ */
+public class PerfGate {
+
+    public static final Path DEFAULT_BASELINE = Path.of("perf", "baseline", "jmh-baseline.tsv");
+    public static final double DEFAULT_THRESHOLD = 0.10;
+
+    static final String FORMAT_HEADER = "# perf-gate baseline v1";
+
+    public static void main(String[] args) throws Exception {
+        boolean record = false;
+        Path baseline = DEFAULT_BASELINE;
+        double threshold = DEFAULT_THRESHOLD;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--record": record = true; break;
+                case "--baseline": baseline = Path.of(args[++i]); break;
+                case "--threshold": threshold = Double.parseDouble(args[++i]); break;
+                default:
+                    System.err.println("Usage: PerfGate [--record] [--baseline file] [--threshold fraction]");
+                    System.exit(2);
+            }
+        }
+        Map<String, Score> current = runSubset();
+        if (record) {
+            write(baseline, current);
+            System.out.println("Recorded " + current.size() + " scores to " + baseline);
+            return;
+        }
+        Report report = compare(read(baseline), current, threshold);
+        System.out.println(report.format());
+        if (report.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the gate's benchmark subset: the sorting and select suites on 10^4 and 10^5 uniform and
+     * few-unique keys, boxed and primitive, and both closest-pair engines on 10^5 uniform points.
+     * @return Average time per operation by benchmark key.
+     */
+    public static Map<String, Score> runSubset() throws RunnerException {
+        Options sorting = base()
+                .include(BenchmarkSortingSuite.class.getSimpleName())
+                .param("size", "10000", "100000")
+                .param("distribution", "UNIFORM", "FEW_UNIQUE")
+                .build();
+        Options closest = base()
+                .include(BenchmarkClosestPairSuite.class.getSimpleName())
+                .param("size", "100000")
+                .param("distribution", "UNIFORM")
+                .build();
+        Map<String, Score> scores = new TreeMap<>();
+        collect(new Runner(sorting).run(), scores);
+        collect(new Runner(closest).run(), scores);
+        return scores;
+    }
+
+    /**
+     * Five forks of 15 measured seconds each: the error margins must stay well under the threshold,
+     * or the gate cannot fail. Forks also expose run-to-run variance (JIT decisions, heap layout)
+     * that iterations within one JVM hide.
+     */
+    private static OptionsBuilder base() {
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(15)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(5)
+                .jvmArgsAppend("-Xmx2g")
+                .shouldFailOnError(true);
+        return builder;
+    }
+
+    private static void collect(Collection<RunResult> results, Map<String, Score> scores) {
+        for (RunResult run : results) {
+            BenchmarkParams params = run.getParams();
+            Result<?> primary = run.getPrimaryResult();
+            scores.put(key(params), new Score(primary.getScore(), primary.getScoreError(), primary.getScoreUnit()));
+        }
+    }
+
+    /**
+     * @return "Class.method name=value ..." with parameters in name order.
+     */
+    static String key(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+        for (String name : new TreeMap<>(paramMap(params)).keySet()) {
+            key.append(' ').append(name).append('=').append(params.getParam(name));
+        }
+        return key.toString();
+    }
+
+    private static Map<String, String> paramMap(BenchmarkParams params) {
+        Map<String, String> map = new TreeMap<>();
+        for (String name : params.getParamsKeys()) {
+            map.put(name, params.getParam(name));
+        }
+        return map;
+    }
+
+    /**
+     * Writes scores in the baseline format: a version header, then "key TAB score TAB error TAB unit".
+     */
+    public static void write(Path file, Map<String, Score> scores) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(FORMAT_HEADER);
+        lines.add("# recorded " + LocalDate.now() + " on " + System.getProperty("java.vm.name") + " "
+                + System.getProperty("java.version") + ", " + Runtime.getRuntime().availableProcessors() + " cpus");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(scores).entrySet()) {
+            Score s = entry.getValue();
+            lines.add(entry.getKey() + '\t' + s.score + '\t' + s.error + '\t' + s.unit);
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a baseline written by {@link #write}.
+     * @throws IOException If the file is missing or not in a known format version.
+     */
+    public static Map<String, Score> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(FORMAT_HEADER)) {
+            throw new IOException("Not a perf-gate v1 baseline: " + file);
+        }
+        Map<String, Score> scores = new TreeMap<>();
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] fields = line.split("\t");
+            if (fields.length != 4) {
+                throw new IOException("Malformed baseline line: " + line);
+            }
+            scores.put(fields[0], new Score(Double.parseDouble(fields[1]), Double.parseDouble(fields[2]), fields[3]));
+        }
+        return scores;
+    }
+
+    /**
+     * Compares a run with the baseline; lower scores are better.
+     * @param threshold Allowed slowdown beyond the error margins, as a fraction (0.10 = 10%).
+     */
+    public static Report compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        if (!(threshold >= 0)) {
+            throw new IllegalArgumentException("Threshold must be non-negative");
+        }
+        Report report = new Report(threshold);
+        Map<String, Boolean> keys = new TreeMap<>();
+        baseline.keySet().forEach(k -> keys.put(k, true));
+        current.keySet().forEach(k -> keys.put(k, true));
+        for (String key : keys.keySet()) {
+            Score before = baseline.get(key);
+            Score after = current.get(key);
+            Verdict verdict;
+            if (before == null) {
+                verdict = Verdict.NEW;
+            } else if (after == null) {
+                verdict = Verdict.MISSING;
+            } else if (!before.unit.equals(after.unit)) {
+                throw new IllegalArgumentException("Unit mismatch for " + key + ": " + before.unit + " vs " + after.unit);
+            } else if (after.low() > before.high() * (1 + threshold)) {
+                verdict = Verdict.REGRESSION;
+            } else if (after.high() * (1 + threshold) < before.low()) {
+                verdict = Verdict.IMPROVED;
+            } else {
+                verdict = Verdict.OK;
+            }
+            report.rows.add(new Row(key, before, after, verdict));
+        }
+        return report;
+    }
+
+    public enum Verdict { OK, IMPROVED, REGRESSION, NEW, MISSING }
+
+    /**
+     * Score of one benchmark with its 99.9% error margin (JMH's default), in the given unit.
+     */
+    public static final class Score {
+        final double score;
+        final double error;
+        final String unit;
+
+        public Score(double score, double error, String unit) {
+            this.score = score;
+            this.error = Double.isNaN(error) ? 0 : error; // NaN when there was a single iteration
+            this.unit = unit;
+        }
+
+        double low() {
+            return score - error;
+        }
+
+        double high() {
+            return score + error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f ± %.3f %s", score, error, unit);
+        }
+    }
+
+    static final class Row {
+        final String key;
+        final Score before;
+        final Score after;
+        final Verdict verdict;
+
+        Row(String key, Score before, Score after, Verdict verdict) {
+            this.key = key;
+            this.before = before;
+            this.after = after;
+            this.verdict = verdict;
+        }
+    }
+
+    /**
+     * Result of a comparison, one row per benchmark in either run.
+     */
+    public static final class Report {
+        final double threshold;
+        final List<Row> rows = new ArrayList<>();
+
+        Report(double threshold) {
+            this.threshold = threshold;
+        }
+
+        public boolean hasRegressions() {
+            return rows.stream().anyMatch(r -> r.verdict == Verdict.REGRESSION);
+        }
+
+        public List<String> regressions() {
+            List<String> keys = new ArrayList<>();
+            for (Row row : rows) {
+                if (row.verdict == Verdict.REGRESSION) keys.add(row.key);
+            }
+            return keys;
+        }
+
+        /**
+         * @return A table of baseline and current scores with the relative change, regressions first.
+         */
+        public String format() {
+            int width = 9;
+            for (Row row : rows) {
+                width = Math.max(width, row.key.length());
+            }
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("%-" + width + "s  %26s  %26s  %8s  %s%n",
+                    "Benchmark", "Baseline", "Current", "Change", "Verdict"));
+            List<Row> ordered = new ArrayList<>(rows);
+            ordered.sort((a, b) -> Boolean.compare(b.verdict == Verdict.REGRESSION, a.verdict == Verdict.REGRESSION));
+            int regressions = 0;
+            for (Row row : ordered) {
+                String change = row.before != null && row.after != null
+                        ? String.format("%+.1f%%", 100 * (row.after.score / row.before.score - 1)) : "";
+                out.append(String.format("%-" + width + "s  %26s  %26s  %8s  %s%n", row.key,
+                        row.before == null ? "-" : row.before, row.after == null ? "-" : row.after,
+                        change, row.verdict));
+                if (row.verdict == Verdict.REGRESSION) regressions++;
+            }
+            out.append(String.format("%d benchmark(s), %d regression(s) beyond error margins + %.0f%%%n",
+                    rows.size(), regressions, 100 * threshold));
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.algorithms.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfGateTest {
+
+    @Test
+    void testBaselineRoundTrip(@TempDir Path dir) throws Exception {
+        Map<String, PerfGate.Score> scores = new TreeMap<>();
+        scores.put("BenchmarkSortingSuite.quickSort size=10000", new PerfGate.Score(812.5, 12.25, "us/op"));
+        scores.put("BenchmarkClosestPairSuite.pointArray size=100000", new PerfGate.Score(40123.0, Double.NaN, "us/op"));
+        Path file = dir.resolve("baseline.tsv");
+        PerfGate.write(file, scores);
+
+        Map<String, PerfGate.Score> read = PerfGate.read(file);
+        assertEquals(scores.keySet(), read.keySet());
+        PerfGate.Score quick = read.get("BenchmarkSortingSuite.quickSort size=10000");
+        assertEquals(812.5, quick.score);
+        assertEquals(12.25, quick.error);
+        assertEquals("us/op", quick.unit);
+        assertEquals(0.0, read.get("BenchmarkClosestPairSuite.pointArray size=100000").error);
+    }
+
+    @Test
+    void testReadRejectsUnknownFormat(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("baseline.tsv");
+        Files.write(file, List.of("# perf-gate baseline v0", "a\t1\t0\tus/op"));
+        assertThrows(java.io.IOException.class, () -> PerfGate.read(file));
+    }
+
+    @Test
+    void testSlowdownWithinErrorMarginsPasses() {
+        // 20% slower on the mean, but the intervals [90, 110] and [108, 132] overlap
+        PerfGate.Report report = PerfGate.compare(Map.of("a", new PerfGate.Score(100, 10, "us/op")),
+                Map.of("a", new PerfGate.Score(120, 12, "us/op")), 0.0);
+        assertFalse(report.hasRegressions(), report.format());
+    }
+
+    @Test
+    void testSlowdownBeyondMarginsAndThresholdFails() {
+        Map<String, PerfGate.Score> baseline = Map.of("a", new PerfGate.Score(100, 2, "us/op"),
+                "b", new PerfGate.Score(100, 2, "us/op"));
+        Map<String, PerfGate.Score> current = Map.of("a", new PerfGate.Score(150, 3, "us/op"),
+                "b", new PerfGate.Score(110, 1, "us/op"));
+        PerfGate.Report report = PerfGate.compare(baseline, current, 0.10);
+        // a: 147 > 102 * 1.1; b: 109 <= 112.2, within the threshold
+        assertEquals(List.of("a"), report.regressions());
+        String text = report.format();
+        assertTrue(text.startsWith("Benchmark"), text);
+        assertTrue(text.contains("+50.0%"), text);
+        assertTrue(text.contains("REGRESSION"), text);
+        assertTrue(text.contains("1 regression(s)"), text);
+    }
+
+    @Test
+    void testNewMissingAndImprovedAreReportedButPass() {
+        Map<String, PerfGate.Score> baseline = Map.of("gone", new PerfGate.Score(10, 1, "us/op"),
+                "faster", new PerfGate.Score(100, 1, "us/op"));
+        Map<String, PerfGate.Score> current = Map.of("added", new PerfGate.Score(10, 1, "us/op"),
+                "faster", new PerfGate.Score(50, 1, "us/op"));
+        PerfGate.Report report = PerfGate.compare(baseline, current, 0.10);
+        assertFalse(report.hasRegressions());
+        String text = report.format();
+        assertTrue(text.contains("NEW") && text.contains("MISSING") && text.contains("IMPROVED"), text);
+    }
+
+    @Test
+    void testInvalidComparison() {
+        Map<String, PerfGate.Score> ms = Map.of("a", new PerfGate.Score(1, 0, "ms/op"));
+        Map<String, PerfGate.Score> us = Map.of("a", new PerfGate.Score(1000, 0, "us/op"));
+        assertThrows(IllegalArgumentException.class, () -> PerfGate.compare(ms, us, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> PerfGate.compare(ms, ms, -0.1));
+    }
+
+    /**
+     * The gate itself: runs the JMH subset (several minutes) and fails with the diff report on a
+     * regression. Enabled by the perf-gate profile; -Dperf.record=true rewrites the baseline instead.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "perf.gate", matches = "true")
+    void testNoRegressionAgainstBaseline() throws Exception {
+        Path baseline = Path.of(System.getProperty("perf.baseline", PerfGate.DEFAULT_BASELINE.toString()));
+        double threshold = Double.parseDouble(System.getProperty("perf.threshold",
+                Double.toString(PerfGate.DEFAULT_THRESHOLD)));
+        Map<String, PerfGate.Score> current = PerfGate.runSubset();
+        if (Boolean.getBoolean("perf.record")) {
+            PerfGate.write(baseline, current);
+            System.out.println("Recorded " + current.size() + " scores to " + baseline);
+            return;
+        }
+        assertTrue(Files.exists(baseline), "No baseline at " + baseline + "; record one with -Dperf.record=true");
+        PerfGate.Report report = PerfGate.compare(PerfGate.read(baseline), current, threshold);
+        System.out.println(report.format());
+        assertFalse(report.hasRegressions(), "Performance regressions:\n" + report.format());
+    }
+}
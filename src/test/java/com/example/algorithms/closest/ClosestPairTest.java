@@ -2,11 +2,14 @@ package com.example.algorithms.closest;
 
 import сom.example.algorithms.closest.ClosestPair;
 import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.workload.PointDistribution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ClosestPairTest {
@@ -101,6 +104,34 @@ class ClosestPairTest {
         assertEquals(expected, result, 1e-10);
     }
 
+    @Test
+    void testClusteredDuplicates() {
+        Random rand = new Random(17);
+        int size = 3000;
+        ClosestPair.Point[] points = new ClosestPair.Point[size];
+        for (int i = 0; i < size; i++) {
+            // Few distinct locations, each repeated many times
+            points[i] = new ClosestPair.Point(rand.nextInt(20) * 0.5, rand.nextInt(20) * 0.25);
+        }
+        double result = closestPair.findClosestPair(points, tracker);
+        assertEquals(0.25, result, 1e-10);
+    }
+
+    @Test
+    void testLargeGrid() {
+        int side = 700; // 490,000 points, every one duplicated once
+        ClosestPair.Point[] points = new ClosestPair.Point[2 * side * side];
+        int idx = 0;
+        for (int i = 0; i < side; i++) {
+            for (int j = 0; j < side; j++) {
+                points[idx++] = new ClosestPair.Point(i * 3.0, j * 2.0);
+                points[idx++] = new ClosestPair.Point(i * 3.0, j * 2.0);
+            }
+        }
+        double result = closestPair.findClosestPair(points, tracker);
+        assertEquals(2.0, result, 1e-10);
+    }
+
     private double bruteForceClosest(ClosestPair.Point[] points) {
         double minDistance = Double.POSITIVE_INFINITY;
         for (int i = 0; i < points.length; i++) {
@@ -111,4 +142,20 @@ class ClosestPairTest {
         }
         return minDistance;
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEveryPointDistribution() {
+        for (PointDistribution distribution : PointDistribution.values()) {
+            ClosestPair.Point[] points = distribution.generate(1000, 11);
+            // Duplicates are ignored, so compare with the closest distinct pair
+            double expected = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < points.length; i++) {
+                for (int j = i + 1; j < points.length; j++) {
+                    double d = Math.hypot(points[i].x - points[j].x, points[i].y - points[j].y);
+                    if (d > 0) expected = Math.min(expected, d);
+                }
+            }
+            assertEquals(expected, closestPair.findClosestPair(points, tracker), 1e-10, distribution.name());
+        }
+    }
+}
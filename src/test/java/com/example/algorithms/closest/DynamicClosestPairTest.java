@@ -0,0 +1,145 @@
+package com.example.algorithms.closest;
+
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.DynamicClosestPair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicClosestPairTest {
+
+    private DynamicClosestPair dynamic;
+    private List<Integer> handles;
+
+    @BeforeEach
+    void setUp() {
+        dynamic = new DynamicClosestPair();
+        handles = new ArrayList<>();
+    }
+
+    @Test
+    void testMixedUpdatesMatchBruteForce() {
+        Random rand = new Random(51);
+        for (int step = 0; step < 4000; step++) {
+            if (handles.size() < 5 || rand.nextInt(3) != 0) {
+                handles.add(dynamic.insert(rand.nextInt(500) / 2.0, rand.nextDouble() * 250));
+            } else {
+                dynamic.delete(handles.remove(rand.nextInt(handles.size())));
+            }
+            if (step % 7 == 0) {
+                assertMatchesBruteForce();
+            }
+        }
+        while (handles.size() > 1) {
+            dynamic.delete(handles.remove(rand.nextInt(handles.size())));
+            assertMatchesBruteForce();
+        }
+    }
+
+    @Test
+    void testClusteredWithDuplicates() {
+        Random rand = new Random(52);
+        for (int i = 0; i < 3000; i++) {
+            int cluster = rand.nextInt(4); // Dense blobs far apart, plus an occasional exact copy
+            if (!handles.isEmpty() && rand.nextInt(10) == 0) {
+                int copy = handles.get(rand.nextInt(handles.size()));
+                handles.add(dynamic.insert(dynamic.x(copy), dynamic.y(copy)));
+            } else {
+                handles.add(dynamic.insert(cluster * 1e6 + rand.nextGaussian(), cluster * 1e6 + rand.nextGaussian()));
+            }
+        }
+        assertMatchesBruteForce();
+        for (int i = 0; i < 2500; i++) {
+            dynamic.delete(handles.remove(rand.nextInt(handles.size())));
+            if (i % 50 == 0) {
+                assertMatchesBruteForce();
+            }
+        }
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void testDeletingClosestPairRepeatedly() {
+        Random rand = new Random(53);
+        for (int i = 0; i < 1000; i++) {
+            handles.add(dynamic.insert(rand.nextDouble(), rand.nextDouble()));
+        }
+        double previous = 0;
+        while (dynamic.size() > 2) {
+            ClosestPairResult result = dynamic.closestPair();
+            assertTrue(result.getDistance() >= previous); // Removing points never shrinks the minimum
+            previous = result.getDistance();
+            dynamic.delete(result.getFirst());
+            handles.remove(Integer.valueOf(result.getFirst()));
+        }
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void testFixedCellSizeAndEdgeCases() {
+        DynamicClosestPair fixed = new DynamicClosestPair(0.5);
+        assertEquals(-1, fixed.closestPair().getFirst());
+        int a = fixed.insert(0, 0);
+        int b = fixed.insert(0, 0);
+        assertEquals(-1, fixed.closestPair().getFirst()); // Duplicates only
+        int c = fixed.insert(30, 40);
+        assertEquals(50.0, fixed.closestPair().getDistance(), 1e-12);
+        fixed.delete(a);
+        assertEquals(50.0, fixed.closestPair().getDistance(), 1e-12);
+        fixed.delete(c);
+        assertEquals(0.0, fixed.closestPair().getDistance());
+        assertEquals(1, fixed.size());
+        assertTrue(fixed.contains(b));
+        assertThrows(IllegalArgumentException.class, () -> fixed.delete(a));
+        assertThrows(IllegalArgumentException.class, () -> fixed.insert(Double.NaN, 0));
+        assertThrows(IllegalArgumentException.class, () -> new DynamicClosestPair(0));
+    }
+
+    @Test
+    void testWidelySpacedPoints() {
+        // Disk spans of billions of cells must go to the wide list, not overflow the size check
+        handles.add(dynamic.insert(0, 0));
+        handles.add(dynamic.insert(3e9, 3e9));
+        assertMatchesBruteForce();
+        handles.add(dynamic.insert(-1e300, 1e300));
+        handles.add(dynamic.insert(1e300, -1e300));
+        handles.add(dynamic.insert(1, 1));
+        assertMatchesBruteForce();
+
+        DynamicClosestPair fixed = new DynamicClosestPair(1e-3);
+        fixed.insert(0, 0);
+        fixed.insert(3e9, -3e9);
+        assertEquals(Math.hypot(3e9, 3e9), fixed.closestPair().getDistance(), 1e-3);
+        fixed.insert(2e9, -2e9);
+        assertEquals(Math.hypot(1e9, 1e9), fixed.closestPair().getDistance(), 1e-3);
+    }
+
+    private void assertMatchesBruteForce() {
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < handles.size(); i++) {
+            for (int j = i + 1; j < handles.size(); j++) {
+                double d = distance(handles.get(i), handles.get(j));
+                if (d > 0 && d < best) best = d;
+            }
+        }
+        ClosestPairResult result = dynamic.closestPair();
+        if (best == Double.POSITIVE_INFINITY) {
+            assertEquals(-1, result.getFirst());
+            return;
+        }
+        assertEquals(best, result.getDistance(), 1e-12);
+        assertTrue(dynamic.contains(result.getFirst()) && dynamic.contains(result.getSecond()));
+        assertEquals(result.getDistance(), distance(result.getFirst(), result.getSecond()), 1e-12);
+    }
+
+    private double distance(int a, int b) {
+        double dx = dynamic.x(a) - dynamic.x(b);
+        double dy = dynamic.y(a) - dynamic.y(b);
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
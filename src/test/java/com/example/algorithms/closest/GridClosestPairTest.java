@@ -0,0 +1,89 @@
+package com.example.algorithms.closest;
+
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.GridClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridClosestPairTest {
+
+    private GridClosestPair grid;
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        grid = new GridClosestPair(new Random(31));
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testMatchesDivideAndConquerOnUniform() {
+        Random rand = new Random(32);
+        for (int trial = 0; trial < 20; trial++) {
+            int size = 2 + rand.nextInt(20_000);
+            double[] xs = new double[size];
+            double[] ys = new double[size];
+            for (int i = 0; i < size; i++) {
+                xs[i] = rand.nextDouble() * 1000;
+                ys[i] = rand.nextDouble() * 1000;
+            }
+            assertSameAsDivideAndConquer(new PointSet(xs, ys));
+        }
+    }
+
+    @Test
+    void testMatchesDivideAndConquerOnClusters() {
+        Random rand = new Random(33);
+        int size = 50_000;
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            int cluster = rand.nextInt(5);
+            xs[i] = cluster * 1e4 + rand.nextGaussian();
+            ys[i] = cluster * -3e3 + rand.nextGaussian() * 0.01;
+        }
+        assertSameAsDivideAndConquer(new PointSet(xs, ys));
+    }
+
+    @Test
+    void testIntegerGridWithDuplicates() {
+        ClosestPair.Point[] points = new ClosestPair.Point[10_000];
+        Random rand = new Random(34);
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(rand.nextInt(50) * 2, rand.nextInt(50) * 3);
+        }
+        assertEquals(2.0, grid.findClosestPair(points, tracker), 0.0);
+    }
+
+    @Test
+    void testExtremeCoordinateRangeFallsBack() {
+        PointSet points = new PointSet(new double[]{0, 1e-12, 1e12, 5}, new double[]{0, 0, 0, 5});
+        ClosestPairResult result = grid.findClosestPair(points, tracker);
+        assertEquals(1e-12, result.getDistance(), 0.0);
+        assertEquals(0, result.getFirst());
+        assertEquals(1, result.getSecond());
+    }
+
+    @Test
+    void testAllDuplicatesTiny() {
+        PointSet points = new PointSet(new double[]{1, 1, 1}, new double[]{2, 2, 2});
+        assertEquals(0.0, grid.findClosestPair(points, tracker).getDistance());
+        assertThrows(IllegalArgumentException.class,
+                () -> grid.findClosestPair(new PointSet(new double[]{1}, new double[]{1}), tracker));
+    }
+
+    private void assertSameAsDivideAndConquer(PointSet points) {
+        ClosestPairResult expected = new PrimitiveClosestPair().findClosestPair(points, new MetricsTracker());
+        ClosestPairResult result = grid.findClosestPair(points, tracker);
+        assertEquals(expected.getDistance(), result.getDistance(), 0.0);
+        assertEquals(result.getDistance(), points.distance(result.getFirst(), result.getSecond()), 0.0);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.algorithms.closest;
+
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.KDTree;
+import сom.example.algorithms.closest.NeighborList;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.workload.PointDistribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KDTreeTest {
+
+    private PointSet points;
+    private KDTree tree;
+
+    @BeforeEach
+    void setUp() {
+        Random rand = new Random(41);
+        int size = 5000;
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = rand.nextInt(2000) / 10.0; // Some repeated coordinates on each axis
+            ys[i] = rand.nextDouble() * 200;
+        }
+        points = new PointSet(xs, ys);
+        tree = new KDTree(points, new MetricsTracker());
+    }
+
+    @Test
+    void testKNearestMatchesBruteForce() {
+        Random rand = new Random(42);
+        for (int q = 0; q < 200; q++) {
+            double x = rand.nextDouble() * 220 - 10;
+            double y = rand.nextDouble() * 220 - 10;
+            double[] expected = sortedDistances(x, y);
+            NeighborList result = tree.kNearest(x, y, 10);
+            assertEquals(10, result.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(expected[i], result.distance(i), 1e-12);
+                assertEquals(result.distance(i), distance(result.index(i), x, y), 1e-12);
+            }
+            assertEquals(expected[0], tree.nearest(x, y).distance(0), 1e-12);
+        }
+    }
+
+    @Test
+    void testWithinRadiusMatchesBruteForce() {
+        Random rand = new Random(43);
+        for (int q = 0; q < 100; q++) {
+            double x = rand.nextDouble() * 200;
+            double y = rand.nextDouble() * 200;
+            double r = rand.nextDouble() * 10;
+            long expected = Arrays.stream(sortedDistances(x, y)).filter(d -> d <= r).count();
+            NeighborList result = tree.withinRadius(x, y, r);
+            assertEquals(expected, result.size());
+            for (int i = 1; i < result.size(); i++) {
+                assertTrue(result.distance(i - 1) <= result.distance(i));
+            }
+        }
+    }
+
+    @Test
+    void testBatchMatchesSingleQueries() {
+        Random rand = new Random(44);
+        double[] qx = new double[3000];
+        double[] qy = new double[3000];
+        for (int i = 0; i < qx.length; i++) {
+            qx[i] = rand.nextDouble() * 200;
+            qy[i] = rand.nextDouble() * 200;
+        }
+        NeighborList nearest = tree.nearestBatch(qx, qy);
+        NeighborList[] knn = tree.kNearestBatch(qx, qy, 3);
+        for (int i = 0; i < qx.length; i++) {
+            assertEquals(tree.nearest(qx[i], qy[i]).distance(0), nearest.distance(i));
+            assertArrayEquals(tree.kNearest(qx[i], qy[i], 3).getDistances(), knn[i].getDistances());
+        }
+    }
+
+    @Test
+    void testKClosestPairs() {
+        ClosestPairResult[] pairs = tree.kClosestPairs(20);
+        assertEquals(20, pairs.length);
+
+        double[] all = new double[points.size() * (points.size() - 1) / 2];
+        int idx = 0;
+        for (int i = 0; i < points.size(); i++) {
+            for (int j = i + 1; j < points.size(); j++) {
+                all[idx++] = points.distance(i, j);
+            }
+        }
+        Arrays.sort(all);
+        for (int i = 0; i < pairs.length; i++) {
+            assertEquals(all[i], pairs[i].getDistance(), 1e-12);
+            assertTrue(pairs[i].getFirst() < pairs[i].getSecond());
+            assertEquals(pairs[i].getDistance(), points.distance(pairs[i].getFirst(), pairs[i].getSecond()), 1e-12);
+        }
+        ClosestPairResult closest = new PrimitiveClosestPair().findClosestPair(points, new MetricsTracker());
+        assertEquals(closest.getDistance(), pairs[0].getDistance(), 1e-12);
+    }
+
+    @Test
+    void testKClosestPairsOnGridTies() {
+        // Every pair is seen from both endpoints and many distances tie, so duplicates must be dropped
+        PointSet grid = PointSet.of(PointDistribution.GRID.generate(400, 3));
+        KDTree gridTree = new KDTree(grid, new MetricsTracker());
+        ClosestPairResult[] pairs = gridTree.kClosestPairs(300);
+        double[] all = new double[grid.size() * (grid.size() - 1) / 2];
+        int idx = 0;
+        for (int i = 0; i < grid.size(); i++) {
+            for (int j = i + 1; j < grid.size(); j++) {
+                all[idx++] = grid.distance(i, j);
+            }
+        }
+        Arrays.sort(all);
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < pairs.length; i++) {
+            assertEquals(all[i], pairs[i].getDistance(), 1e-12);
+            assertTrue(seen.add(((long) pairs[i].getFirst() << 32) | pairs[i].getSecond()), "repeated pair");
+        }
+        assertEquals(300, pairs.length);
+    }
+
+    @Test
+    void testTinyAndInvalid() {
+        KDTree single = new KDTree(new PointSet(new double[]{1}, new double[]{2}), new MetricsTracker());
+        assertEquals(0, single.nearest(1, 2).index(0));
+        assertEquals(1, single.kNearest(0, 0, 5).size());
+        assertEquals(0, single.kClosestPairs(3).length);
+        assertThrows(IllegalArgumentException.class, () -> tree.kNearest(0, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new KDTree(new PointSet(new double[0], new double[0]), new MetricsTracker()));
+    }
+
+    private double[] sortedDistances(double x, double y) {
+        double[] d = new double[points.size()];
+        for (int i = 0; i < d.length; i++) {
+            d[i] = distance(i, x, y);
+        }
+        Arrays.sort(d);
+        return d;
+    }
+
+    private double distance(int i, double x, double y) {
+        double dx = points.x(i) - x;
+        double dy = points.y(i) - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
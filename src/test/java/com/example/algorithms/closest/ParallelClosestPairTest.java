@@ -0,0 +1,78 @@
+package com.example.algorithms.closest;
+
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.ParallelClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.MetricsTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelClosestPairTest {
+
+    private ForkJoinPool pool;
+    private ParallelClosestPair parallel;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        parallel = new ParallelClosestPair(pool, 64); // Small threshold to exercise the forked paths
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testSameDistanceAsSequential() {
+        Random rand = new Random(21);
+        for (int trial = 0; trial < 10; trial++) {
+            PointSet points = randomPoints(rand, 1000 + rand.nextInt(50_000));
+            ClosestPairResult expected = new PrimitiveClosestPair().findClosestPair(points, new MetricsTracker());
+            ClosestPairResult result = parallel.findClosestPair(points, new MetricsTracker());
+            assertEquals(expected.getDistance(), result.getDistance(), 0.0);
+            assertEquals(result.getDistance(), points.distance(result.getFirst(), result.getSecond()), 0.0);
+        }
+    }
+
+    @Test
+    void testSameDistanceAsObjectImplementation() {
+        Random rand = new Random(22);
+        ClosestPair.Point[] points = new ClosestPair.Point[20_000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(rand.nextInt(5000), rand.nextInt(5000)); // Many duplicates
+        }
+        double expected = new ClosestPair().findClosestPair(points, new MetricsTracker());
+        assertEquals(expected, parallel.findClosestPair(points, new MetricsTracker()), 0.0);
+    }
+
+    @Test
+    void testMetricsMatchSequentialShape() {
+        PointSet points = randomPoints(new Random(23), 100_000);
+        MetricsTracker sequentialTracker = new MetricsTracker();
+        MetricsTracker parallelTracker = new MetricsTracker();
+        new PrimitiveClosestPair().findClosestPair(points, sequentialTracker);
+        parallel.findClosestPair(points, parallelTracker);
+        assertEquals(sequentialTracker.getMaxDepth(), parallelTracker.getMaxDepth());
+        assertTrue(parallelTracker.getComparisons() >= sequentialTracker.getComparisons() / 2);
+        assertTrue(parallelTracker.getExecutionTimeNs() > 0);
+    }
+
+    private PointSet randomPoints(Random rand, int size) {
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = rand.nextDouble() * 1000;
+            ys[i] = rand.nextDouble() * 1000;
+        }
+        return new PointSet(xs, ys);
+    }
+}
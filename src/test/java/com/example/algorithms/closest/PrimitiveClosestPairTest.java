@@ -0,0 +1,73 @@
+package com.example.algorithms.closest;
+
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveClosestPairTest {
+
+    private PrimitiveClosestPair engine;
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        engine = new PrimitiveClosestPair();
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testMatchesObjectImplementation() {
+        Random rand = new Random(9);
+        for (int trial = 0; trial < 20; trial++) {
+            int size = 2 + rand.nextInt(3000);
+            ClosestPair.Point[] points = new ClosestPair.Point[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new ClosestPair.Point(rand.nextDouble() * 100, rand.nextDouble() * 100);
+            }
+            double expected = new ClosestPair().findClosestPair(points, new MetricsTracker());
+            ClosestPairResult result = engine.findClosestPair(PointSet.of(points), tracker);
+            assertEquals(expected, result.getDistance(), 1e-10);
+        }
+    }
+
+    @Test
+    void testReportsPairIndices() {
+        PointSet points = new PointSet(new double[]{0, 10, 3, 20, 3.5}, new double[]{0, 10, 3, 20, 3.5});
+        ClosestPairResult result = engine.findClosestPair(points, tracker);
+        assertEquals(2, result.getFirst());
+        assertEquals(4, result.getSecond());
+        assertEquals(points.distance(2, 4), result.getDistance(), 1e-12);
+    }
+
+    @Test
+    void testSortedIndicesByX() {
+        PointSet points = new PointSet(new double[]{3, 1, 2, 1}, new double[]{0, 5, 0, 4});
+        assertArrayEquals(new int[]{3, 1, 2, 0}, points.sortedIndicesByX());
+    }
+
+    @Test
+    void testDuplicatesIgnored() {
+        PointSet points = new PointSet(new double[]{1, 1, 2}, new double[]{1, 1, 2});
+        assertEquals(Math.sqrt(2), engine.findClosestPair(points, tracker).getDistance(), 1e-10);
+
+        PointSet same = new PointSet(new double[]{1, 1, 1}, new double[]{1, 1, 1});
+        ClosestPairResult result = engine.findClosestPair(same, tracker);
+        assertEquals(0.0, result.getDistance());
+        assertEquals(-1, result.getFirst());
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.findClosestPair(new PointSet(new double[]{1}, new double[]{1}), tracker));
+        assertThrows(IllegalArgumentException.class, () -> new PointSet(new double[2], new double[3]));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.algorithms.dataset;
+
+import сom.example.algorithms.closest.ClosestPairResult;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.dataset.Dataset;
+import сom.example.algorithms.dataset.DatasetType;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.PointDistribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatasetTest {
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("data.bin");
+    }
+
+    @Test
+    void testIntRoundTrip() throws Exception {
+        int[] keys = KeyDistribution.ZIPF.generate(5000, 3);
+        Dataset.write(file, keys, 3);
+        assertEquals(32 + 4L * keys.length, Files.size(file));
+
+        Dataset dataset = Dataset.open(file);
+        assertEquals(DatasetType.INT, dataset.getType());
+        assertEquals(keys.length, dataset.getCount());
+        assertEquals(3, dataset.getSeed());
+        assertFalse(dataset.isSorted());
+        assertArrayEquals(keys, dataset.toIntArray());
+        IntBuffer view = dataset.intKeys();
+        assertEquals(keys.length, view.remaining());
+        assertEquals(keys[4999], view.get(4999));
+        assertTrue(view.isReadOnly());
+    }
+
+    @Test
+    void testLongAndDoubleRoundTrip() throws Exception {
+        long[] longs = {Long.MIN_VALUE, -1, 0, 42, Long.MAX_VALUE};
+        Dataset.write(file, longs, 0);
+        Dataset dataset = Dataset.open(file);
+        assertEquals(DatasetType.LONG, dataset.getType());
+        assertTrue(dataset.isSorted());
+        assertArrayEquals(longs, dataset.toLongArray());
+
+        double[] doubles = {3.5, -0.0, Double.NaN, 1e-300};
+        Dataset.write(file, doubles, 0); // Overwrites the longer file
+        dataset = Dataset.open(file);
+        assertEquals(DatasetType.DOUBLE, dataset.getType());
+        assertFalse(dataset.isSorted());
+        assertArrayEquals(doubles, dataset.toDoubleArray());
+        assertEquals(3.5, dataset.doubleKeys().get(0));
+    }
+
+    @Test
+    void testPointRoundTrip() throws Exception {
+        PointSet points = PointSet.of(PointDistribution.CLUSTERED.generate(3000, 5));
+        Dataset.write(file, points, 5);
+        Dataset dataset = Dataset.open(file);
+        assertEquals(DatasetType.POINT, dataset.getType());
+        assertEquals(3000, dataset.getCount());
+        assertEquals(points.y(2999), dataset.ys().get(2999));
+        assertEquals(points.x(0), dataset.xs().get(0));
+
+        PointSet loaded = dataset.toPointSet();
+        assertArrayEquals(points.getXs(), loaded.getXs());
+        assertArrayEquals(points.getYs(), loaded.getYs());
+        ClosestPairResult expected = new PrimitiveClosestPair().findClosestPair(points, NoOpTracker.INSTANCE);
+        ClosestPairResult actual = new PrimitiveClosestPair().findClosestPair(loaded, NoOpTracker.INSTANCE);
+        assertEquals(expected.getDistance(), actual.getDistance());
+    }
+
+    @Test
+    void testSortedFlag() throws Exception {
+        Dataset.write(file, KeyDistribution.SORTED.generate(1000, 1), 1);
+        assertTrue(Dataset.open(file).isSorted());
+
+        int[] keys = KeyDistribution.UNIFORM.generate(1000, 1);
+        Dataset.write(file, keys, 1);
+        Dataset dataset = Dataset.open(file);
+        assertFalse(dataset.isSorted());
+        int[] sorted = dataset.toIntArray();
+        new QuickSort().sort(sorted, NoOpTracker.INSTANCE);
+        Dataset.write(file, sorted, 1);
+        assertTrue(Dataset.open(file).isSorted());
+        Arrays.sort(keys);
+        assertArrayEquals(keys, Dataset.open(file).toIntArray());
+    }
+
+    @Test
+    void testEmptyDataset() throws Exception {
+        Dataset.write(file, new int[0], 0);
+        Dataset dataset = Dataset.open(file);
+        assertEquals(0, dataset.getCount());
+        assertEquals(0, dataset.toIntArray().length);
+    }
+
+    @Test
+    void testWrongTypeView() throws Exception {
+        Dataset.write(file, new int[]{1, 2, 3}, 0);
+        Dataset dataset = Dataset.open(file);
+        assertThrows(IllegalStateException.class, dataset::toPointSet);
+        assertThrows(IllegalStateException.class, dataset::longKeys);
+    }
+
+    @Test
+    void testInvalidFiles() throws Exception {
+        Files.write(file, new byte[10]);
+        assertThrows(IllegalArgumentException.class, () -> Dataset.open(file));
+
+        Files.write(file, new byte[40]); // Long enough, but no magic
+        assertThrows(IllegalArgumentException.class, () -> Dataset.open(file));
+
+        Dataset.write(file, new int[]{1, 2, 3}, 0);
+        byte[] truncated = Arrays.copyOf(Files.readAllBytes(file), 32 + 8);
+        Files.write(file, truncated);
+        assertThrows(IllegalArgumentException.class, () -> Dataset.open(file));
+
+        Dataset.write(file, new int[]{1, 2, 3}, 0);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putShort(4, (short) 99);
+        Files.write(file, bytes);
+        assertThrows(IllegalArgumentException.class, () -> Dataset.open(file));
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.algorithms.experiment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import сom.example.algorithms.experiment.Algorithm;
+import сom.example.algorithms.experiment.CpuAffinity;
+import сom.example.algorithms.experiment.ExperimentCell;
+import сom.example.algorithms.experiment.ExperimentJournal;
+import сom.example.algorithms.experiment.ExperimentScheduler;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.workload.KeyDistribution;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExperimentSchedulerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<ExperimentCell> smallMatrix() {
+        return ExperimentCell.matrix(new int[]{50, 200}, Arrays.asList(Algorithm.values()),
+                Arrays.asList(KeyDistribution.UNIFORM, KeyDistribution.REVERSE), new long[]{1, 2});
+    }
+
+    @Test
+    void testRunsEveryCellOnceAcrossWorkers() throws Exception {
+        List<ExperimentCell> cells = smallMatrix();
+        CollectingSink sink = new CollectingSink();
+        int ran = new ExperimentScheduler(3, false).run(cells, sink, null);
+
+        assertEquals(32, cells.size());
+        assertEquals(32, ran);
+        assertEquals(32, sink.records.size());
+        Set<String> labels = new HashSet<>();
+        for (MetricsRecord record : sink.records) {
+            labels.add(record.getAlgorithm());
+            assertTrue(record.getN() == 50 || record.getN() == 200);
+            // Overlapping cells can't attribute JVM-wide GC activity
+            assertEquals(-1, record.getGcCount());
+            assertEquals(-1, record.getGcTimeMs());
+        }
+        assertTrue(labels.contains("QuickSort"));
+        assertTrue(labels.contains("QuickSort/REVERSE"));
+        assertEquals(8, labels.size());
+    }
+
+    @Test
+    void testResumesFromJournal() throws Exception {
+        List<ExperimentCell> cells = smallMatrix();
+        Path journalPath = tempDir.resolve("sweep.journal");
+        StringBuilder earlier = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            earlier.append(cells.get(i).key()).append('\n');
+        }
+        earlier.append(cells.get(10).key(), 0, 5); // Torn line from an interrupted sweep
+        Files.write(journalPath, earlier.toString().getBytes(StandardCharsets.UTF_8));
+
+        CollectingSink sink = new CollectingSink();
+        try (ExperimentJournal journal = new ExperimentJournal(journalPath)) {
+            assertEquals(22, new ExperimentScheduler(2, false).run(cells, sink, journal));
+        }
+        assertEquals(22, sink.records.size());
+
+        try (ExperimentJournal journal = new ExperimentJournal(journalPath)) {
+            assertEquals(0, new ExperimentScheduler(2, false).run(cells, new CollectingSink(), journal));
+        }
+    }
+
+    @Test
+    void testPinningDoesNotFailTheSweep() throws Exception {
+        List<ExperimentCell> cells = ExperimentCell.matrix(new int[]{100}, Arrays.asList(Algorithm.values()),
+                Arrays.asList(KeyDistribution.UNIFORM), new long[]{1});
+        CollectingSink sink = new CollectingSink();
+        assertEquals(4, new ExperimentScheduler(1, true).run(cells, sink, null));
+        assertEquals(4, sink.records.size());
+        for (MetricsRecord record : sink.records) {
+            assertTrue(record.getGcCount() >= 0 && record.getGcTimeMs() >= 0, "one worker measures GC");
+        }
+        if (!CpuAffinity.isSupported()) {
+            assertFalse(CpuAffinity.pinCurrentThread(0));
+        }
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ExperimentScheduler(0, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExperimentCell(0, Algorithm.MERGE_SORT, KeyDistribution.UNIFORM, 1));
+    }
+
+    private static class CollectingSink implements MetricsSink {
+        final List<MetricsRecord> records = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(MetricsRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
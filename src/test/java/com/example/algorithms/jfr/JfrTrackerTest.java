@@ -0,0 +1,78 @@
+package com.example.algorithms.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import сom.example.algorithms.jfr.AlgorithmPhaseEvent;
+import сom.example.algorithms.jfr.AlgorithmRunEvent;
+import сom.example.algorithms.jfr.JfrAnalyzer;
+import сom.example.algorithms.jfr.JfrTracker;
+import сom.example.algorithms.metrics.LatencyHistogram;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.NoOpTracker;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrTrackerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRecordedRunsAndPhases() throws Exception {
+        Integer[] arr = randomArray(2000);
+        Path file = tempDir.resolve("runs.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(AlgorithmRunEvent.NAME);
+            recording.enable(AlgorithmPhaseEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            for (int i = 0; i < 20; i++) {
+                new MergeSort().sort(arr.clone(), new JfrTracker("MergeSort", arr.length));
+            }
+            for (int i = 0; i < 5; i++) {
+                new DeterministicSelect().select(arr.clone(), 1000, new JfrTracker("DeterministicSelect", arr.length));
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        Map<String, LatencyHistogram> runs = JfrAnalyzer.runLatencies(file);
+        assertEquals(20, runs.get("MergeSort n=2000").getTotalCount());
+        assertEquals(5, runs.get("DeterministicSelect n=2000").getTotalCount());
+        assertTrue(runs.get("MergeSort n=2000").getValueAtPercentile(50) > 0);
+        Map<String, LatencyHistogram> phases = JfrAnalyzer.phaseLatencies(file);
+        assertTrue(phases.get("MergeSort merge").getTotalCount() > 20);
+        assertTrue(phases.containsKey("DeterministicSelect medianOfMedians"));
+    }
+
+    @Test
+    void testForwardsToDelegate() {
+        MetricsTracker metrics = new MetricsTracker(true);
+        JfrTracker tracker = new JfrTracker(metrics, "MergeSort", 2000);
+        new MergeSort().sort(randomArray(2000), tracker); // No recording running
+        assertTrue(metrics.getComparisons() > 0);
+        assertEquals(metrics.getComparisons(), tracker.getComparisons());
+        assertEquals(metrics.getMaxDepth(), tracker.getMaxDepth());
+        assertFalse(tracker.getPhases().isEmpty());
+
+        JfrTracker untracked = new JfrTracker(NoOpTracker.INSTANCE, "MergeSort", 10);
+        untracked.join(untracked.fork());
+        assertEquals(0, untracked.getComparisons());
+        assertThrows(IllegalArgumentException.class, () -> new JfrTracker(null, "X", 1));
+    }
+
+    private static Integer[] randomArray(int size) {
+        Random rand = new Random(40);
+        Integer[] arr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(100_000);
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.algorithms.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import сom.example.algorithms.Main;
+import сom.example.algorithms.metrics.AsyncMetricsSink;
+import сom.example.algorithms.metrics.CsvFormat;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncMetricsSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConcurrentWritersAndSmallQueue() throws Exception {
+        Path csv = tempDir.resolve("metrics.csv");
+        try (MetricsSink sink = new AsyncMetricsSink(csv, new CsvFormat(), 16)) {
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                int id = t;
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        sink.write(new MetricsRecord(i, 10L * i, 3, 7, 1, "Algo" + id));
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            sink.flush();
+            assertEquals(20_001, Files.readAllLines(csv).size());
+        }
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals("n,time_ns,depth,comparisons,allocations,algorithm,allocated_bytes,gc_count,gc_time_ms",
+                lines.get(0));
+        assertTrue(lines.contains("4999,49990,3,7,1,Algo2,0,0,0"));
+    }
+
+    @Test
+    void testAppendsWithoutSecondHeaderAndQuotes() throws IOException {
+        Path csv = tempDir.resolve("metrics.csv");
+        try (MetricsSink sink = new AsyncMetricsSink(csv)) {
+            sink.write(new MetricsRecord(1, 2, 3, 4, 5, "Plain"));
+        }
+        try (MetricsSink sink = new AsyncMetricsSink(csv)) {
+            sink.write(new MetricsRecord(1, 2, 3, 4, 5, "Has,\"comma\""));
+        }
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(3, lines.size());
+        assertEquals("1,2,3,4,5,\"Has,\"\"comma\"\"\",0,0,0", lines.get(2));
+    }
+
+    @Test
+    void testJsonLines() throws IOException {
+        Path jsonl = tempDir.resolve("metrics.jsonl");
+        try (MetricsSink sink = new AsyncMetricsSink(jsonl)) {
+            sink.write(new MetricsRecord(100, 5120, 4, 540, 1, "Merge\"Sort\""));
+        }
+        assertEquals(List.of("{\"n\":100,\"time_ns\":5120,\"depth\":4,\"comparisons\":540,\"allocations\":1,"
+                + "\"algorithm\":\"Merge\\\"Sort\\\"\",\"allocated_bytes\":0,\"gc_count\":0,\"gc_time_ms\":0}"), Files.readAllLines(jsonl));
+    }
+
+    @Test
+    void testPhasesColumn() throws IOException {
+        Path csv = tempDir.resolve("run.csv");
+        Main.runAlgorithms(300, csv.toString(), true);
+        assertFalse(Files.exists(csv), "phases must not change the schema of the plain file");
+        List<String> lines = Files.readAllLines(tempDir.resolve("run.phases.csv"));
+        assertTrue(lines.get(0).endsWith(",gc_time_ms,phases"));
+        assertTrue(lines.get(1).contains(",MergeSort,") && lines.get(1).contains("merge:"));
+        assertTrue(lines.get(4).contains("strip.scan:"));
+
+        Path jsonl = tempDir.resolve("phases.jsonl");
+        Main.runAlgorithms(300, jsonl.toString(), true);
+        assertTrue(Files.readAllLines(jsonl).get(2).contains("{\"name\":\"medianOfMedians\",\"count\":"));
+    }
+
+    @Test
+    void testRejectsFileWithOtherHeader() throws IOException {
+        Path csv = tempDir.resolve("old.csv");
+        Files.writeString(csv, "n,time_ns,depth,comparisons,allocations,algorithm\n100,1,1,1,1,MergeSort\n");
+        IOException e = assertThrows(IOException.class, () -> new AsyncMetricsSink(csv));
+        assertTrue(e.getMessage().contains("expected \"" + new CsvFormat().header() + "\""));
+        assertThrows(IOException.class, () -> new AsyncMetricsSink(csv, new CsvFormat(true), 16));
+        assertEquals(2, Files.readAllLines(csv).size(), "file left untouched");
+
+        Path phases = tempDir.resolve("p.csv");
+        new AsyncMetricsSink(phases, new CsvFormat(true), 16).close();
+        new AsyncMetricsSink(phases, new CsvFormat(true), 16).close(); // Same header: appends
+        assertThrows(IOException.class, () -> new AsyncMetricsSink(phases, new CsvFormat(), 16));
+    }
+
+    @Test
+    void testWriteAfterCloseRejected() throws IOException {
+        MetricsSink sink = new AsyncMetricsSink(tempDir.resolve("metrics.csv"));
+        sink.close();
+        sink.close(); // Idempotent
+        assertThrows(IllegalStateException.class, () -> sink.write(new MetricsRecord(1, 1, 1, 1, 1, "X")));
+    }
+
+    @Test
+    void testFormatFailureIsReported() {
+        Path csv = tempDir.resolve("metrics.csv");
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MetricsSink sink = new AsyncMetricsSink(csv, new FailingFormat(new IllegalArgumentException("bad")), 4);
+            sink.write(new MetricsRecord(1, 1, 1, 1, 1, "Good"));
+            sink.write(new MetricsRecord(2, 1, 1, 1, 1, "Bad"));
+            sink.write(new MetricsRecord(3, 1, 1, 1, 1, "Good"));
+            IOException e = assertThrows(IOException.class, sink::flush);
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            for (int i = 0; i < 20; i++) {
+                sink.write(new MetricsRecord(4, 1, 1, 1, 1, "Good")); // Flusher still drains the small queue
+            }
+            assertThrows(IOException.class, sink::close);
+        });
+        assertDoesNotThrow(() -> assertEquals(23, Files.readAllLines(csv).size(), "bad row dropped, others kept"));
+    }
+
+    @Test
+    void testDeadFlusherDoesNotBlockCallers() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            MetricsSink sink = new AsyncMetricsSink(tempDir.resolve("metrics.csv"),
+                    new FailingFormat(new StackOverflowError("flusher dies")), 1);
+            sink.write(new MetricsRecord(2, 1, 1, 1, 1, "Bad"));
+            assertThrows(IllegalStateException.class, () -> {
+                for (int i = 0; i < 10; i++) {
+                    sink.write(new MetricsRecord(1, 1, 1, 1, 1, "Good")); // Fills the queue, then gives up
+                }
+            });
+            assertThrows(IOException.class, sink::flush);
+            sink.close();
+        });
+    }
+
+    @Test
+    void testMainWritesOneRowPerAlgorithm() throws IOException {
+        Path csv = tempDir.resolve("main.csv");
+        Main.runAlgorithms(200, csv.toString());
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(4).contains(",ClosestPair,"));
+    }
+
+    /**
+     * CSV that throws the given exception for records named "Bad".
+     */
+    private static class FailingFormat extends CsvFormat {
+        private final Throwable error;
+
+        FailingFormat(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void append(MetricsRecord record, StringBuilder out) {
+            if (record.getAlgorithm().equals("Bad")) {
+                out.append("partial,");
+                if (error instanceof RuntimeException) throw (RuntimeException) error;
+                throw (Error) error;
+            }
+            super.append(record, out);
+        }
+    }
+}
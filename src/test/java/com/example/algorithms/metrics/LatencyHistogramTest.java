@@ -0,0 +1,86 @@
+package com.example.algorithms.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.RepeatedRun;
+import сom.example.algorithms.metrics.LatencyHistogram;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+    private long[] values;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+        Random rand = new Random(37);
+        values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(rand.nextGaussian() * 2 + 10); // Long-tailed, ~20 µs median
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+    }
+
+    @Test
+    void testPercentilesWithinPrecision() {
+        for (double p : new double[]{0, 50, 90, 99, 99.9, 100}) {
+            long exact = values[Math.max(0, (int) Math.ceil(p / 100 * values.length) - 1)];
+            long approx = histogram.getValueAtPercentile(p);
+            assertTrue(Math.abs(approx - exact) <= exact / 100 + 1, "p" + p + ": " + approx + " vs " + exact);
+        }
+        assertEquals(values[0], histogram.getMin());
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values.length, histogram.getTotalCount());
+        assertEquals(Arrays.stream(values).average().orElse(0), histogram.getMean(), 1e-6);
+    }
+
+    @Test
+    void testMergeEqualsCombinedRecording() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            (i % 2 == 0 ? first : second).record(values[i]);
+        }
+        first.add(second);
+        assertEquals(histogram.getTotalCount(), first.getTotalCount());
+        assertEquals(histogram.getValueAtPercentile(99.9), first.getValueAtPercentile(99.9));
+        assertEquals(histogram.getMin(), first.getMin());
+        assertThrows(IllegalArgumentException.class, () -> first.add(new LatencyHistogram(1000, 3)));
+    }
+
+    @Test
+    void testEncodeRoundTrip() {
+        LatencyHistogram copy = LatencyHistogram.fromBase64(histogram.toBase64());
+        assertEquals(histogram.summary(), copy.summary());
+        assertTrue(histogram.encode().length < 8192); // Spans five decades; tighter distributions are far smaller
+        LatencyHistogram empty = LatencyHistogram.decode(new LatencyHistogram().encode());
+        assertEquals(0, empty.getTotalCount());
+        assertEquals(0, empty.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> LatencyHistogram.decode(new byte[8]));
+    }
+
+    @Test
+    void testClampingAndInvalid() {
+        LatencyHistogram small = new LatencyHistogram(1000, 3);
+        small.record(5000);
+        assertEquals(1000, small.getMax());
+        assertEquals(1000, small.getValueAtPercentile(50));
+        assertThrows(IllegalArgumentException.class, () -> small.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> small.getValueAtPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(1000, 0));
+    }
+
+    @Test
+    void testRepeatedRunRecordsEveryRepetition() {
+        LatencyHistogram run = RepeatedRun.measure(500, 50, () -> new int[1000], arr -> Arrays.fill(arr, 1));
+        assertEquals(500, run.getTotalCount());
+        assertTrue(run.getValueAtPercentile(50) <= run.getValueAtPercentile(99.9));
+        assertEquals(4, RepeatedRun.runAll(100, 20, new Random(1)).size());
+    }
+}
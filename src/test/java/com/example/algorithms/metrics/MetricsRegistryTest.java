@@ -0,0 +1,108 @@
+package com.example.algorithms.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsRegistry;
+import сom.example.algorithms.metrics.PrometheusEndpoint;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    void testAggregatesPerAlgorithmAndSizeBucket() {
+        registry.write(new MetricsRecord(1500, 2_000_000, 5, 100, 10, "MergeSort"));
+        registry.write(new MetricsRecord(9000, 3_000_000, 7, 200, 20, "MergeSort"));
+        registry.write(new MetricsRecord(20000, 500, 3, 50, 1, "MergeSort"));
+        String text = registry.scrape();
+
+        assertTrue(text.contains("algorithm_comparisons_total{algorithm=\"MergeSort\",size=\"1000\"} 300\n"));
+        assertTrue(text.contains("algorithm_comparisons_total{algorithm=\"MergeSort\",size=\"10000\"} 50\n"));
+        assertTrue(text.contains("algorithm_max_depth{algorithm=\"MergeSort\",size=\"1000\"} 7\n"));
+        assertTrue(text.contains("algorithm_duration_seconds_count{algorithm=\"MergeSort\",size=\"1000\"} 2\n"));
+        assertTrue(text.contains("algorithm_duration_seconds_sum{algorithm=\"MergeSort\",size=\"1000\"} 0.005\n"));
+        // 2 ms and 3 ms fall in the (0.0025, 0.005] bucket; buckets are cumulative
+        assertTrue(text.contains("algorithm_duration_seconds_bucket{algorithm=\"MergeSort\",size=\"1000\",le=\"0.001\"} 0\n"));
+        assertTrue(text.contains("algorithm_duration_seconds_bucket{algorithm=\"MergeSort\",size=\"1000\",le=\"0.0025\"} 1\n"));
+        assertTrue(text.contains("algorithm_duration_seconds_bucket{algorithm=\"MergeSort\",size=\"1000\",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("# TYPE algorithm_duration_seconds histogram\n"));
+    }
+
+    @Test
+    void testEscapesLabelValues() {
+        registry.write(new MetricsRecord(1, 1, 0, 0, 0, "a\"b\\c"));
+        assertTrue(registry.scrape().contains("algorithm=\"a\\\"b\\\\c\""));
+    }
+
+    @Test
+    void testConcurrentRecordingWhileScraping() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    registry.write(new MetricsRecord(100, 1000, 1, 1, 0, "QuickSort"));
+                }
+            });
+            threads[t].start();
+        }
+        for (int i = 0; i < 20; i++) {
+            registry.scrape();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        String text = registry.scrape();
+        assertTrue(text.contains("algorithm_comparisons_total{algorithm=\"QuickSort\",size=\"100\"} 40000\n"));
+        assertTrue(text.contains("algorithm_duration_seconds_count{algorithm=\"QuickSort\",size=\"100\"} 40000\n"));
+    }
+
+    @Test
+    void testServesScrapesOverHttp() throws Exception {
+        Integer[] arr = new Random(1).ints(1000, 0, 10000).boxed().toArray(Integer[]::new);
+        MetricsTracker tracker = new MetricsTracker();
+        tracker.start();
+        new MergeSort().sort(arr, tracker);
+        tracker.stop();
+        registry.record(tracker, arr.length, "MergeSort");
+
+        try (PrometheusEndpoint endpoint = new PrometheusEndpoint(registry, 0)) {
+            URL url = URI.create("http://127.0.0.1:" + endpoint.getPort() + "/metrics").toURL();
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertEquals(PrometheusEndpoint.CONTENT_TYPE, connection.getHeaderField("Content-Type"));
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertTrue(body.contains("algorithm_comparisons_total{algorithm=\"MergeSort\",size=\"1000\"} "
+                    + tracker.getComparisons() + "\n"));
+
+            HttpURLConnection post = (HttpURLConnection) url.openConnection();
+            post.setRequestMethod("POST");
+            assertEquals(405, post.getResponseCode());
+        }
+    }
+
+    @Test
+    void testRejectsInvalidPort() {
+        assertThrows(IllegalArgumentException.class, () -> new PrometheusEndpoint(registry, -1));
+        assertThrows(IllegalArgumentException.class, () -> new PrometheusEndpoint(null, 0));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.algorithms.metrics;
+
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.Main;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.metrics.SteadyState;
+import сom.example.algorithms.metrics.SteadyStateStats;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.workload.KeyDistribution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SteadyStateTest {
+
+    @Test
+    void testStatsOfKnownSamples() {
+        long[] samples = {10, 12, 11, 13, 9, 10, 11, 12, 10, 100};
+        SteadyStateStats stats = SteadyStateStats.of(samples, 0, true);
+
+        assertEquals(19.8, stats.getMean(), 1e-9);
+        assertEquals(28.2, stats.getStdDev(), 0.05);
+        // t(0.975, 9) = 2.262
+        double halfWidth = 2.262 * stats.getStdDev() / Math.sqrt(10);
+        assertEquals(stats.getMean() - halfWidth, stats.getCiLow(), 1e-9);
+        assertEquals(stats.getMean() + halfWidth, stats.getCiHigh(), 1e-9);
+        assertEquals(11.0, stats.getMedian(), 1e-9);
+        assertEquals(1, stats.getOutliers());
+    }
+
+    @Test
+    void testIdenticalSamplesHaveZeroWidthInterval() {
+        SteadyStateStats stats = SteadyStateStats.of(new long[]{5, 5, 5, 5}, 0, true);
+        assertEquals(0.0, stats.getStdDev());
+        assertEquals(5.0, stats.getCiLow());
+        assertEquals(5.0, stats.getCiHigh());
+        assertEquals(0, stats.getOutliers());
+    }
+
+    @Test
+    void testRejectsTooFewSamples() {
+        assertThrows(IllegalArgumentException.class, () -> SteadyStateStats.of(new long[]{1}, 0, true));
+        assertThrows(IllegalArgumentException.class,
+                () -> SteadyState.measure(new MetricsTracker(), () -> 0, x -> { }, 1));
+    }
+
+    @Test
+    void testMeasuresFreshCopiesAfterWarmup() {
+        Integer[] input = new Random(3).ints(500, 0, 1000).boxed().toArray(Integer[]::new);
+        MetricsTracker tracker = new MetricsTracker();
+        AtomicInteger copies = new AtomicInteger();
+        SteadyStateStats stats = SteadyState.measure(tracker, () -> {
+            copies.incrementAndGet();
+            return input.clone();
+        }, arr -> new MergeSort().sort(arr, tracker), 20);
+
+        assertEquals(20, stats.getCount());
+        assertTrue(stats.getWarmupRuns() >= 30, "At least three batches of warmup");
+        assertEquals(stats.getWarmupRuns() + 20, copies.get());
+        assertTrue(stats.getMean() > 0);
+        assertTrue(stats.getCiLow() <= stats.getMean() && stats.getMean() <= stats.getCiHigh());
+        assertTrue(tracker.getComparisons() > 0, "Tracker holds the last run");
+    }
+
+    @Test
+    void testMainWritesOneRecordPerAlgorithm() {
+        List<MetricsRecord> records = new ArrayList<>();
+        Map<String, SteadyStateStats> results = Main.runSteadyState(200, listSink(records), 5, false);
+
+        assertEquals(List.of("MergeSort", "QuickSort", "DeterministicSelect", "ClosestPair"),
+                new ArrayList<>(results.keySet()));
+        assertEquals(4, records.size());
+        for (MetricsRecord record : records) {
+            assertEquals(Math.round(results.get(record.getAlgorithm()).getMean()), record.getTimeNs());
+            assertTrue(record.getComparisons() > 0);
+        }
+    }
+
+    @Test
+    void testMainSeedFixesQuickSortComparisons() {
+        long[] cold = new long[2];
+        long[] steady = new long[2];
+        for (int run = 0; run < 2; run++) {
+            List<MetricsRecord> records = new ArrayList<>();
+            Main.runAlgorithms(2000, listSink(records), false, KeyDistribution.UNIFORM, 17);
+            Main.runSteadyState(2000, listSink(records), 3, false, KeyDistribution.UNIFORM, 17);
+            assertEquals("QuickSort", records.get(1).getAlgorithm());
+            assertEquals("QuickSort", records.get(5).getAlgorithm());
+            cold[run] = records.get(1).getComparisons();
+            steady[run] = records.get(5).getComparisons();
+        }
+        assertEquals(cold[0], cold[1], "same seed, same pivots");
+        assertEquals(steady[0], steady[1]);
+        assertEquals(cold[0], steady[0], "steady repetitions take the cold run's pivots");
+    }
+
+    private static MetricsSink listSink(List<MetricsRecord> records) {
+        return new MetricsSink() {
+            @Override
+            public void write(MetricsRecord record) {
+                records.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.example.algorithms.select;
 
 import сom.example.algorithms.select.DeterministicSelect;
 import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.workload.KeyDistribution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -105,4 +106,49 @@ class DeterministicSelectTest {
         Integer[] two = new Integer[]{2, 1};
         assertEquals(1, select.select(two, 0, tracker));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSelectIndexByKey() {
+        Random rand = new Random(7);
+        double[] keys = new double[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextInt(100); // Many duplicate keys
+        }
+        double[] sorted = keys.clone();
+        Arrays.sort(sorted, 200, 800);
+        for (int k = 200; k < 800; k += 37) {
+            int[] indices = new int[keys.length];
+            for (int i = 0; i < indices.length; i++) indices[i] = i;
+            select.selectIndex(indices, keys, 200, 799, k, tracker);
+            assertEquals(sorted[k], keys[indices[k]]);
+            for (int i = 200; i < k; i++) assertTrue(keys[indices[i]] <= keys[indices[k]]);
+            for (int i = k + 1; i < 800; i++) assertTrue(keys[indices[i]] >= keys[indices[k]]);
+        }
+    }
+
+    @Test
+    void testSelectEveryDistribution() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            Integer[] arr = distribution.generateBoxed(2001, 11);
+            Integer[] sorted = arr.clone();
+            Arrays.sort(sorted);
+            for (int k : new int[]{0, 1000, 2000}) {
+                assertEquals(sorted[k], select.select(arr.clone(), k, tracker), distribution.name());
+            }
+        }
+    }
+
+    @Test
+    void testSelectPrimitiveEveryDistribution() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            int[] keys = distribution.generate(2001, 13);
+            int[] sorted = keys.clone();
+            Arrays.sort(sorted);
+            for (int k : new int[]{0, 7, 1000, 2000}) {
+                assertEquals(sorted[k], select.select(keys.clone(), k, tracker), distribution.name());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> select.select(new int[0], 0, tracker));
+        assertThrows(IllegalArgumentException.class, () -> select.select(new int[]{1}, 1, tracker));
+    }
+}
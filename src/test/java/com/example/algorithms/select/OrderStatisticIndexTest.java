@@ -0,0 +1,97 @@
+package com.example.algorithms.select;
+
+import сom.example.algorithms.select.OrderStatisticIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatisticIndexTest {
+
+    @Test
+    void testSelectAndRankMatchSortedArray() {
+        int[] arr = randomArray(5000, 1000, 1);
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        OrderStatisticIndex index = new OrderStatisticIndex(arr);
+        for (int k = 0; k < arr.length; k++) {
+            assertEquals(sorted[k], index.select(k));
+        }
+        for (int x = -1; x <= 1001; x += 7) {
+            int expected = 0;
+            for (int v : arr) if (v < x) expected++;
+            assertEquals(expected, index.rank(x));
+        }
+        assertEquals(arr.length, index.rangeCount(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testSubarrayQueriesMatchBruteForce() {
+        Random rand = new Random(2);
+        int[] arr = randomArray(2000, 300, 3);
+        OrderStatisticIndex index = new OrderStatisticIndex(arr);
+        for (int trial = 0; trial < 500; trial++) {
+            int from = rand.nextInt(arr.length);
+            int to = from + 1 + rand.nextInt(arr.length - from);
+            int[] slice = Arrays.copyOfRange(arr, from, to);
+            Arrays.sort(slice);
+            int k = rand.nextInt(slice.length);
+            assertEquals(slice[k], index.selectInRange(from, to, k));
+
+            int lo = rand.nextInt(300);
+            int hi = lo + rand.nextInt(100);
+            int less = 0, inside = 0;
+            for (int v : slice) {
+                if (v < lo) less++;
+                if (v >= lo && v <= hi) inside++;
+            }
+            assertEquals(less, index.rankInRange(from, to, lo));
+            assertEquals(inside, index.rangeCountInRange(from, to, lo, hi));
+        }
+    }
+
+    @Test
+    void testInputNotModified() {
+        int[] arr = {5, 3, 9, 1, 3};
+        int[] copy = arr.clone();
+        OrderStatisticIndex index = new OrderStatisticIndex(arr);
+        assertEquals(3, index.select(2));
+        assertArrayEquals(copy, arr);
+    }
+
+    @Test
+    void testAllDuplicatesTiny() {
+        OrderStatisticIndex index = new OrderStatisticIndex(new int[]{7, 7, 7});
+        assertEquals(7, index.selectInRange(1, 3, 1));
+        assertEquals(0, index.rankInRange(0, 3, 7));
+        assertEquals(3, index.rangeCountInRange(0, 3, 7, 7));
+    }
+
+    @Test
+    void testMemoryFootprint() {
+        OrderStatisticIndex index = new OrderStatisticIndex(randomArray(100_000, 1 << 16, 4));
+        OrderStatisticIndex.Footprint footprint = index.memoryFootprint();
+        assertTrue(footprint.getSortedBytes() >= 400_000);
+        assertTrue(footprint.getBytesPerElement() < 12, footprint.toString()); // 4 B sorted + distinct + ~3 B of bit vectors
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderStatisticIndex(new int[0]));
+        OrderStatisticIndex index = new OrderStatisticIndex(new int[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> index.select(3));
+        assertThrows(IllegalArgumentException.class, () -> index.selectInRange(2, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> index.selectInRange(0, 2, 2));
+    }
+
+    private int[] randomArray(int size, int bound, long seed) {
+        Random rand = new Random(seed);
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = rand.nextInt(bound);
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.algorithms.select;
+
+import сom.example.algorithms.select.QuantileSketch;
+import сom.example.algorithms.select.StreamingSelect;
+import сom.example.algorithms.util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSelectTest {
+
+    private StreamingSelect select;
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        select = new StreamingSelect();
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testSketchMemoryStaysBounded() {
+        QuantileSketch sketch = new QuantileSketch(200, new Random(1));
+        for (int i = 0; i < 1_000_000; i++) {
+            sketch.update(i);
+        }
+        assertEquals(1_000_000, sketch.getN());
+        assertTrue(sketch.getRetainedItems() < 2000, "Retained: " + sketch.getRetainedItems());
+    }
+
+    @Test
+    void testApproximateWithinRankError() {
+        double[] data = randomData(200_000, 7);
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        QuantileSketch sketch = select.sketch(() -> DoubleStream.of(data));
+        long allowed = (long) Math.ceil(2 * sketch.getNormalizedRankError() * data.length);
+        for (double fraction : new double[]{0.01, 0.25, 0.5, 0.75, 0.99}) {
+            int k = (int) (fraction * data.length);
+            double value = sketch.valueAtRank(k);
+            int trueRank = Arrays.binarySearch(sorted, value);
+            assertTrue(Math.abs(trueRank - k) <= allowed, "Rank error too large at " + fraction);
+        }
+    }
+
+    @Test
+    void testMergedSketchMatchesSingleSketch() {
+        double[] data = randomData(100_000, 11);
+        QuantileSketch merged = new QuantileSketch(200, new Random(3));
+        for (int shard = 0; shard < 4; shard++) {
+            QuantileSketch part = new QuantileSketch(200, new Random(shard));
+            for (int i = shard; i < data.length; i += 4) {
+                part.update(data[i]);
+            }
+            merged.merge(part);
+        }
+        assertEquals(data.length, merged.getN());
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        long allowed = (long) Math.ceil(2 * merged.getNormalizedRankError() * data.length);
+        int trueRank = Arrays.binarySearch(sorted, merged.getQuantile(0.5));
+        assertTrue(Math.abs(trueRank - data.length / 2) <= allowed);
+    }
+
+    @Test
+    void testMergeWithItself() {
+        double[] data = randomData(20_000, 13);
+        QuantileSketch sketch = new QuantileSketch(200, new Random(4));
+        for (double v : data) {
+            sketch.update(v);
+        }
+        sketch.merge(sketch); // Every value counted twice: ranks double, quantiles stay put
+        assertEquals(2L * data.length, sketch.getN());
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        long allowed = (long) Math.ceil(2 * sketch.getNormalizedRankError() * data.length);
+        for (double q : new double[]{0.1, 0.5, 0.9}) {
+            int trueRank = Arrays.binarySearch(sorted, sketch.getQuantile(q));
+            assertTrue(Math.abs(trueRank - (long) (q * data.length)) <= allowed, "q=" + q);
+        }
+        assertEquals(sorted[0], sketch.getMin());
+        assertEquals(sorted[sorted.length - 1], sketch.getMax());
+        double previous = Double.NEGATIVE_INFINITY;
+        for (long rank = 0; rank < sketch.getN(); rank += 997) {
+            double value = sketch.valueAtRank(rank);
+            assertTrue(value >= previous, "sorted view is ordered");
+            previous = value;
+        }
+    }
+
+    @Test
+    void testExactModeMatchesSort() {
+        double[] data = randomData(50_000, 42);
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[]{0, 1, 12_345, 25_000, 49_998, 49_999}) {
+            double result = select.select(() -> DoubleStream.of(data), k, StreamingSelect.Mode.EXACT, tracker);
+            assertEquals(sorted[k], result);
+        }
+    }
+
+    @Test
+    void testExactModeWithHeavyDuplicates() {
+        Random rand = new Random(5);
+        double[] data = new double[100_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rand.nextInt(3); // Only three distinct values
+        }
+        double[] sorted = data.clone();
+        Arrays.sort(sorted);
+        StreamingSelect tiny = new StreamingSelect(QuantileSketch.DEFAULT_K, 16); // Band must not hold duplicates
+        for (int k = 0; k < data.length; k += 9_999) {
+            assertEquals(sorted[k], tiny.select(() -> DoubleStream.of(data), k, StreamingSelect.Mode.EXACT, tracker));
+        }
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class,
+                () -> select.select(DoubleStream::empty, 0, StreamingSelect.Mode.EXACT, tracker));
+        assertThrows(IllegalArgumentException.class,
+                () -> select.select(() -> DoubleStream.of(1, 2, 3), 3, StreamingSelect.Mode.APPROXIMATE, tracker));
+    }
+
+    private double[] randomData(int size, long seed) {
+        Random rand = new Random(seed);
+        double[] data = new double[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = rand.nextDouble() * 1_000_000;
+        }
+        return data;
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.algorithms.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.LoadGenerator;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.metrics.MetricsSink;
+import сom.example.algorithms.server.JobClient;
+import сom.example.algorithms.server.JobRequest;
+import сom.example.algorithms.server.JobResponse;
+import сom.example.algorithms.server.JobServer;
+import сom.example.algorithms.server.Operation;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.PointDistribution;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.net.ProtocolException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobServerTest {
+
+    private CollectingSink sink;
+    private JobServer server;
+    private int port;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sink = new CollectingSink();
+        server = new JobServer(JobServer.DEFAULT_QUEUE_CAPACITY, sink);
+        port = server.listen(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testEveryOperation() throws Exception {
+        int[] keys = KeyDistribution.FEW_UNIQUE.generate(5000, 3);
+        int[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        try (JobClient client = new JobClient(port)) {
+            JobResponse sort = client.call(JobRequest.sort(1, keys));
+            assertEquals(1, sort.getId());
+            assertEquals(Operation.SORT, sort.getOperation());
+            assertArrayEquals(sorted, sort.getKeys());
+            assertTrue(sort.getServiceNs() > 0);
+
+            assertEquals(sorted[1234], client.call(JobRequest.select(2, keys, 1234)).getValue());
+
+            int[] top = client.call(JobRequest.topK(3, keys, 25)).getKeys();
+            assertEquals(25, top.length);
+            for (int i = 0; i < 25; i++) {
+                assertEquals(sorted[sorted.length - 1 - i], top[i]);
+            }
+            assertEquals(0, client.call(JobRequest.topK(4, keys, 0)).getKeys().length);
+
+            PointSet points = PointSet.of(PointDistribution.GRID.generate(400, 5));
+            JobResponse pair = client.call(JobRequest.closestPair(5, points));
+            assertEquals(points.distance(pair.getPair().getFirst(), pair.getPair().getSecond()),
+                    pair.getPair().getDistance(), 1e-12);
+        }
+        assertEquals(5, sink.records.size());
+        assertEquals("Server/SORT", sink.records.get(0).getAlgorithm());
+        assertEquals(5000, sink.records.get(0).getN());
+        assertTrue(sink.records.get(0).getComparisons() > 0);
+    }
+
+    @Test
+    void testInvalidJobGetsErrorResponse() throws Exception {
+        try (JobClient client = new JobClient(port)) {
+            JobResponse response = client.call(JobRequest.select(7, new int[]{1, 2, 3}, 3));
+            assertTrue(response.isError());
+            assertEquals(7, response.getId());
+            assertEquals("k out of bounds", response.getError());
+            assertTrue(client.call(JobRequest.closestPair(8, new PointSet(new double[1], new double[1]))).isError());
+            // The connection stays usable
+            assertEquals(2, client.call(JobRequest.select(9, new int[]{3, 1, 2}, 1)).getValue());
+        }
+        assertEquals(1, sink.records.size());
+    }
+
+    @Test
+    void testFailingJobGetsErrorResponse() throws Exception {
+        MetricsSink failing = new CollectingSink() {
+            @Override
+            public void write(MetricsRecord record) {
+                if (record.getAlgorithm().equals("Server/SORT")) {
+                    throw new IllegalStateException("sink is closed");
+                }
+                super.write(record);
+            }
+        };
+        try (JobServer broken = new JobServer(2, failing); JobClient client = new JobClient(broken.listen(0))) {
+            JobResponse response = client.call(JobRequest.sort(11, new int[]{3, 1, 2}));
+            assertTrue(response.isError());
+            assertEquals(11, response.getId());
+            assertTrue(response.getError().contains("sink is closed"), response.getError());
+            // The permit was released and the connection stays usable
+            for (int i = 0; i < 3; i++) {
+                assertTrue(client.call(JobRequest.sort(12 + i, new int[]{2, 1})).isError());
+            }
+            assertEquals(1, client.call(JobRequest.select(20, new int[]{3, 1, 2}, 0)).getValue());
+        }
+    }
+
+    @Test
+    void testPipelinedRequestsAreMatchedById() throws Exception {
+        try (JobClient client = new JobClient(port)) {
+            for (int i = 0; i < 50; i++) {
+                // Big and small jobs interleaved, so answers can overtake each other
+                client.send(JobRequest.sort(i, KeyDistribution.UNIFORM.generate(i % 2 == 0 ? 20000 : 10, i)));
+            }
+            Map<Long, Integer> lengths = new HashMap<>();
+            for (int i = 0; i < 50; i++) {
+                JobResponse response = client.receive();
+                lengths.put(response.getId(), response.getKeys().length);
+            }
+            assertEquals(50, lengths.size());
+            for (long i = 0; i < 50; i++) {
+                assertEquals(i % 2 == 0 ? 20000 : 10, lengths.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testAdmissionQueueBoundsJobsInFlight() throws Exception {
+        BlockingSink blocking = new BlockingSink();
+        try (JobServer small = new JobServer(2, blocking); JobClient client = new JobClient(small.listen(0))) {
+            for (int i = 0; i < 5; i++) {
+                client.send(JobRequest.sort(i, new int[]{3, 2, 1}));
+            }
+            assertTrue(blocking.twoEntered.await(10, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            assertEquals(2, blocking.entered.get(), "Only the admitted requests run");
+            blocking.release.countDown();
+            for (int i = 0; i < 5; i++) {
+                assertFalse(client.receive().isError());
+            }
+            assertEquals(5, blocking.entered.get());
+        }
+    }
+
+    @Test
+    void testServeOnStreams() throws Exception {
+        ByteArrayOutputStream requests = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(requests);
+        JobRequest.sort(1, new int[]{5, 4, 3}).write(out);
+        JobRequest.select(2, new int[]{9, 7, 8}, 0).write(out);
+        out.flush();
+
+        ByteArrayOutputStream responses = new ByteArrayOutputStream();
+        server.serve(new ByteArrayInputStream(requests.toByteArray()), responses); // Returns once both are answered
+
+        try (JobClient client = new JobClient(new ByteArrayInputStream(responses.toByteArray()),
+                new ByteArrayOutputStream())) {
+            Map<Long, JobResponse> byId = new HashMap<>();
+            for (int i = 0; i < 2; i++) {
+                JobResponse response = client.receive();
+                byId.put(response.getId(), response);
+            }
+            assertArrayEquals(new int[]{3, 4, 5}, byId.get(1L).getKeys());
+            assertEquals(7, byId.get(2L).getValue());
+        }
+    }
+
+    @Test
+    void testMalformedFrameIsRejected() {
+        byte[] garbage = {0, 0, 0, 17, 99, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+        assertThrows(ProtocolException.class,
+                () -> server.serve(new ByteArrayInputStream(garbage), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testLoadGenerator() throws Exception {
+        LoadGenerator.Report report = LoadGenerator.run(port, 3, 4, 100,
+                LoadGenerator.requestFactory(Operation.TOP_K, 2000, 10, "ZIPF", 1));
+        assertEquals(100, report.getRoundTrip().getTotalCount());
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getRoundTrip().getValueAtPercentile(50) >= report.getService().getValueAtPercentile(50));
+    }
+
+    private static class CollectingSink implements MetricsSink {
+        final List<MetricsRecord> records = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(MetricsRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Holds every job inside the server until released, counting how many got that far.
+     */
+    private static class BlockingSink extends CollectingSink {
+        final AtomicInteger entered = new AtomicInteger();
+        final CountDownLatch twoEntered = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void write(MetricsRecord record) {
+            entered.incrementAndGet();
+            twoEntered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
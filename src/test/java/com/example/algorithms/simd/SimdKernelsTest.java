@@ -0,0 +1,138 @@
+package com.example.algorithms.simd;
+
+import сom.example.algorithms.simd.Kernels;
+import сom.example.algorithms.simd.Simd;
+import сom.example.algorithms.util.MetricsTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimdKernelsTest {
+
+    private Kernels kernels;
+    private MetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        kernels = Simd.kernels();
+        tracker = new MetricsTracker();
+    }
+
+    @Test
+    void testEnabledUnderTestJvm() {
+        // The surefire argLine adds jdk.incubator.vector, so the vector paths are what the tests run
+        assertTrue(Simd.isEnabled());
+        assertTrue(kernels.intLanes() >= 2);
+        assertEquals(Integer.bitCount(kernels.intLanes()), 1);
+    }
+
+    @Test
+    void testPartition3() {
+        Random rand = new Random(3);
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + rand.nextInt(500);
+            int bound = trial % 2 == 0 ? Integer.MAX_VALUE : 1 + rand.nextInt(8); // Half duplicate-heavy
+            int low = rand.nextInt(20);
+            int[] arr = new int[low + size + rand.nextInt(20)];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = rand.nextInt(bound);
+            }
+            int high = low + size - 1;
+            int[] before = arr.clone();
+            int pivot = arr[low + rand.nextInt(size)];
+            tracker.reset();
+            long bounds = kernels.partition3(arr, low, high, pivot, new int[arr.length], tracker);
+            int lt = Simd.lt(bounds), gt = Simd.gt(bounds);
+
+            assertTrue(low <= lt && lt <= gt && gt <= high, "pivot occurs, so == range is non-empty");
+            for (int i = low; i <= high; i++) {
+                int expected = Integer.compare(i < lt ? -1 : i > gt ? 1 : 0, 0);
+                assertEquals(expected, Integer.compare(arr[i], pivot), "trial " + trial + " at " + i);
+            }
+            assertArrayEquals(Arrays.copyOfRange(before, 0, low), Arrays.copyOfRange(arr, 0, low));
+            assertArrayEquals(Arrays.copyOfRange(before, high + 1, arr.length), Arrays.copyOfRange(arr, high + 1, arr.length));
+            int[] expectedKeys = Arrays.copyOfRange(before, low, high + 1);
+            int[] actualKeys = Arrays.copyOfRange(arr, low, high + 1);
+            Arrays.sort(expectedKeys);
+            Arrays.sort(actualKeys);
+            assertArrayEquals(expectedKeys, actualKeys);
+            assertEquals(size, tracker.getComparisons());
+        }
+    }
+
+    @Test
+    void testPartition3AbsentPivot() {
+        int[] arr = {5, 1, 9, 3, 7, 2, 8, 6, 4, 0, 11, 13, 15, 17, 19, 21, 23, 25};
+        long bounds = kernels.partition3(arr, 0, arr.length - 1, 10, new int[arr.length], tracker);
+        assertEquals(Simd.gt(bounds) + 1, Simd.lt(bounds));
+        assertEquals(10, Simd.lt(bounds));
+    }
+
+    @Test
+    void testMerge() {
+        Random rand = new Random(5);
+        int lanes = kernels.intLanes();
+        int[] lengths = {1, 2, lanes - 1, lanes, lanes + 1, 2 * lanes, 3 * lanes + 5, 100, 1000};
+        for (int left : lengths) {
+            for (int right : lengths) {
+                for (int bound : new int[]{4, Integer.MAX_VALUE}) {
+                    int low = rand.nextInt(10);
+                    int[] src = new int[low + left + right + 3];
+                    for (int i = 0; i < src.length; i++) {
+                        src[i] = rand.nextInt(bound) - bound / 2;
+                    }
+                    int mid = low + left - 1, high = mid + right;
+                    Arrays.sort(src, low, mid + 1);
+                    Arrays.sort(src, mid + 1, high + 1);
+                    int[] expected = Arrays.copyOfRange(src, low, high + 1);
+                    Arrays.sort(expected);
+                    long comparisons = 0;
+                    for (int i = low, j = mid + 1; i <= mid && j <= high; comparisons++) {
+                        if (src[i] <= src[j]) i++; else j++;
+                    }
+                    int[] dst = new int[src.length];
+                    tracker.reset();
+                    kernels.merge(src, low, mid, high, dst, tracker);
+                    assertArrayEquals(expected, Arrays.copyOfRange(dst, low, high + 1), left + "+" + right);
+                    assertEquals(comparisons, tracker.getComparisons(), "same count as a linear merge");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testClosestSuccessorMatchesScalar() {
+        Random rand = new Random(7);
+        for (int trial = 0; trial < 2000; trial++) {
+            int n = 2 + rand.nextInt(20);
+            double[] sx = new double[n];
+            double[] sy = new double[n];
+            double y = 0;
+            for (int i = 0; i < n; i++) {
+                y += rand.nextInt(4) == 0 ? 0 : rand.nextDouble(); // Some equal y-coordinates
+                sy[i] = y;
+                sx[i] = rand.nextInt(3) == 0 ? sx[Math.max(0, i - 1)] : rand.nextDouble() * 2;
+            }
+            int i = rand.nextInt(n - 1);
+            double bestSq = rand.nextBoolean() ? Double.POSITIVE_INFINITY : rand.nextDouble();
+
+            int expected = -1;
+            double best = bestSq;
+            for (int j = i + 1; j < n && j - i < 8; j++) {
+                double dy = sy[j] - sy[i];
+                if (dy * dy >= best) break;
+                double dx = sx[j] - sx[i];
+                double distSq = dx * dx + dy * dy;
+                if (distSq < best) {
+                    best = distSq;
+                    expected = j;
+                }
+            }
+            assertEquals(expected, kernels.closestSuccessor(sx, sy, i, n, bestSq, tracker), "trial " + trial);
+        }
+    }
+}
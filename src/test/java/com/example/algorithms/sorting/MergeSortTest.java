@@ -2,6 +2,7 @@ package com.example.algorithms.sorting;
 
 import сom.example.algorithms.sorting.MergeSort;
 import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.workload.KeyDistribution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -101,4 +102,32 @@ class MergeSortTest {
         }
         return arr;
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSortEveryDistribution() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            Integer[] arr = distribution.generateBoxed(2000, 11);
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected);
+            mergeSort.sort(arr, tracker);
+            assertArrayEquals(expected, arr, distribution.name());
+        }
+    }
+
+    @Test
+    void testSortPrimitiveMatchesBoxed() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            int[] keys = distribution.generate(2000, 13);
+            int[] expected = keys.clone();
+            Arrays.sort(expected);
+            MetricsTracker boxedTracker = new MetricsTracker();
+            mergeSort.sort(distribution.generateBoxed(2000, 13), boxedTracker);
+
+            mergeSort.sort(keys, tracker);
+            assertArrayEquals(expected, keys, distribution.name());
+            assertEquals(boxedTracker.getComparisons(), tracker.getComparisons(), distribution.name());
+            assertEquals(boxedTracker.getMaxDepth(), tracker.getMaxDepth());
+            tracker.reset();
+        }
+    }
+}
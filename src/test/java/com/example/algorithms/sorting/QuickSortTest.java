@@ -2,6 +2,8 @@ package com.example.algorithms.sorting;
 
 import сom.example.algorithms.sorting.QuickSort;
 import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.RandomSource;
+import сom.example.algorithms.workload.KeyDistribution;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -111,4 +113,112 @@ class QuickSortTest {
         }
         return arr;
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSortEveryDistribution() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            Integer[] arr = distribution.generateBoxed(2000, 11);
+            Integer[] expected = arr.clone();
+            Arrays.sort(expected);
+            quickSort.sort(arr, tracker);
+            assertArrayEquals(expected, arr, distribution.name());
+        }
+    }
+
+    @Test
+    void testSortPrimitiveEveryDistribution() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            int[] keys = distribution.generate(2000, 13);
+            int[] expected = keys.clone();
+            Arrays.sort(expected);
+            quickSort.sort(keys, tracker);
+            assertArrayEquals(expected, keys, distribution.name());
+        }
+        int[] single = {5};
+        quickSort.sort(single, tracker);
+        assertArrayEquals(new int[]{5}, single);
+    }
+
+    @Test
+    void testDuplicatesStayLinearithmic() {
+        int n = 40000;
+        int[] keys = KeyDistribution.FEW_UNIQUE.generate(n, 17);
+        quickSort.sort(keys, tracker);
+        // Ten distinct keys: without splitting equal keys evenly this takes ~n^2 / 20 comparisons
+        assertTrue(tracker.getComparisons() < 4L * n * 16, "comparisons=" + tracker.getComparisons());
+    }
+
+    @Test
+    void testEqualKeysSplitEvenly() {
+        // Scans stop on keys equal to the pivot, so equal keys land on both sides of it; otherwise
+        // all-equal input makes every partition maximally unbalanced and the sort quadratic
+        int n = 20000;
+        double log2n = Math.log(n) / Math.log(2);
+        Integer[] allEqual = new Integer[n];
+        Arrays.fill(allEqual, 7);
+        quickSort.sort(allEqual, tracker);
+        assertTrue(tracker.getMaxDepth() <= 2 * log2n + 10, "depth=" + tracker.getMaxDepth());
+        assertTrue(tracker.getComparisons() < 4L * n * log2n, "comparisons=" + tracker.getComparisons());
+
+        Integer[] fewUnique = KeyDistribution.FEW_UNIQUE.generateBoxed(n, 5);
+        Integer[] expected = fewUnique.clone();
+        Arrays.sort(expected);
+        tracker.reset();
+        quickSort.sort(fewUnique, tracker);
+        assertArrayEquals(expected, fewUnique);
+        assertTrue(tracker.getMaxDepth() <= 2 * log2n + 10, "depth=" + tracker.getMaxDepth());
+        assertTrue(tracker.getComparisons() < 4L * n * log2n, "comparisons=" + tracker.getComparisons());
+
+        int[] keys = new int[n];
+        Arrays.fill(keys, 7);
+        tracker.reset();
+        quickSort.sort(keys, tracker);
+        assertTrue(tracker.getMaxDepth() <= 2 * log2n + 10, "depth=" + tracker.getMaxDepth());
+        assertTrue(tracker.getComparisons() < 4L * n * log2n, "comparisons=" + tracker.getComparisons());
+    }
+
+    @Test
+    void testSeededSortIsReproducible() {
+        QuickSort seeded = new QuickSort(RandomSource.seeded(99));
+        Integer[] boxed = KeyDistribution.UNIFORM.generateBoxed(5000, 21);
+        seeded.sort(boxed.clone(), tracker);
+        long boxedComparisons = tracker.getComparisons();
+        tracker.reset();
+        seeded.sort(boxed.clone(), tracker);
+        assertEquals(boxedComparisons, tracker.getComparisons());
+
+        int[] keys = KeyDistribution.UNIFORM.generate(5000, 21);
+        tracker.reset();
+        seeded.sort(keys.clone(), tracker);
+        long primitiveComparisons = tracker.getComparisons();
+        tracker.reset();
+        seeded.sort(keys.clone(), tracker);
+        assertEquals(primitiveComparisons, tracker.getComparisons());
+        assertThrows(IllegalArgumentException.class, () -> new QuickSort(null));
+    }
+
+    @Test
+    void testConcurrentSorts() throws Exception {
+        Thread[] threads = new Thread[4];
+        Throwable[] failure = new Throwable[1];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                for (int round = 0; round < 20; round++) {
+                    int[] keys = KeyDistribution.UNIFORM.generate(3000, seed * 100L + round);
+                    int[] expected = keys.clone();
+                    Arrays.sort(expected);
+                    quickSort.sort(keys, new MetricsTracker()); // One shared instance
+                    if (!Arrays.equals(expected, keys)) {
+                        failure[0] = new AssertionError("seed " + seed + " round " + round);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure[0]);
+    }
+}
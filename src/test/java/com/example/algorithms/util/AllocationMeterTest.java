@@ -0,0 +1,59 @@
+package com.example.algorithms.util;
+
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.metrics.MetricsRecord;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.util.AllocationMeter;
+import сom.example.algorithms.util.MetricsTracker;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationMeterTest {
+
+    private static byte[] sink;
+
+    @Test
+    void testMeasuresAllocatedBytes() {
+        assumeTrue(AllocationMeter.isSupported());
+        MetricsTracker tracker = new MetricsTracker();
+        tracker.start();
+        sink = new byte[1 << 20];
+        tracker.stop();
+        assertTrue(tracker.getAllocatedBytes() >= 1 << 20);
+        assertTrue(tracker.getAllocatedBytes() < (1 << 20) + 4096);
+
+        tracker.start();
+        tracker.stop();
+        assertTrue(tracker.getAllocatedBytes() < 1024); // Nothing allocated but the readings themselves
+    }
+
+    @Test
+    void testMergeSortBufferIsVisible() {
+        assumeTrue(AllocationMeter.isSupported());
+        Integer[] arr = new Integer[100_000];
+        Random rand = new Random(39);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt(1000); // Small values come from the Integer cache
+        }
+        MetricsTracker tracker = new MetricsTracker();
+        new MergeSort().sort(arr, tracker);
+        assertTrue(tracker.getAllocatedBytes() >= 4L * arr.length); // At least the reference buffer
+        MetricsRecord record = MetricsRecord.of(tracker, arr.length, "MergeSort");
+        assertEquals(tracker.getAllocatedBytes(), record.getAllocatedBytes());
+    }
+
+    @Test
+    void testCountsCollections() {
+        MetricsTracker tracker = new MetricsTracker();
+        tracker.start();
+        System.gc();
+        tracker.stop();
+        assertTrue(tracker.getGcCount() >= 1);
+        assertTrue(tracker.getGcTimeMs() >= 0);
+        tracker.reset();
+        assertEquals(0, tracker.getGcCount());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.algorithms.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.closest.ParallelClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.util.ConcurrentMetricsTracker;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMetricsTrackerTest {
+
+    private ConcurrentMetricsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ConcurrentMetricsTracker();
+    }
+
+    @Test
+    void testSharedAcrossThreadsLosesNoUpdates() throws InterruptedException {
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int depth = t + 1;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    tracker.incrementComparison();
+                    if (i % 10 == 0) tracker.incrementAllocation();
+                }
+                for (int d = 0; d < depth; d++) tracker.enterRecursion();
+                for (int d = 0; d < depth; d++) tracker.exitRecursion();
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(800_000, tracker.getComparisons());
+        assertEquals(80_000, tracker.getAllocations());
+        assertEquals(8, tracker.getMaxDepth()); // Deepest single thread, not the sum
+    }
+
+    @Test
+    void testOverlappingRunsKeepTheirOwnTime() throws InterruptedException {
+        CountDownLatch allStarted = new CountDownLatch(4);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long sleepMs = 10L * (t + 1);
+            threads[t] = new Thread(() -> {
+                tracker.start();
+                allStarted.countDown(); // Every run starts before any stops, so they all overlap
+                try {
+                    allStarted.await();
+                    Thread.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                tracker.stop();
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4, tracker.getRunCount());
+        assertTrue(tracker.getExecutionTimeNs() >= 100_000_000L, "10+20+30+40 ms summed over runs");
+
+        tracker.stop(); // No run started on this thread
+        assertEquals(4, tracker.getRunCount());
+        tracker.reset();
+        assertEquals(0, tracker.getExecutionTimeNs());
+        assertEquals(0, tracker.getRunCount());
+    }
+
+    @Test
+    void testForkCountsDepthFromParent() {
+        tracker.enterRecursion();
+        tracker.enterRecursion();
+        Tracker branch = tracker.fork();
+        branch.enterRecursion();
+        branch.incrementComparison();
+        branch.exitRecursion();
+        tracker.join(branch);
+        tracker.exitRecursion();
+        tracker.exitRecursion();
+        assertEquals(3, tracker.getMaxDepth());
+        assertEquals(1, tracker.getComparisons()); // Counted once, not again on join
+
+        MetricsTracker other = new MetricsTracker();
+        other.incrementComparison();
+        other.enterRecursion();
+        other.exitRecursion();
+        tracker.join(other);
+        assertEquals(2, tracker.getComparisons());
+        tracker.reset();
+        assertEquals(0, tracker.getComparisons());
+        assertEquals(0, tracker.getMaxDepth());
+    }
+
+    @Test
+    void testParallelClosestPairMatchesSequentialDepth() {
+        Random rand = new Random(24);
+        double[] xs = new double[50_000];
+        double[] ys = new double[50_000];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = rand.nextDouble() * 1000;
+            ys[i] = rand.nextDouble() * 1000;
+        }
+        PointSet points = new PointSet(xs, ys);
+        MetricsTracker sequential = new MetricsTracker();
+        new PrimitiveClosestPair().findClosestPair(points, sequential);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MetricsTracker joined = new MetricsTracker();
+            new ParallelClosestPair(pool, 64).findClosestPair(points, joined);
+            new ParallelClosestPair(pool, 64).findClosestPair(points, tracker);
+            assertEquals(sequential.getMaxDepth(), tracker.getMaxDepth());
+            assertEquals(joined.getComparisons(), tracker.getComparisons());
+            assertEquals(joined.getAllocations(), tracker.getAllocations());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
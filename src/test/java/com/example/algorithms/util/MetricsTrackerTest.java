@@ -55,6 +55,24 @@ class MetricsTrackerTest {
         tracker.exitRecursion();
     }
 
+    @Test
+    void testForkAndJoin() {
+        tracker.enterRecursion();
+        tracker.incrementComparison();
+        MetricsTracker child = tracker.fork();
+        child.enterRecursion();
+        child.enterRecursion();
+        child.incrementComparison();
+        child.incrementAllocation();
+        child.exitRecursion();
+        child.exitRecursion();
+        tracker.join(child);
+        assertEquals(2, tracker.getComparisons());
+        assertEquals(1, tracker.getAllocations());
+        assertEquals(3, tracker.getMaxDepth()); // Child depth counted from the parent's depth
+        tracker.exitRecursion();
+    }
+
     @Test
     void testWriteToCSV(@TempDir Path tempDir) throws IOException {
         Path csvPath = tempDir.resolve("metrics.csv");
@@ -80,6 +98,18 @@ class MetricsTrackerTest {
         assertEquals("1", parts[3].trim()); // comparisons
         assertEquals("0", parts[4].trim()); // allocations
         assertEquals("Algorithm", parts[5].trim()); // algorithm
+
+        tracker.writeToCSV(csvPath.toString(), 200, "Algorithm");
+        assertEquals(3, Files.readAllLines(csvPath).size()); // Same header: appended
+    }
+
+    @Test
+    void testWriteToCSVRejectsOtherHeader(@TempDir Path tempDir) throws IOException {
+        Path csvPath = tempDir.resolve("metrics.csv");
+        String sinkHeader = "n,time_ns,depth,comparisons,allocations,algorithm,allocated_bytes,gc_count,gc_time_ms";
+        Files.writeString(csvPath, sinkHeader + "\n");
+        assertThrows(IOException.class, () -> tracker.writeToCSV(csvPath.toString(), 100, "Algorithm"));
+        assertEquals(List.of(sinkHeader), Files.readAllLines(csvPath));
     }
 
     @Test
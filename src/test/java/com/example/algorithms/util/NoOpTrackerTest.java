@@ -0,0 +1,52 @@
+package com.example.algorithms.util;
+
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.NoOpTracker;
+import сom.example.algorithms.util.Tracker;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoOpTrackerTest {
+
+    @Test
+    void testAlgorithmsRunUntracked() {
+        Random rand = new Random(7);
+        Integer[] arr = new Integer[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt(500);
+        }
+        Integer[] expected = arr.clone();
+        Arrays.sort(expected);
+
+        Integer[] merged = arr.clone();
+        new MergeSort().sort(merged, NoOpTracker.INSTANCE);
+        assertArrayEquals(expected, merged);
+        Integer[] quick = arr.clone();
+        new QuickSort().sort(quick, NoOpTracker.INSTANCE);
+        assertArrayEquals(expected, quick);
+        assertEquals(expected[300], new DeterministicSelect().select(arr.clone(), 300, NoOpTracker.INSTANCE));
+    }
+
+    @Test
+    void testRecordsNothing() {
+        Tracker tracker = NoOpTracker.INSTANCE;
+        tracker.start();
+        tracker.incrementComparison();
+        tracker.incrementAllocation();
+        tracker.enterRecursion();
+        tracker.join(tracker.fork());
+        tracker.exitRecursion();
+        tracker.stop();
+        assertSame(tracker, tracker.fork());
+        assertEquals(0, tracker.getComparisons());
+        assertEquals(0, tracker.getAllocations());
+        assertEquals(0, tracker.getMaxDepth());
+        assertEquals(0, tracker.getExecutionTimeNs());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.algorithms.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.closest.PointSet;
+import сom.example.algorithms.closest.PrimitiveClosestPair;
+import сom.example.algorithms.select.DeterministicSelect;
+import сom.example.algorithms.sorting.MergeSort;
+import сom.example.algorithms.sorting.QuickSort;
+import сom.example.algorithms.util.MetricsTracker;
+import сom.example.algorithms.util.PhaseTimer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PhaseTimerTest {
+
+    private PhaseTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new PhaseTimer();
+    }
+
+    @Test
+    void testSelfAndTotalTime() {
+        timer.enter("outer");
+        timer.enter("inner");
+        timer.exit();
+        timer.exit();
+        Map<String, PhaseTimer.Phase> phases = byName(timer.getPhases());
+        PhaseTimer.Phase outer = phases.get("outer");
+        PhaseTimer.Phase inner = phases.get("inner");
+        assertEquals(1, outer.getCount());
+        assertEquals(1, inner.getCount());
+        assertEquals(outer.getTotalNs(), outer.getSelfNs() + inner.getTotalNs());
+        assertEquals(inner.getTotalNs(), inner.getSelfNs());
+        assertTrue(outer.getSelfNs() >= 0 && inner.getSelfNs() >= 0);
+    }
+
+    @Test
+    void testSelfAndTotalTimeWithClock() {
+        long[] now = {0};
+        PhaseTimer clocked = new PhaseTimer(() -> now[0]);
+        clocked.enter("outer");
+        now[0] += 5;
+        clocked.enter("inner");
+        now[0] += 10;
+        clocked.exit();
+        now[0] += 2;
+        clocked.exit();
+        Map<String, PhaseTimer.Phase> phases = byName(clocked.getPhases());
+        assertEquals(17, phases.get("outer").getTotalNs());
+        assertEquals(7, phases.get("outer").getSelfNs());
+        assertEquals(10, phases.get("inner").getTotalNs());
+        assertEquals(10, phases.get("inner").getSelfNs());
+    }
+
+    @Test
+    void testRecursiveTotalCountedOnce() {
+        timer.enter("select");
+        timer.enter("select");
+        timer.exit();
+        timer.exit();
+        PhaseTimer.Phase select = timer.getPhases().get(0);
+        assertEquals(2, select.getCount());
+        assertEquals(select.getTotalNs(), select.getSelfNs()); // No other phase nested inside
+        assertThrows(IllegalStateException.class, timer::exit);
+
+        PhaseTimer other = new PhaseTimer();
+        other.add(timer.getPhases());
+        other.add(timer.getPhases());
+        assertEquals(4, other.getPhases().get(0).getCount());
+        timer.reset();
+        assertTrue(timer.getPhases().isEmpty());
+    }
+
+    @Test
+    void testAlgorithmsReportPhases() {
+        Random rand = new Random(38);
+        Integer[] arr = new Integer[5000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt(1000);
+        }
+        assertPhases(t -> { new MergeSort().sort(arr.clone(), t); return null; }, "merge", "insertionSort");
+        assertPhases(t -> { new QuickSort().sort(arr.clone(), t); return null; }, "partition", "insertionSort");
+        assertPhases(t -> new DeterministicSelect().select(arr.clone(), 2500, t), "medianOfMedians", "partition");
+
+        ClosestPair.Point[] points = new ClosestPair.Point[5000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(rand.nextDouble(), rand.nextDouble());
+        }
+        String[] closest = {"sort", "strip.sort", "strip.build", "strip.scan"};
+        assertPhases(t -> new ClosestPair().findClosestPair(points, t), closest);
+        assertPhases(t -> new PrimitiveClosestPair().findClosestPair(PointSet.of(points), t), closest);
+
+        MetricsTracker untimed = new MetricsTracker();
+        new MergeSort().sort(arr.clone(), untimed);
+        assertTrue(untimed.getPhases().isEmpty());
+    }
+
+    private void assertPhases(Function<MetricsTracker, Object> run, String... expected) {
+        MetricsTracker tracker = new MetricsTracker(true);
+        run.apply(tracker);
+        Map<String, PhaseTimer.Phase> phases = byName(tracker.getPhases());
+        for (String name : expected) {
+            assertTrue(phases.containsKey(name), "Missing phase " + name);
+            assertTrue(phases.get(name).getCount() > 0);
+        }
+        long total = phases.values().stream().mapToLong(PhaseTimer.Phase::getSelfNs).sum();
+        assertTrue(total <= tracker.getExecutionTimeNs());
+    }
+
+    private static Map<String, PhaseTimer.Phase> byName(List<PhaseTimer.Phase> phases) {
+        return phases.stream().collect(Collectors.toMap(PhaseTimer.Phase::getName, p -> p));
+    }
+}
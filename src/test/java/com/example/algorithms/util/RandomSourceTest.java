@@ -0,0 +1,109 @@
+package com.example.algorithms.util;
+
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.util.PartitionUtil;
+import сom.example.algorithms.util.RandomSource;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSourceTest {
+
+    @Test
+    void testPerThreadUsesThreadLocalRandom() {
+        RandomSource source = RandomSource.perThread();
+        assertFalse(source.isSeeded());
+        assertSame(source, RandomSource.perThread());
+        assertSame(ThreadLocalRandom.current(), source.generator());
+    }
+
+    @Test
+    void testSeededGeneratorsRepeat() {
+        RandomSource source = RandomSource.seeded(42);
+        assertTrue(source.isSeeded());
+        RandomGenerator first = source.generator();
+        RandomGenerator second = source.generator();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        assertNotEquals(RandomSource.seeded(42).generator().nextLong(), RandomSource.seeded(43).generator().nextLong());
+    }
+
+    @Test
+    void testForkPropagatesSeed() {
+        RandomSource perThread = RandomSource.perThread();
+        assertSame(perThread, perThread.fork(perThread.generator()));
+
+        RandomSource seeded = RandomSource.seeded(7);
+        RandomGenerator parent = seeded.generator();
+        RandomSource left = seeded.fork(parent);
+        RandomSource right = seeded.fork(parent);
+        assertTrue(left.isSeeded());
+        assertNotEquals(left.generator().nextLong(), right.generator().nextLong(), "siblings draw different seeds");
+
+        RandomGenerator replay = seeded.generator();
+        assertEquals(left.generator().nextLong(), seeded.fork(replay).generator().nextLong());
+    }
+
+    @Test
+    void testForkedTasksReproducible() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long first = pool.invoke(new SumTask(RandomSource.seeded(11), 6));
+            long second = pool.invoke(new SumTask(RandomSource.seeded(11), 6));
+            assertEquals(first, second);
+            assertNotEquals(first, pool.invoke(new SumTask(RandomSource.seeded(12), 6)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSeededShuffle() {
+        Integer[] a = new Integer[50];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i;
+        }
+        Integer[] b = a.clone();
+        PartitionUtil.shuffle(a, RandomSource.seeded(3).generator());
+        PartitionUtil.shuffle(b, RandomSource.seeded(3).generator());
+        assertArrayEquals(a, b);
+        Integer[] sorted = a.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(i, sorted[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> PartitionUtil.shuffle(null));
+    }
+
+    /**
+     * Binary fork tree that sums one draw per node; seeds reach the leaves through fork().
+     */
+    private static class SumTask extends RecursiveTask<Long> {
+        private final RandomSource source;
+        private final int depth;
+
+        SumTask(RandomSource source, int depth) {
+            this.source = source;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            RandomGenerator random = source.generator();
+            long sum = random.nextInt(1000);
+            if (depth == 0) {
+                return sum;
+            }
+            SumTask left = new SumTask(source.fork(random), depth - 1);
+            SumTask right = new SumTask(source.fork(random), depth - 1);
+            left.fork();
+            return sum + right.compute() + left.join();
+        }
+    }
+}
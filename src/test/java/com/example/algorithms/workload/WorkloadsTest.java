@@ -0,0 +1,127 @@
+package com.example.algorithms.workload;
+
+import org.junit.jupiter.api.Test;
+import сom.example.algorithms.closest.ClosestPair;
+import сom.example.algorithms.workload.KeyDistribution;
+import сom.example.algorithms.workload.PointDistribution;
+import сom.example.algorithms.workload.Workloads;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadsTest {
+
+    @Test
+    void testEveryDistributionIsReproducible() {
+        for (KeyDistribution distribution : KeyDistribution.values()) {
+            assertArrayEquals(distribution.generate(1000, 7), distribution.generate(1000, 7), distribution.name());
+            assertEquals(0, distribution.generate(0, 7).length);
+        }
+        for (PointDistribution distribution : PointDistribution.values()) {
+            ClosestPair.Point[] a = distribution.generate(500, 7);
+            ClosestPair.Point[] b = distribution.generate(500, 7);
+            for (int i = 0; i < a.length; i++) {
+                assertEquals(a[i].x, b[i].x, distribution.name());
+                assertEquals(a[i].y, b[i].y, distribution.name());
+            }
+        }
+        assertFalse(Arrays.equals(Workloads.uniform(100, 1), Workloads.uniform(100, 2)));
+    }
+
+    @Test
+    void testOrderedShapes() {
+        int[] sorted = Workloads.sorted(1000, 3);
+        int[] reverse = Workloads.reverse(1000, 3);
+        for (int i = 1; i < 1000; i++) {
+            assertTrue(sorted[i - 1] <= sorted[i]);
+            assertTrue(reverse[i - 1] >= reverse[i]);
+        }
+
+        int[] nearly = Workloads.nearlySorted(1000, 5, 3);
+        int displaced = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (nearly[i] != sorted[i]) displaced++;
+        }
+        assertTrue(displaced <= 10, "At most two positions per swap");
+
+        int[] saw = Workloads.sawtooth(1000, 4, 3);
+        int descents = 0;
+        for (int i = 1; i < 1000; i++) {
+            if (saw[i - 1] > saw[i]) descents++;
+        }
+        assertTrue(descents <= 3);
+
+        int[] pipe = Workloads.organPipe(1001, 3);
+        int peak = 0;
+        while (peak + 1 < pipe.length && pipe[peak] <= pipe[peak + 1]) peak++;
+        for (int i = peak + 1; i < pipe.length; i++) {
+            assertTrue(pipe[i - 1] >= pipe[i]);
+        }
+        int[] pipeSorted = pipe.clone();
+        Arrays.sort(pipeSorted);
+        assertArrayEquals(Workloads.sorted(1001, 3), pipeSorted);
+    }
+
+    @Test
+    void testSkewedAndFewUnique() {
+        int[] few = Workloads.fewUnique(10000, 10, 5);
+        assertTrue(Arrays.stream(few).allMatch(k -> k >= 0 && k < 10));
+
+        int[] zipf = Workloads.zipf(100000, 1000, 1.0, 5);
+        int[] counts = new int[1000];
+        for (int k : zipf) counts[k]++;
+        // P(0) / P(1) = 2 for exponent 1; H(1000) ~ 7.49, so P(0) ~ 13%
+        assertEquals(2.0, (double) counts[0] / counts[1], 0.15);
+        assertEquals(0.1336, counts[0] / 100000.0, 0.01);
+    }
+
+    @Test
+    void testQuicksortKillerIsPermutation() {
+        for (int n : new int[]{1, 2, 7, 8, 100, 1001}) {
+            int[] keys = Workloads.quicksortKiller(n);
+            int[] sorted = keys.clone();
+            Arrays.sort(sorted);
+            for (int i = 0; i < n; i++) {
+                assertEquals(i, sorted[i]);
+            }
+        }
+        assertArrayEquals(new int[]{0, 4, 2, 6, 1, 3, 5, 7}, Workloads.quicksortKiller(8));
+    }
+
+    @Test
+    void testPointShapes() {
+        ClosestPair.Point[] grid = Workloads.gridPoints(100, 9);
+        Set<String> cells = new HashSet<>();
+        for (ClosestPair.Point p : grid) {
+            assertEquals(Math.rint(p.x), p.x);
+            assertTrue(p.x < 10 && p.y < 10);
+            cells.add(p.x + "," + p.y);
+        }
+        assertEquals(100, cells.size());
+
+        ClosestPair.Point[] line = Workloads.collinearPoints(100, 9);
+        double dx = line[1].x - line[0].x;
+        double dy = line[1].y - line[0].y;
+        for (ClosestPair.Point p : line) {
+            assertEquals(0.0, dx * (p.y - line[0].y) - dy * (p.x - line[0].x), 1e-6);
+        }
+
+        Set<String> distinct = new HashSet<>();
+        for (ClosestPair.Point p : Workloads.duplicateHeavyPoints(1000, 20, 9)) {
+            distinct.add(p.x + "," + p.y);
+        }
+        assertTrue(distinct.size() <= 20);
+    }
+
+    @Test
+    void testRejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> Workloads.uniform(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> Workloads.fewUnique(10, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Workloads.zipf(10, 10, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Workloads.sawtooth(10, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Workloads.clusteredPoints(10, 0, 1, 0));
+    }
+}